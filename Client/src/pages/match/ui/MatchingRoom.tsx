@@ -92,7 +92,8 @@ export default function MatchingRoom() {
         brokerURL: `${BASE_URL}/match/ws`,
         webSocketFactory: () => new SockJS(`${BASE_URL}/match/ws`),
         onConnect: () => {
-            client.subscribe(`/topic/matching/${userId}`, (message) => {
+            // 내 세션으로만 전달되는 유저별 큐
+            client.subscribe('/user/queue/matching', (message) => {
                 console.log('🟢 메시지 수신 시도!'); // 가장 먼저 찍어야 하는 로그
                 console.log('message:', message);
                 console.log('message.body:', message.body);
@@ -130,7 +131,7 @@ export default function MatchingRoom() {
                     resetMatchData();
                 }
             });
-            client.subscribe('/topic/matching/users/new', (message) => {
+            client.subscribe('/topic/matching/users/delta', (message) => {
                 console.log('message.body:', message.body);
                 let parsedData;
                 try {
@@ -145,17 +146,16 @@ export default function MatchingRoom() {
                 console.log('parsedData:', parsedData);
                 // 이후 parsedData의 type에 따라 처리
 
-                if (parsedData.type === 'NEW_USER') {
-                    const newUser = parsedData.data;
+                if (parsedData.type === 'LOBBY_DELTA') {
+                    const { added, removed } = parsedData.data;
 
-                    // userList가 20명 미만일 때만 유저를 추가
-                    if (
-                        userList.length < 20 &&
-                        !userList.some((user) => user.userId === newUser.userId)
-                    ) {
-                        setUserList((prevList) => {
-                            const newList = [...prevList];
+                    // 퇴장한 유저를 먼저 제거한 뒤, userList가 20명 미만일 때만 입장한 유저를 추가
+                    setUserList((prevList) => {
+                        const newList = prevList.filter(
+                            (user) => !removed.includes(user.userId)
+                        );
 
+                        added.forEach((newUser: WaitingUserType) => {
                             if (
                                 newList.length < 20 &&
                                 !newList.some(
@@ -165,38 +165,9 @@ export default function MatchingRoom() {
                             ) {
                                 newList.push({ ...newUser }); // 깊은 복사 적용
                             }
-
-                            return newList;
                         });
-                    }
-                }
-            });
-
-            client.subscribe('/topic/matching/users/exit', (message) => {
-                console.log('message.body:', message.body);
-                let parsedData;
-                try {
-                    // message.body가 문자열이라면 파싱, 객체라면 그대로 사용
-                    parsedData =
-                        typeof message.body === 'string'
-                            ? JSON.parse(message.body)
-                            : message.body;
-                } catch (error) {
-                    console.error('Error parsing message.body:', error);
-                }
-                console.log('parsedData:', parsedData);
-                // 이후 parsedData의 type에 따라 처리
 
-                if (parsedData.type === 'EXIT_USER') {
-                    const exitedUser = parsedData.data;
-
-                    // userList에서 해당 유저를 제거
-                    setUserList((prevList) => {
-                        return [
-                            ...prevList.filter(
-                                (user) => user.userId !== exitedUser.userId
-                            ),
-                        ];
+                        return newList;
                     });
                 }
             });
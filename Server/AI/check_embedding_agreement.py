@@ -0,0 +1,53 @@
+# check_embedding_agreement.py
+# /embed(bi-encoder 임베딩 코사인)와 /calculate-similarity(cross-encoder) 점수의 순위 일치도 검사
+# - Match 서버는 임베딩 코사인으로만 쌍을 고르므로, 모델을 바꾸면 픽스처 문장 쌍으로 이 검사를 먼저 통과해야 합니다.
+# - 픽스처의 줄마다 적힌 문장 쌍(문장1|문장2)에 대해 두 점수의 Spearman 상관계수를 계산하고, 기준 미만이면 종료 코드 1을 반환합니다.
+# 실행: python check_embedding_agreement.py [--fixture 경로] [--min-spearman 0.7]
+import argparse
+import os
+import sys
+
+from scipy.stats import spearmanr
+
+from model import SentenceSimilarity, SentenceEmbedder
+
+DEFAULT_FIXTURE = os.path.join(os.path.dirname(os.path.abspath(__file__)), "fixtures", "concern-pairs.txt")
+
+
+def load_pairs(path):
+    pairs = []
+    with open(path, encoding="utf-8") as f:
+        for line in f:
+            line = line.strip()
+            if not line or line.startswith("#"):
+                continue
+            sentence1, sentence2 = line.split("|", 1)
+            pairs.append((sentence1, sentence2))
+    return pairs
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--fixture", default=DEFAULT_FIXTURE)
+    parser.add_argument("--min-spearman", type=float, default=0.7)
+    args = parser.parse_args()
+
+    pairs = load_pairs(args.fixture)
+    embedder = SentenceEmbedder()
+    embeddings1 = embedder.embed([sentence1 for sentence1, _ in pairs])
+    embeddings2 = embedder.embed([sentence2 for _, sentence2 in pairs])
+    cross_encoder = SentenceSimilarity()
+
+    # 임베딩은 L2 정규화되어 있으므로 내적이 코사인 유사도
+    cosine_scores = [sum(a * b for a, b in zip(e1, e2)) for e1, e2 in zip(embeddings1, embeddings2)]
+    cross_scores = [cross_encoder.compute_similarity(sentence1, sentence2) for sentence1, sentence2 in pairs]
+
+    rho = spearmanr(cosine_scores, cross_scores).correlation
+    print(f"문장 쌍 {len(pairs)}개, Spearman = {rho:.3f} (기준 {args.min_spearman})")
+    if rho < args.min_spearman:
+        print("임베딩 코사인 순위가 cross-encoder 점수와 맞지 않습니다.")
+        sys.exit(1)
+
+
+if __name__ == "__main__":
+    main()
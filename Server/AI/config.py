@@ -4,6 +4,8 @@ import os
 class Config:
     # 공통 설정
     MODEL_NAME = "snunlp/KR-ELECTRA-discriminator"
+    # /embed용 문장 임베딩(bi-encoder) 모델 (KorSTS/KorNLI 학습, 임베딩 코사인이 문장 유사도)
+    EMBEDDING_MODEL_NAME = "jhgan/ko-sroberta-multitask"
 
 class LocalConfig(Config):
     # 로컬 환경 설정
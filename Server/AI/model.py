@@ -1,6 +1,6 @@
 # model.py
 import torch
-from transformers import AutoTokenizer, AutoModelForSequenceClassification
+from transformers import AutoTokenizer, AutoModel, AutoModelForSequenceClassification
 from config import get_config
 
 Config = get_config()
@@ -37,4 +37,38 @@ class SentenceSimilarity:
             outputs = self.model(**inputs)
             prediction = outputs.logits.squeeze().item()
 
-        return prediction
\ No newline at end of file
+        return prediction
+
+
+class SentenceEmbedder:
+    """
+    문장 임베딩용 bi-encoder (문장 하나씩 인코딩하므로 임베딩 코사인이 문장 쌍 유사도로 학습된 모델)
+    SentenceSimilarity는 두 문장을 함께 입력받는 cross-encoder라 hidden state를 pooling해도 유사도 임베딩이 되지 않으므로
+    /embed는 이 모델로만 계산합니다.
+    Match 서버는 유저당 1회만 임베딩을 받아 두고, 쌍 유사도는 로컬에서 코사인으로 계산합니다.
+    """
+    def __init__(self):
+        self.device = torch.device('cuda' if torch.cuda.is_available() else 'cpu')
+        self.tokenizer = AutoTokenizer.from_pretrained(Config.EMBEDDING_MODEL_NAME)
+        self.model = AutoModel.from_pretrained(Config.EMBEDDING_MODEL_NAME).to(self.device)
+
+        self.model.eval()  # Set to evaluation mode
+
+    def embed(self, sentences):
+        """
+        문장별 임베딩(마지막 hidden state의 mean pooling, L2 정규화)을 반환합니다.
+        """
+        inputs = self.tokenizer(sentences,
+                                padding=True,
+                                truncation=True,
+                                max_length=128,
+                                return_tensors='pt')
+        inputs = {k: v.to(self.device) for k, v in inputs.items()}
+
+        with torch.no_grad():
+            hidden = self.model(**inputs).last_hidden_state.float()
+            mask = inputs['attention_mask'].unsqueeze(-1).float()
+            pooled = (hidden * mask).sum(dim=1) / mask.sum(dim=1).clamp(min=1e-9)
+            pooled = torch.nn.functional.normalize(pooled, dim=-1)
+
+        return pooled.tolist()
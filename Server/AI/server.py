@@ -2,7 +2,8 @@
 from fastapi import FastAPI, HTTPException
 from pydantic import BaseModel
 import time
-from model import SentenceSimilarity
+from typing import List
+from model import SentenceSimilarity, SentenceEmbedder
 import uvicorn
 from config import get_config
 
@@ -11,11 +12,15 @@ app = FastAPI()
 
 # 모델 초기화 (글로벌하게 한 번만 로드)
 model = SentenceSimilarity()
+embedder = SentenceEmbedder()
 
 class SentencePair(BaseModel):
     sentence1: str
     sentence2: str
 
+class SentenceBatch(BaseModel):
+    sentences: List[str]
+
 @app.post("/calculate-similarity")
 async def compute_similarity(sentences: SentencePair):
     try:
@@ -27,6 +32,17 @@ async def compute_similarity(sentences: SentencePair):
     except Exception as e:
         raise HTTPException(status_code=500, detail=str(e))
 
+@app.post("/embed")
+async def embed(batch: SentenceBatch):
+    try:
+        embeddings = embedder.embed(batch.sentences)
+
+        return {
+            "embeddings": embeddings
+        }
+    except Exception as e:
+        raise HTTPException(status_code=500, detail=str(e))
+
 if __name__ == "__main__":
     uvicorn.run("server:app", 
                 host=Config.HOST, 
@@ -1,17 +1,36 @@
 package com.example.match.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
-    @Override
-    public Executor getAsyncExecutor() {
+
+    // 가상 스레드 모드에서는 스레드 풀 대신 작업마다 가상 스레드를 사용
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 매칭 작업용 Executor
+     * - @Async 기본 Executor이자, 매칭 주기에서 MBTI 버킷별 strict 후보 탐색을 병렬 처리할 때 사용합니다.
+     */
+    @Bean(name = "matchTaskExecutor")
+    public AsyncTaskExecutor matchTaskExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("MatchAsync-");
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(17); // MBTI 큐(16) + 롱타임 큐(1)
         executor.setMaxPoolSize(34);
@@ -20,4 +39,52 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * MatchTimer 작업용 Executor
+     * - 시간이 된 지연 작업(매칭 알림 전송, 수락 타임아웃 폴링)을 실행합니다.
+     * - 큐가 가득 차면 타이머 스레드에서 직접 실행하여 작업을 버리지 않습니다.
+     */
+    @Bean(name = "matchTimerExecutor")
+    public AsyncTaskExecutor matchTimerExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("MatchTimer-");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10_000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("MatchTimer-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 매칭 주기의 relaxed 쌍 점수 계산 전용 Executor (ParallelPairScorer)
+     * - CPU 계산만 하므로 가상 스레드 모드와 관계없이 match.scoring.parallelism(0이면 CPU 코어 수) 크기의 ForkJoinPool을 사용합니다.
+     * - 작업 큐에 한도가 없어 코어 수에 비례해 블록이 많아져도 matchTaskExecutor(큐 100, 초과 시 거부)처럼 작업이 거부되지 않고,
+     *   @Async 작업과 스레드를 나눠 쓰지 않습니다.
+     */
+    @Bean(name = "pairScoringExecutor", destroyMethod = "shutdown")
+    public ForkJoinPool pairScoringExecutor(@Value("${match.scoring.parallelism:0}") int parallelism) {
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("MatchScoring-" + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                threadFactory, null, false);
+    }
+
+    private AsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return matchTaskExecutor();
+    }
+}
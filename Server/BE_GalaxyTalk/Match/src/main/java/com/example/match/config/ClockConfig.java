@@ -0,0 +1,19 @@
+package com.example.match.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    /**
+     * 매칭 타임아웃 등 마감 시각 계산에 사용하는 시계
+     * - 테스트에서는 시간을 직접 움직일 수 있는 시계로 대체합니다.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.match.config;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 필드 이름 없이 값만 정해진 순서로 쓰는 바이너리 직렬화기
+ * - 형식: [버전 1바이트][encoder가 쓴 필드들]. 필드 순서/종류는 값 클래스별 encoder, decoder가 정합니다. (RedisValueCodecs)
+ * - 실수는 8바이트, 문자열/목록은 (길이 + 1) varint 뒤에 내용을 쓰며 길이 0은 null입니다.
+ * - '{'로 시작하는 값은 JSON으로 저장된 값이므로 jsonFallback으로 읽습니다. (json 코덱에서 바꾼 뒤에도 기존 데이터를 읽기 위함)
+ * - 필드를 추가하면 VERSION을 올리고 decoder에서 이전 버전을 함께 읽도록 합니다.
+ */
+public final class CompactBinaryRedisSerializer<T> implements RedisSerializer<T> {
+    static final byte VERSION = 1;
+
+    private final Class<T> type;
+    private final Encoder<T> encoder;
+    private final Decoder<T> decoder;
+    private final RedisSerializer<T> jsonFallback;
+
+    public CompactBinaryRedisSerializer(Class<T> type, Encoder<T> encoder, Decoder<T> decoder,
+                                        RedisSerializer<T> jsonFallback) {
+        this.type = type;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.jsonFallback = jsonFallback;
+    }
+
+    @FunctionalInterface
+    public interface Encoder<T> {
+        void encode(T value, Output out);
+    }
+
+    @FunctionalInterface
+    public interface Decoder<T> {
+        T decode(Input in);
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        Output out = new Output(128);
+        out.writeByte(VERSION);
+        encoder.encode(value, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == '{') {
+            return jsonFallback.deserialize(bytes);
+        }
+        if (bytes[0] != VERSION) {
+            throw new SerializationException(type.getSimpleName() + " 바이너리 형식 버전 불일치: " + bytes[0]);
+        }
+        try {
+            Input in = new Input(bytes, 1);
+            T value = decoder.decode(in);
+            if (in.remaining() != 0) {
+                throw new SerializationException(type.getSimpleName() + " 바이너리 값 뒤에 남은 데이터: " + in.remaining());
+            }
+            return value;
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new SerializationException(type.getSimpleName() + " 바이너리 역직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+
+    /**
+     * 크기가 늘어나는 쓰기 버퍼
+     */
+    public static final class Output {
+        private byte[] buffer;
+        private int size;
+
+        Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        public void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeLong(long value) {
+            ensureCapacity(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        public void writeDouble(double value) {
+            writeLong(Double.doubleToLongBits(value));
+        }
+
+        public void writeBytes(byte[] value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(value.length + 1);
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, buffer, size, value.length);
+            size += value.length;
+        }
+
+        public void writeString(String value) {
+            writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public void writeStringList(List<String> values) {
+            if (values == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(values.size() + 1);
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * 읽기 위치를 가진 바이트 배열 읽기 도구 (범위를 벗어나면 IndexOutOfBoundsException)
+     */
+    public static final class Input {
+        private final byte[] bytes;
+        private int position;
+
+        Input(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        public int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        public int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("varint가 너무 깁니다.");
+        }
+
+        public long readLong() {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        public double readDouble() {
+            return Double.longBitsToDouble(readLong());
+        }
+
+        public String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            int end = checkedEnd(length);
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position = end;
+            return value;
+        }
+
+        public List<String> readStringList() {
+            int count = readVarInt() - 1;
+            if (count < 0) {
+                return null;
+            }
+            List<String> values = new ArrayList<>(Math.min(count, remaining()));
+            for (int i = 0; i < count; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        int remaining() {
+            return bytes.length - position;
+        }
+
+        private int checkedEnd(int length) {
+            if (length > remaining()) {
+                throw new IndexOutOfBoundsException("길이 " + length + "가 남은 데이터 " + remaining() + "보다 깁니다.");
+            }
+            return position + length;
+        }
+    }
+}
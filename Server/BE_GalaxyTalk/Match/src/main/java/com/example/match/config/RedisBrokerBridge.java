@@ -0,0 +1,125 @@
+package com.example.match.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub으로 /topic, /user 메시지를 모든 Match 인스턴스에 전달 (match.websocket.broker: redis)
+ * - 브로커 채널 인터셉터로 동작합니다. 이 인스턴스에서 보낸 /topic 메시지(convertAndSend)와 /user 메시지(convertAndSendToUser)는
+ *   로컬에서 그대로 처리하고, 같은 내용을 Redis 채널(match:ws:broadcast)에도 발행합니다.
+ * - 다른 인스턴스가 발행한 메시지를 받으면 로컬 브로커 채널로 보내 이 인스턴스에 연결된 구독자에게 전달합니다.
+ *   /user 메시지는 각 인스턴스가 자기 세션 목록(SimpUserRegistry)에서 유저를 찾아, 유저가 연결된 인스턴스에서만 전달됩니다.
+ *   자기가 발행한 메시지는 무시하고, Redis에서 받은 메시지는 다시 발행하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "match.websocket.broker", havingValue = "redis")
+public class RedisBrokerBridge implements ChannelInterceptor, MessageListener {
+    public static final String CHANNEL = "match:ws:broadcast";
+    // Redis에서 받아 로컬 브로커로 보내는 메시지 표시 (값: 발행한 인스턴스 ID)
+    private static final String ORIGIN_HEADER = "matchBridgeOrigin";
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String USER_PREFIX = "/user/";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MessageChannel brokerChannel;
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+    public RedisBrokerBridge(RedisConnectionFactory connectionFactory,
+                             RedisTemplate<String, Object> redisTemplate,
+                             @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.redisTemplate = redisTemplate;
+        this.brokerChannel = brokerChannel;
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null
+                || !(destination.startsWith(TOPIC_PREFIX) || destination.startsWith(USER_PREFIX))
+                || accessor.getHeader(ORIGIN_HEADER) != null) {
+            return message;
+        }
+        try {
+            publish(destination, accessor.getContentType(), message.getPayload());
+        } catch (Exception e) {
+            // Redis 장애 시에도 이 인스턴스의 구독자에게는 전달
+            log.error("WebSocket 메시지 Redis 발행 실패: {}", destination, e);
+        }
+        return message;
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message redisMessage, byte[] pattern) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> envelope = (Map<String, String>) redisTemplate.getValueSerializer()
+                .deserialize(redisMessage.getBody());
+        if (envelope == null || instanceId.equals(envelope.get("origin"))) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.get("destination"));
+        if (envelope.get("contentType") != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.get("contentType")));
+        }
+        accessor.setHeader(ORIGIN_HEADER, envelope.get("origin"));
+        byte[] payload = envelope.get("payload").getBytes(StandardCharsets.UTF_8);
+        brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    private void publish(String destination, MimeType contentType, Object payload) {
+        String body;
+        if (payload instanceof byte[] bytes) {
+            body = new String(bytes, StandardCharsets.UTF_8);
+        } else if (payload instanceof String text) {
+            body = text;
+        } else {
+            log.warn("직렬화되지 않은 WebSocket 메시지는 다른 인스턴스로 전달하지 않습니다: {}", destination);
+            return;
+        }
+        Map<String, String> envelope = new HashMap<>();
+        envelope.put("origin", instanceId);
+        envelope.put("destination", destination);
+        envelope.put("contentType", contentType != null ? contentType.toString() : null);
+        envelope.put("payload", body);
+        redisTemplate.convertAndSend(CHANNEL, envelope);
+    }
+}
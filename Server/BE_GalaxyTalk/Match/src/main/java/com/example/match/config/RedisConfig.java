@@ -34,4 +34,12 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * match: 값 직렬화기 (json | binary)
+     */
+    @Bean
+    public RedisValueCodecs redisValueCodecs(@Value("${match.redis.value-codec.match:json}") String matchCodec) {
+        return RedisValueCodecs.of(matchCodec);
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.match.config;
+
+import com.example.match.domain.MatchResultStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 값 직렬화기 (match:{matchId}는 match.redis.value-codec.match로 선택)
+ * - json: 값 클래스별 Jackson 직렬화 (TypedJsonRedisSerializer). @class 타입 정보 없이 저장하고 대상 클래스로 바로 읽습니다.
+ * - binary: 필드 이름 없이 값만 저장하는 바이너리 형식 (CompactBinaryRedisSerializer)
+ * - 두 방식 모두 이전 형식(@class 포함 JSON)과 json 형식 값을 읽을 수 있어, 코덱을 바꿔도 기존 데이터를 그대로 읽습니다.
+ * - user:{userId}는 필드 단위로 읽고 쓰는 해시로 저장하므로, UserMatchStatus는 이전 형식 변환용 JSON 직렬화기만 둡니다.
+ */
+public record RedisValueCodecs(RedisSerializer<MatchResultStatus> matchResult) {
+    public static final String JSON = "json";
+    public static final String BINARY = "binary";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public static RedisValueCodecs of(String matchCodec) {
+        return new RedisValueCodecs(matchResultSerializer(matchCodec));
+    }
+
+    /**
+     * 이전 버전의 user: 문자열 값(@class 포함 JSON)을 읽는 직렬화기
+     */
+    public static RedisSerializer<UserMatchStatus> legacyUserStatusSerializer() {
+        return new TypedJsonRedisSerializer<>(OBJECT_MAPPER, UserMatchStatus.class);
+    }
+
+    public static RedisSerializer<MatchResultStatus> matchResultSerializer(String codec) {
+        RedisSerializer<MatchResultStatus> json = new TypedJsonRedisSerializer<>(OBJECT_MAPPER, MatchResultStatus.class);
+        return switch (codec) {
+            case JSON -> json;
+            case BINARY -> new CompactBinaryRedisSerializer<>(MatchResultStatus.class,
+                    RedisValueCodecs::encodeMatchResult, RedisValueCodecs::decodeMatchResult, json);
+            default -> throw new IllegalArgumentException("알 수 없는 Redis 값 코덱: " + codec);
+        };
+    }
+
+    // MatchResultStatus 바이너리 필드 순서 (VERSION 1)
+    private static void encodeMatchResult(MatchResultStatus match, CompactBinaryRedisSerializer.Output out) {
+        out.writeStringList(match.getUserIds());
+        out.writeDouble(match.getSimilarity());
+    }
+
+    private static MatchResultStatus decodeMatchResult(CompactBinaryRedisSerializer.Input in) {
+        MatchResultStatus match = new MatchResultStatus();
+        match.setUserIds(in.readStringList());
+        match.setSimilarity(in.readDouble());
+        return match;
+    }
+}
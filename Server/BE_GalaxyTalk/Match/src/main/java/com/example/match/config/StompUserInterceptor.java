@@ -0,0 +1,36 @@
+package com.example.match.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * 클라이언트 STOMP 메시지 인터셉터
+ * - CONNECT: 연결 요청(Gateway JWT 인증을 거친 X-User-ID 헤더)에서 사용자를 정하지 못한 세션은 거부합니다.
+ *   클라이언트가 보내는 STOMP 헤더로는 사용자를 정하지 않습니다. (다른 유저로 위장해 알림을 받지 못하도록)
+ * - SUBSCRIBE: /queue 목적지를 직접 구독하지 못하게 막습니다. 유저별 메시지는 /user/queue/... 로만 구독할 수 있으며,
+ *   이 경우 본인 세션의 큐로만 연결됩니다.
+ */
+public class StompUserInterceptor implements ChannelInterceptor {
+    private static final String QUEUE_PREFIX = "/queue/";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (StompCommand.CONNECT.equals(accessor.getCommand()) && accessor.getUser() == null) {
+            throw new MessageDeliveryException(message, "인증되지 않은 WebSocket 연결입니다.");
+        }
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+                && accessor.getDestination() != null && accessor.getDestination().startsWith(QUEUE_PREFIX)) {
+            throw new MessageDeliveryException(message, "다른 유저의 큐는 구독할 수 없습니다: " + accessor.getDestination());
+        }
+        return message;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.match.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 값 클래스 하나만 다루는 Jackson 직렬화기
+ * - @class 타입 정보를 쓰지 않고, 읽을 때도 타입 정보 해석 없이 대상 클래스로 바로 읽습니다.
+ * - 이전 GenericJackson2JsonRedisSerializer로 저장된 값({"@class":...)은 그 직렬화기로 읽습니다.
+ *   Lua 스크립트가 다시 저장해 @class가 맨 앞이 아닌 값은 알 수 없는 속성을 무시하고 그대로 읽습니다.
+ */
+public class TypedJsonRedisSerializer<T> implements RedisSerializer<T> {
+    private static final byte[] LEGACY_PREFIX = "{\"@class\"".getBytes(StandardCharsets.UTF_8);
+    private static final GenericJackson2JsonRedisSerializer LEGACY_SERIALIZER = new GenericJackson2JsonRedisSerializer();
+
+    private final Class<T> type;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public TypedJsonRedisSerializer(ObjectMapper objectMapper, Class<T> type) {
+        this.type = type;
+        this.writer = objectMapper.writerFor(type);
+        this.reader = objectMapper.readerFor(type);
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException(type.getSimpleName() + " JSON 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (startsWith(bytes, LEGACY_PREFIX)) {
+            Object legacy = LEGACY_SERIALIZER.deserialize(bytes);
+            if (!type.isInstance(legacy)) {
+                throw new SerializationException(type.getSimpleName() + " 타입이 아닌 값입니다.");
+            }
+            return type.cast(legacy);
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new SerializationException(type.getSimpleName() + " JSON 역직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.match.config;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * WebSocket 연결 요청의 X-User-ID 헤더로 세션 사용자를 정합니다.
+ * - /match/ws/** 요청은 Gateway의 match-websocket 라우트로만 들어오며, Gateway JWT 필터가 AccessToken 쿠키를 검증한 뒤
+ *   토큰의 유저 ID로 이 헤더를 덮어씁니다. (REST API의 X-User-ID와 같은 신뢰 경계)
+ * - 헤더가 없으면 사용자 없는 세션이 되고, StompUserInterceptor가 CONNECT를 거부합니다.
+ */
+public class UserHandshakeHandler extends DefaultHandshakeHandler {
+    public static final String USER_ID_HEADER = "X-User-ID";
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+                                      Map<String, Object> attributes) {
+        String userId = request.getHeaders().getFirst(USER_ID_HEADER);
+        if (userId == null || userId.isBlank()) {
+            return super.determineUser(request, wsHandler, attributes);
+        }
+        return new UserPrincipal(userId);
+    }
+}
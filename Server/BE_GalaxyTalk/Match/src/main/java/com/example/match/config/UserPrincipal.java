@@ -0,0 +1,14 @@
+package com.example.match.config;
+
+import java.security.Principal;
+
+/**
+ * WebSocket 세션의 사용자 (이름: 연결 요청의 X-User-ID 값)
+ * - SimpUserRegistry가 이 이름으로 세션을 찾아 convertAndSendToUser 메시지를 해당 유저 세션에만 전달합니다.
+ */
+public record UserPrincipal(String userId) implements Principal {
+    @Override
+    public String getName() {
+        return userId;
+    }
+}
@@ -1,26 +1,135 @@
 package com.example.match.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final ObjectProvider<RedisBrokerBridge> redisBrokerBridge;
+    private final WebSocketMetrics webSocketMetrics;
+
+    // 브로커 방식 (simple: 인스턴스 내 메모리 브로커, redis: 메모리 브로커 + Redis pub/sub 공유, relay: 외부 STOMP 브로커 중계)
+    @Value("${match.websocket.broker:simple}")
+    private String brokerMode;
+    @Value("${match.websocket.relay.host:localhost}")
+    private String relayHost;
+    @Value("${match.websocket.relay.port:61613}")
+    private int relayPort;
+    @Value("${match.websocket.relay.login:guest}")
+    private String relayLogin;
+    @Value("${match.websocket.relay.passcode:guest}")
+    private String relayPasscode;
+    // 메모리 브로커가 목적지별 구독자 조회 결과를 기억하는 개수 (유저 큐 목적지가 세션마다 하나씩 생기므로 동시 접속 수 이상 권장)
+    @Value("${match.websocket.destination-cache-limit:20000}")
+    private int destinationCacheLimit;
+
+    // 세션 전송 한도: 한 메시지 전송이 send-time-limit-millis를 넘거나 밀린 메시지가 send-buffer-size-limit-bytes를 넘으면 연결 종료
+    @Value("${match.websocket.transport.send-time-limit-millis:5000}")
+    private int sendTimeLimitMillis;
+    @Value("${match.websocket.transport.send-buffer-size-limit-bytes:262144}")
+    private int sendBufferSizeLimitBytes;
+    @Value("${match.websocket.transport.message-size-limit-bytes:65536}")
+    private int messageSizeLimitBytes;
+    @Value("${match.websocket.sockjs.heartbeat-millis:25000}")
+    private long sockJsHeartbeatMillis;
+    @Value("${match.websocket.sockjs.disconnect-delay-millis:5000}")
+    private long sockJsDisconnectDelayMillis;
+
+    // 클라이언트 메시지 수신(inbound) / 세션 전송(outbound) 채널 Executor
+    @Value("${match.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${match.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+    @Value("${match.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+    @Value("${match.websocket.outbound.core-pool-size:16}")
+    private int outboundCorePoolSize;
+    @Value("${match.websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${match.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 구독 경로 설정
-        config.enableSimpleBroker("/topic");
+        // 구독 경로 설정 (/topic: 대기실 등 공개 메시지, /queue: 유저별 메시지 - 클라이언트는 /user/queue/... 로 구독)
+        if ("relay".equals(brokerMode)) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // 다른 인스턴스에 연결된 유저에게 보내는 메시지와 인스턴스별 접속 유저 목록을 브로커로 공유
+                    .setUserDestinationBroadcast("/topic/unresolved-user")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+            config.setCacheLimit(destinationCacheLimit);
+        }
+        // outbound 채널이 여러 스레드여도 세션별 메시지 순서 유지
+        config.setPreservePublishOrder(true);
         // 메시지 전송 경로 설정
         config.setApplicationDestinationPrefixes("/app");
+        // redis 모드: 이 인스턴스에서 보낸 /topic, /user 메시지를 다른 인스턴스에도 전달
+        redisBrokerBridge.ifAvailable(bridge -> config.configureBrokerChannel().interceptors(bridge));
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        ThreadPoolTaskExecutor executor = channelExecutor("inbound", "WsInbound-");
+        registration.taskExecutor(executor)
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+        registration.interceptors(new StompUserInterceptor());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        ThreadPoolTaskExecutor executor = channelExecutor("outbound", "WsOutbound-");
+        registration.taskExecutor(executor)
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimitBytes)
+                .setMessageSizeLimit(messageSizeLimitBytes);
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws") // WebSocket 연결 엔드포인트 설정
+                .setHandshakeHandler(new UserHandshakeHandler()) // Gateway가 JWT로 인증해 추가한 X-User-ID로 세션 사용자 지정
                 .setAllowedOriginPatterns("*") // CORS 설정
-                .withSockJS(); // SockJS 지원 활성화
+                .withSockJS() // SockJS 지원 활성화
+                .setHeartbeatTime(sockJsHeartbeatMillis)
+                .setDisconnectDelay(sockJsDisconnectDelayMillis);
+    }
+
+    /**
+     * 채널 Executor (크기는 ChannelRegistration에서 지정, 초기화는 Spring이 빈으로 등록하며 수행)
+     * 큐가 가득 차면 메시지를 버리고 match.websocket.channel.rejected로 셉니다.
+     */
+    private ThreadPoolTaskExecutor channelExecutor(String channel, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        webSocketMetrics.bindChannelExecutor(channel, executor);
+        return executor;
     }
 }
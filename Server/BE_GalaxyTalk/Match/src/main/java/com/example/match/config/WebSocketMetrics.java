@@ -0,0 +1,75 @@
+package com.example.match.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * WebSocket 채널/세션 지표
+ * - match.websocket.channel.queue, match.websocket.channel.active (channel: inbound/outbound): 채널 Executor의 대기 메시지 수, 처리 중 스레드 수
+ * - match.websocket.channel.rejected: 채널 Executor 큐가 가득 차 버려진 메시지 수
+ * - match.websocket.slow.consumer.disconnects: 전송 시간/버퍼 한도를 넘어 서버가 끊은 세션 수
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketMetrics {
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 채널 Executor의 큐 길이/처리 중 스레드 수 지표를 등록하고, 큐가 가득 찼을 때 거부 수를 세도록 설정합니다.
+     */
+    public void bindChannelExecutor(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("match.websocket.channel.queue", executor, WebSocketMetrics::queueSize)
+                .tag("channel", channel)
+                .description("WebSocket 채널 Executor 대기 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("match.websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .description("WebSocket 채널 Executor 처리 중 스레드 수")
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("match.websocket.channel.rejected")
+                .tag("channel", channel)
+                .description("WebSocket 채널 Executor 큐가 가득 차 버려진 메시지 수")
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("WebSocket " + channel + " 채널 큐가 가득 찼습니다.");
+        });
+    }
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        event.getApplicationContext().getBeanProvider(SubProtocolWebSocketHandler.class)
+                .ifAvailable(this::bindSessionStats);
+    }
+
+    /**
+     * 전송 한도 초과로 끊은 세션 수 지표를 등록합니다. (SubProtocolWebSocketHandler가 세션을 끊을 때 세는 값)
+     */
+    public void bindSessionStats(SubProtocolWebSocketHandler handler) {
+        FunctionCounter.builder("match.websocket.slow.consumer.disconnects", handler,
+                        h -> h.getStats().getLimitExceededSessions())
+                .description("전송이 밀려 서버가 연결을 끊은 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    private static double queueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+            return pool.getQueue().size();
+        } catch (IllegalStateException e) {
+            // 아직 초기화되지 않은 Executor
+            return 0;
+        }
+    }
+}
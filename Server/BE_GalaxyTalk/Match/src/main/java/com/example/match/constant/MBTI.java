@@ -4,5 +4,28 @@ public enum MBTI {
     INTJ, INTP, ENTJ, ENTP,
     INFJ, INFP, ENFJ, ENFP,
     ISTJ, ISFJ, ESTJ, ESFJ,
-    ISTP, ISFP, ESTP, ESFP
+    ISTP, ISFP, ESTP, ESFP;
+
+    /**
+     * 대소문자 구분 없이 MBTI 문자열을 enum으로 변환합니다. 형식이 올바르지 않으면 null을 반환합니다.
+     */
+    public static MBTI fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return MBTI.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * MBTI 문자열의 ordinal을 반환합니다. 형식이 올바르지 않거나 null이면 -1을 반환합니다.
+     * (매칭 점수 계산용으로 유저당 한 번만 해석해 둘 때 사용)
+     */
+    public static int ordinalOf(String value) {
+        MBTI mbti = fromString(value);
+        return mbti == null ? -1 : mbti.ordinal();
+    }
 }
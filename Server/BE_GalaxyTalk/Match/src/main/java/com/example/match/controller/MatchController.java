@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -28,7 +29,7 @@ public class MatchController {
      * 3. 매칭 서비스 호출
      */
     @PostMapping
-    public ResponseEntity<ApiResponseDto> startMatching(
+    public Mono<ResponseEntity<ApiResponseDto>> startMatching(
             @RequestHeader("X-User-ID") String userId,
             @Valid @RequestBody MatchRequestDto request) {
         log.info("Start matching request");
@@ -40,28 +41,27 @@ public class MatchController {
 
         // UserMatchStatus 객체 생성 및 매칭 시작
         UserMatchStatus status = convertToStatus(request, userId);
-        matchService.startMatching(status);
-
-        return ResponseEntity.ok(new ApiResponseDto(
-                true,
-                "매칭이 시작되었습니다.",
-                null
-        ));
+        return matchService.startMatching(status)
+                .thenReturn(ResponseEntity.ok(new ApiResponseDto(
+                        true,
+                        "매칭이 시작되었습니다.",
+                        null
+                )));
     }
 
     /**
      * 매칭 취소 요청
      */
     @DeleteMapping
-    public ResponseEntity<ApiResponseDto> cancelMatching(
+    public Mono<ResponseEntity<ApiResponseDto>> cancelMatching(
             @RequestHeader("X-User-ID") String userId) {
         log.info("Cancel matching request");
-        matchService.cancelMatching(userId);
-        return ResponseEntity.ok(new ApiResponseDto(
-                true,
-                "매칭이 취소되었습니다.",
-                null
-        ));
+        return matchService.cancelMatching(userId)
+                .thenReturn(ResponseEntity.ok(new ApiResponseDto(
+                        true,
+                        "매칭이 취소되었습니다.",
+                        null
+                )));
     }
 
     /**
@@ -104,16 +104,15 @@ public class MatchController {
      * 매칭 수락/거절 응답 처리
      */
     @PostMapping("/approve")
-    public ResponseEntity<ApiResponseDto> handleMatchResponse(
+    public Mono<ResponseEntity<ApiResponseDto>> handleMatchResponse(
             @RequestHeader("X-User-ID") String userId,
             @Valid @RequestBody MatchApproveRequestDto response) {
         log.info("handleMatchResponse");
-        matchService.processMatchApproval(userId, response);
-
-        return ResponseEntity.ok(new ApiResponseDto(
-                true,
-                response.isAccepted() ? "매칭을 수락했습니다." : "매칭을 거절했습니다.",
-                null));
+        return matchService.processMatchApproval(userId, response)
+                .thenReturn(ResponseEntity.ok(new ApiResponseDto(
+                        true,
+                        response.isAccepted() ? "매칭을 수락했습니다." : "매칭을 거절했습니다.",
+                        null)));
     }
 
 
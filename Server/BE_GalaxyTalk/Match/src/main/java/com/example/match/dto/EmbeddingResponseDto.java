@@ -0,0 +1,8 @@
+package com.example.match.dto;
+
+import lombok.Data;
+
+@Data
+public class EmbeddingResponseDto {
+    private float[][] embeddings;
+}
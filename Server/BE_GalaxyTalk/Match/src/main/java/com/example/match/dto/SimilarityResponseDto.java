@@ -1,10 +0,0 @@
-package com.example.match.dto;
-
-import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.Data;
-
-@Data
-public class SimilarityResponseDto {
-    @JsonProperty("similarity_score")
-    private double similarityScore;
-}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.example.match.service;
+
+import com.example.match.domain.UserMatchStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 고민 임베딩 저장소
+ * - 매칭 시작 시 유저당 1회만 AI 서버에서 임베딩을 받아 Redis(embedding:{userId})와 로컬 캐시에 저장합니다.
+ * - 매칭 주기에서는 저장된 임베딩으로 코사인 유사도를 로컬 계산하므로 쌍 루프에서 네트워크 호출이 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcernEmbeddingStore {
+    private final RedisService redisService;
+    private final ExternalApiService externalApiService;
+
+    // userId -> (임베딩 계산에 사용한 고민, 정규화된 임베딩)
+    private final Map<String, CachedEmbedding> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 매칭 시작 유저의 고민 임베딩을 계산하여 저장합니다.
+     * 실패하더라도 매칭 주기에서 다시 요청하므로 예외를 전파하지 않습니다.
+     */
+    public void register(UserMatchStatus user) {
+        if (user.getConcern() == null) {
+            return;
+        }
+        try {
+            float[] embedding = VectorMath.normalize(
+                    externalApiService.getConcernEmbeddings(List.of(user.getConcern()))[0]);
+            redisService.saveConcernEmbedding(user.getUserId(), embedding);
+            cache.put(user.getUserId(), new CachedEmbedding(user.getConcern(), embedding));
+        } catch (Exception e) {
+            log.warn("유저 {}의 고민 임베딩 저장 실패: {}", user.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 유저들의 임베딩을 조회합니다.
+     * 로컬 캐시 → Redis(MGET) → AI 서버(누락분 일괄 요청) 순으로 채우며,
+     * 끝내 구하지 못한 유저의 자리는 null입니다.
+     */
+    public float[][] getEmbeddings(List<UserMatchStatus> users) {
+        float[][] result = new float[users.size()][];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            UserMatchStatus user = users.get(i);
+            CachedEmbedding cached = cache.get(user.getUserId());
+            if (cached != null && Objects.equals(cached.concern(), user.getConcern())) {
+                result[i] = cached.embedding();
+            } else {
+                missing.add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // Redis에 저장된 임베딩 일괄 조회
+        List<float[]> stored = redisService.getConcernEmbeddings(
+                missing.stream().map(i -> users.get(i).getUserId()).toList());
+        List<Integer> stillMissing = new ArrayList<>();
+        for (int k = 0; k < missing.size(); k++) {
+            int i = missing.get(k);
+            float[] embedding = k < stored.size() ? stored.get(k) : null;
+            if (embedding != null) {
+                result[i] = embedding;
+                cache.put(users.get(i).getUserId(), new CachedEmbedding(users.get(i).getConcern(), embedding));
+            } else if (users.get(i).getConcern() != null) {
+                stillMissing.add(i);
+            }
+        }
+        if (stillMissing.isEmpty()) {
+            return result;
+        }
+
+        // 그래도 없는 유저는 AI 서버에 한 번에 요청
+        try {
+            float[][] fetched = externalApiService.getConcernEmbeddings(
+                    stillMissing.stream().map(i -> users.get(i).getConcern()).toList());
+            for (int k = 0; k < stillMissing.size(); k++) {
+                int i = stillMissing.get(k);
+                UserMatchStatus user = users.get(i);
+                float[] embedding = VectorMath.normalize(fetched[k]);
+                redisService.saveConcernEmbedding(user.getUserId(), embedding);
+                cache.put(user.getUserId(), new CachedEmbedding(user.getConcern(), embedding));
+                result[i] = embedding;
+            }
+        } catch (Exception e) {
+            log.warn("고민 임베딩 일괄 조회 실패: {}명, {}", stillMissing.size(), e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 대기 풀에 없는 유저의 로컬 캐시를 정리합니다.
+     */
+    public void retainOnly(Collection<String> userIds) {
+        cache.keySet().retainAll(userIds instanceof Set<?> ? userIds : new HashSet<>(userIds));
+    }
+
+    private record CachedEmbedding(String concern, float[] embedding) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.match.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 인스턴스 ID를 가상 노드로 배치한 일관성 해시 링
+ * - 키는 해시값 이상인 첫 가상 노드의 인스턴스가 담당합니다. (링 끝을 넘으면 처음으로 돌아감)
+ * - 인스턴스가 추가/제거되어도 해당 인스턴스 주변 구간의 키만 담당이 바뀝니다.
+ * - 같은 인스턴스 목록이면 어느 인스턴스에서 만들어도 같은 링이 됩니다.
+ */
+final class ConsistentHashRing {
+    private final long[] points;
+    private final String[] owners;
+
+    ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty()) {
+            throw new IllegalArgumentException("링에 배치할 인스턴스가 없습니다.");
+        }
+        List<Point> ring = new ArrayList<>(nodeIds.size() * virtualNodes);
+        for (String nodeId : nodeIds) {
+            for (int v = 0; v < virtualNodes; v++) {
+                ring.add(new Point(hash(nodeId + "#" + v), nodeId));
+            }
+        }
+        // 해시가 같은 가상 노드는 인스턴스 ID 순으로 정렬해 모든 인스턴스에서 같은 순서가 되도록 함
+        ring.sort(Comparator.comparingLong(Point::hash).thenComparing(Point::owner));
+        this.points = new long[ring.size()];
+        this.owners = new String[ring.size()];
+        for (int i = 0; i < ring.size(); i++) {
+            points[i] = ring.get(i).hash();
+            owners[i] = ring.get(i).owner();
+        }
+    }
+
+    /**
+     * 키 해시를 담당하는 인스턴스 ID를 반환합니다.
+     */
+    String ownerOf(long keyHash) {
+        int index = Arrays.binarySearch(points, keyHash);
+        if (index < 0) {
+            index = -index - 1;
+        } else {
+            // 같은 해시의 가상 노드가 여러 개면 가장 앞의 노드
+            while (index > 0 && points[index - 1] == keyHash) {
+                index--;
+            }
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    /**
+     * 문자열 64비트 해시 (FNV-1a + murmur3 fmix64)
+     * String.hashCode와 달리 JVM/인스턴스와 무관하게 고정이며, 비슷한 ID도 링 전체에 고르게 퍼집니다.
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Point(long hash, String owner) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.match.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Eureka에 등록된 Match 인스턴스 목록
+ * - 인스턴스 ID는 Eureka 등록 정보의 instanceId를 사용하고, 등록 정보가 없으면(로컬 실행 등) 임의 ID를 만듭니다.
+ */
+@Slf4j
+@Component
+public class EurekaMatchInstanceRegistry implements MatchInstanceRegistry {
+    private final DiscoveryClient discoveryClient;
+    private final String serviceId;
+    private final String localInstanceId;
+
+    public EurekaMatchInstanceRegistry(DiscoveryClient discoveryClient,
+                                       ObjectProvider<Registration> registration,
+                                       @Value("${spring.application.name:match-service}") String serviceId) {
+        this.discoveryClient = discoveryClient;
+        this.serviceId = serviceId;
+        Registration local = registration.getIfAvailable();
+        this.localInstanceId = (local != null && local.getInstanceId() != null)
+                ? local.getInstanceId()
+                : serviceId + ":" + UUID.randomUUID();
+        log.info("매칭 인스턴스 ID: {}", localInstanceId);
+    }
+
+    @Override
+    public String localInstanceId() {
+        return localInstanceId;
+    }
+
+    @Override
+    public Set<String> registeredInstanceIds() {
+        Set<String> instanceIds = new HashSet<>();
+        try {
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                if (instance.getInstanceId() != null) {
+                    instanceIds.add(instance.getInstanceId());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Eureka 인스턴스 목록 조회 실패: {}", e.getMessage());
+        }
+        return instanceIds;
+    }
+}
@@ -1,16 +1,29 @@
 package com.example.match.service;
 
 import com.example.match.domain.UserMatchStatus;
+import com.example.match.dto.EmbeddingResponseDto;
 import com.example.match.dto.MatchResultRequestDto;
-import com.example.match.dto.SimilarityResponseDto;
 import com.example.match.dto.UserStatusRequestDto;
+import com.example.match.exception.BusinessException;
+import com.example.match.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * 외부 서버(AI, Auth, Chat) 호출
+ * - 요청 처리 경로의 단건 호출(채팅방 생성, 유저 상태 변경, 유저 정보 조회)은 Mono를 반환하며 스레드를 막지 않습니다.
+ *   호출 측에서 여러 호출을 동시에 조합하고, 구독할 때 요청이 전송됩니다.
+ * - 매칭 주기에서 결과가 바로 필요한 배치 호출(임베딩)은 결과를 기다려 반환합니다.
+ *   AI 서버가 응답하지 않아도 호출 스레드(스케줄러, 매칭 시작)가 멈추지 않도록 ai.service.timeout-millis까지만 기다립니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -19,24 +32,31 @@ public class ExternalApiService {
     private final WebClient authServiceClient;
     private final WebClient chatServiceClient;
 
+    // AI 서버 배치 호출(임베딩) 응답 대기 한도
+    @Value("${ai.service.timeout-millis:5000}")
+    private long timeoutMillis = 5000;
+
     /**
-     * AI 서버에 두 유저 간의 유사도 점수 계산 요청
+     * AI 서버에 고민 문장들의 임베딩 요청
+     * - 반환 배열의 i번째 벡터는 concerns.get(i)의 임베딩입니다.
      */
-    public double calculateSimilarity(UserMatchStatus user1, UserMatchStatus user2) {
-        log.info("calculating similarity 실행");
-        Map<String, Object> request = Map.of(
-                "sentence1", user1.getConcern(),
-                "sentence2", user2.getConcern()
-        );
+    public float[][] getConcernEmbeddings(List<String> concerns) {
+        log.info("고민 임베딩 요청: {}건", concerns.size());
+        Map<String, Object> request = Map.of("sentences", concerns);
 
-        return aiServiceClientWithoutLoadBalancing.post()
-                .uri("/calculate-similarity")
+        float[][] embeddings = aiServiceClientWithoutLoadBalancing.post()
+                .uri("/embed")
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(SimilarityResponseDto.class)
-                .map(SimilarityResponseDto::getSimilarityScore)
-                .defaultIfEmpty(0.0)
+                .bodyToMono(EmbeddingResponseDto.class)
+                .map(EmbeddingResponseDto::getEmbeddings)
+                .timeout(Duration.ofMillis(timeoutMillis))
                 .block();
+
+        if (embeddings == null || embeddings.length != concerns.size()) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "임베딩 응답이 올바르지 않습니다.");
+        }
+        return embeddings;
     }
 
     /**
@@ -44,50 +64,50 @@ public class ExternalApiService {
      * - Match 서버에서 유저 정보, 고민 내용, 유사도 점수를 Chat 서버로 전달하여
      * 채팅방 생성 후 sessionId, token, chatRoomId 반환
      */
-    public Map<String, Object> createChatRoom(UserMatchStatus user1, UserMatchStatus user2, double similarityScore) {
-        log.info("채팅방 생성 요청");
+    @SuppressWarnings("unchecked")
+    public Mono<Map<String, Object>> createChatRoom(UserMatchStatus user1, UserMatchStatus user2,
+                                                    double similarityScore) {
         MatchResultRequestDto matchResultRequestDto = new MatchResultRequestDto();
         matchResultRequestDto.setConcern1(user1.getConcern());
         matchResultRequestDto.setConcern2(user2.getConcern());
         matchResultRequestDto.setUserId1(user1.getUserId());
         matchResultRequestDto.setUserId2(user2.getUserId());
         matchResultRequestDto.setSimilarityScore(similarityScore);
-        Map<String, Object> response = chatServiceClient.post()
+        return chatServiceClient.post()
                 .uri("/api/chat/match")
                 .bodyValue(matchResultRequestDto)
                 .retrieve()
                 .bodyToMono(Map.class)
-                .block();
-        return (Map<String, Object>) response.get("data");
+                .mapNotNull(response -> (Map<String, Object>) response.get("data"))
+                .doOnSubscribe(subscription -> log.info("채팅방 생성 요청"));
     }
 
     /**
      * Auth 서버에 유저 상태 변경 요청 (idle 또는 chatting)
      */
-    public void setUserStatus(String userId, String status) {
-        log.info("유저 상태 변경 요청: {} -> {}", userId, status);
+    public Mono<Void> setUserStatus(String userId, String status) {
         UserStatusRequestDto request = new UserStatusRequestDto();
         request.setUserInteractionState(status);
-        authServiceClient.post()
+        return authServiceClient.post()
                 .uri("/api/oauth/status")
                 .header("X-User-ID", userId)
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(Void.class)
-                .block();
+                .doOnSubscribe(subscription -> log.info("유저 상태 변경 요청: {} -> {}", userId, status));
     }
 
     /**
      * Auth 서비스에서 유저 정보 조회
      */
-    public Map<String, Object> getUserInfo(String userId) {
-        log.info("유저 정보 조회 요청: {}", userId);
-        Map<String, Object> response = authServiceClient.get()
+    @SuppressWarnings("unchecked")
+    public Mono<Map<String, Object>> getUserInfo(String userId) {
+        return authServiceClient.get()
                 .uri("/api/oauth")
                 .header("X-User-ID", userId)
                 .retrieve()
                 .bodyToMono(Map.class)
-                .block();
-        return (Map<String, Object>) response.get("data");
+                .mapNotNull(response -> (Map<String, Object>) response.get("data"))
+                .doOnSubscribe(subscription -> log.info("유저 정보 조회 요청: {}", userId));
     }
 }
@@ -0,0 +1,32 @@
+package com.example.match.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 점수가 높은 쌍부터 차례로 선택하는 탐욕 전략 (기존 정렬 후 선택 방식)
+ * - 최적해 총점의 1/2 이상을 보장하며, 가장 빠릅니다.
+ */
+@Component
+@ConditionalOnProperty(name = "match.pairing.strategy", havingValue = "greedy")
+public class GreedyPairingStrategy implements PairingStrategy {
+
+    @Override
+    public int[] select(int userCount, ScoredPairs candidates, boolean[] excluded) {
+        boolean[] taken = Arrays.copyOf(excluded, userCount);
+        int[] selected = new int[userCount / 2];
+        int count = 0;
+        for (int k : candidates.indicesByScoreDesc()) {
+            int i = candidates.first(k);
+            int j = candidates.second(k);
+            if (!taken[i] && !taken[j]) {
+                taken[i] = true;
+                taken[j] = true;
+                selected[count++] = k;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+}
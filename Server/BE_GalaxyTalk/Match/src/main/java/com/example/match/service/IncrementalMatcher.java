@@ -0,0 +1,291 @@
+package com.example.match.service;
+
+import com.example.match.constant.MBTI;
+import com.example.match.domain.UserMatchStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 신규 유저 도착 시 즉시 매칭 (이벤트 기반 증분 매칭)
+ * - 대기 유저를 메모리 풀로 유지하고, 유저마다 점수 상위 topK명의 후보 목록을 갖습니다.
+ * - 신규 유저는 풀의 기존 유저와만 점수를 계산하여(O(n)) 양쪽 후보 목록을 갱신합니다.
+ * - 서로가 서로의 최선 후보이고 점수가 minScore 이상인 쌍만 바로 매칭 제안합니다.
+ *   그 외 유저는 매칭 주기(전체 최적화)가 처리하며, 매칭 주기는 풀을 Redis 대기 큐와 맞추는 안전망 역할도 합니다.
+ * - 제안된 쌍은 풀에서 빠지고, 이들을 최선 후보로 두던 유저만 다시 검사합니다.
+ */
+@Slf4j
+@Component
+public class IncrementalMatcher {
+    private final boolean enabled;
+    private final int topK;
+    private final double minScore;
+    private final Map<String, Entry> pool = new HashMap<>();
+
+    public IncrementalMatcher(@Value("${match.incremental.enabled:true}") boolean enabled,
+                              @Value("${match.incremental.top-k:20}") int topK,
+                              @Value("${match.incremental.min-score:0.6}") double minScore) {
+        this.enabled = enabled;
+        this.topK = topK;
+        this.minScore = minScore;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 유저를 풀에 추가하고, 바로 매칭할 수 있는 쌍을 반환합니다.
+     * 반환된 쌍의 유저는 풀에서 제외됩니다.
+     *
+     * @param embedding 정규화된 고민 임베딩
+     * @param rejected 유저가 거절한 상대 ID 집합
+     */
+    public synchronized List<Proposal> add(UserMatchStatus user, float[] embedding, Set<String> rejected) {
+        Entry entry = insert(user, embedding, rejected);
+        return drainMutualBest(List.of(entry));
+    }
+
+    /**
+     * 매칭 취소 등으로 대기를 끝낸 유저를 풀에서 제외하고, 그 결과 새로 매칭할 수 있게 된 쌍을 반환합니다.
+     */
+    public synchronized List<Proposal> remove(Collection<String> userIds) {
+        List<Entry> removed = new ArrayList<>();
+        for (String userId : userIds) {
+            Entry entry = pool.remove(userId);
+            if (entry != null) {
+                removed.add(entry);
+            }
+        }
+        return removed.isEmpty() ? List.of() : drainMutualBest(pruneCandidates(removed));
+    }
+
+    /**
+     * 매칭 주기 결과로 풀을 Redis 대기 큐와 맞춥니다.
+     * - since 이전에 들어온 유저 중 waitingUsers에 없는 유저(매칭/취소/다른 인스턴스 담당)는 제외
+     * - waitingUsers 중 풀에 없는 유저(매칭 실패 후 대기 큐 복귀, 재시작 등)는 추가
+     *
+     * @param since 매칭 주기가 대기 큐를 읽은 시각 (이후 들어온 유저는 유지)
+     * @return 새로 매칭할 수 있게 된 쌍
+     */
+    public synchronized List<Proposal> sync(List<UserMatchStatus> waitingUsers, float[][] embeddings,
+                                            Map<String, Set<String>> rejectedByUserId, long since) {
+        Set<String> waitingIds = new HashSet<>();
+        for (UserMatchStatus user : waitingUsers) {
+            waitingIds.add(user.getUserId());
+        }
+        List<Entry> removed = new ArrayList<>();
+        pool.values().removeIf(entry -> {
+            if (entry.addedAt < since && !waitingIds.contains(entry.user.getUserId())) {
+                removed.add(entry);
+                return true;
+            }
+            return false;
+        });
+        List<Entry> changed = removed.isEmpty() ? new ArrayList<>() : pruneCandidates(removed);
+        for (int i = 0; i < waitingUsers.size(); i++) {
+            UserMatchStatus user = waitingUsers.get(i);
+            if (embeddings[i] != null && !pool.containsKey(user.getUserId())) {
+                changed.add(insert(user, embeddings[i],
+                        rejectedByUserId.getOrDefault(user.getUserId(), Set.of())));
+            }
+        }
+        if (!removed.isEmpty() || !changed.isEmpty()) {
+            log.info("증분 매칭 풀 동기화: 제외 {}명, 풀 {}명", removed.size(), pool.size());
+        }
+        return drainMutualBest(changed);
+    }
+
+    public synchronized int size() {
+        return pool.size();
+    }
+
+    private Entry insert(UserMatchStatus user, float[] embedding, Set<String> rejected) {
+        Entry previous = pool.remove(user.getUserId());
+        if (previous != null) {
+            pruneCandidates(List.of(previous));
+        }
+        Entry entry = new Entry(user, embedding, rejected, topK);
+        for (Entry other : pool.values()) {
+            double score = score(entry, other);
+            if (!Double.isNaN(score)) {
+                entry.offer(other, score);
+                other.offer(entry, score);
+            }
+        }
+        pool.put(user.getUserId(), entry);
+        return entry;
+    }
+
+    /**
+     * 두 유저의 composite score. 거절 이력이 있으면 NaN
+     */
+    private double score(Entry a, Entry b) {
+        if ((!a.rejected.isEmpty() && a.rejected.contains(b.user.getUserId()))
+                || (!b.rejected.isEmpty() && b.rejected.contains(a.user.getUserId()))) {
+            return Double.NaN;
+        }
+        double concernSim = VectorMath.cosineSimilarity(a.embedding, b.embedding);
+        return MatchScoring.compositeScore(a.mbti, a.preferredMbti, b.mbti, b.preferredMbti, concernSim);
+    }
+
+    /**
+     * 풀에서 빠진 유저를 후보 목록에서 지우고, 후보 목록이 바뀐 유저를 반환합니다.
+     */
+    private List<Entry> pruneCandidates(List<Entry> removed) {
+        Set<Entry> removedSet = new HashSet<>(removed);
+        List<Entry> changed = new ArrayList<>();
+        for (Entry entry : pool.values()) {
+            if (entry.removeAll(removedSet)) {
+                changed.add(entry);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 검사 대상 유저부터 서로 최선 후보인 쌍을 찾아 풀에서 빼고, 그 여파로 최선 후보가 바뀐 유저를 이어서 검사합니다.
+     */
+    private List<Proposal> drainMutualBest(Collection<Entry> toCheck) {
+        List<Proposal> proposals = new ArrayList<>();
+        Deque<Entry> queue = new ArrayDeque<>(toCheck);
+        while (!queue.isEmpty()) {
+            Entry entry = queue.poll();
+            if (pool.get(entry.user.getUserId()) != entry) {
+                continue;
+            }
+            Entry best = best(entry);
+            if (best == null || best(best) != entry || entry.bestScore() < minScore) {
+                continue;
+            }
+            pool.remove(entry.user.getUserId());
+            pool.remove(best.user.getUserId());
+            proposals.add(new Proposal(entry.user, best.user, entry.bestScore()));
+            queue.addAll(pruneCandidates(List.of(entry, best)));
+        }
+        return proposals;
+    }
+
+    /**
+     * 유저의 최선 후보
+     * 후보 목록에서 밀려난 유저보다 목록의 최고 점수가 낮아지면(상위 후보가 풀에서 빠진 경우) 풀 전체를 다시 검사합니다.
+     */
+    private Entry best(Entry entry) {
+        if (entry.needsRescan()) {
+            entry.clear();
+            for (Entry other : pool.values()) {
+                if (other != entry) {
+                    double score = score(entry, other);
+                    if (!Double.isNaN(score)) {
+                        entry.offer(other, score);
+                    }
+                }
+            }
+        }
+        return entry.size == 0 ? null : entry.candidates[0];
+    }
+
+    /**
+     * 즉시 매칭할 쌍
+     */
+    public record Proposal(UserMatchStatus user1, UserMatchStatus user2, double score) {
+    }
+
+    /**
+     * 풀의 유저와 점수 내림차순 상위 후보 목록
+     */
+    private static final class Entry {
+        private final UserMatchStatus user;
+        // 풀에 들어올 때 한 번만 해석한 MBTI / 선호 MBTI ordinal (-1이면 없음)
+        private final int mbti;
+        private final int preferredMbti;
+        private final float[] embedding;
+        private final Set<String> rejected;
+        private final long addedAt = System.currentTimeMillis();
+        private final Entry[] candidates;
+        private final double[] scores;
+        private int size;
+        // 목록이 가득 차 밀려난 후보 중 최고 점수 (목록 밖에 이보다 높은 후보는 없음)
+        private double droppedMax = Double.NEGATIVE_INFINITY;
+
+        private Entry(UserMatchStatus user, float[] embedding, Set<String> rejected, int capacity) {
+            this.user = user;
+            this.mbti = MBTI.ordinalOf(user.getMbti());
+            this.preferredMbti = MBTI.ordinalOf(user.getPreferredMbti());
+            this.embedding = embedding;
+            this.rejected = rejected;
+            this.candidates = new Entry[capacity];
+            this.scores = new double[capacity];
+        }
+
+        private double bestScore() {
+            return scores[0];
+        }
+
+        private boolean needsRescan() {
+            return droppedMax != Double.NEGATIVE_INFINITY && (size == 0 || scores[0] < droppedMax);
+        }
+
+        private void clear() {
+            Arrays.fill(candidates, null);
+            size = 0;
+            droppedMax = Double.NEGATIVE_INFINITY;
+        }
+
+        /**
+         * 점수 순서를 유지하며 후보를 추가합니다. 목록이 가득 차면 가장 낮은 후보를 밀어냅니다.
+         */
+        private void offer(Entry other, double score) {
+            if (size == candidates.length) {
+                droppedMax = Math.max(droppedMax, Math.min(score, scores[size - 1]));
+                if (score <= scores[size - 1]) {
+                    return;
+                }
+                size--;
+            }
+            int position = size;
+            while (position > 0 && scores[position - 1] < score) {
+                candidates[position] = candidates[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            candidates[position] = other;
+            scores[position] = score;
+            size++;
+        }
+
+        /**
+         * 제외된 유저를 후보 목록에서 지웁니다. 최선 후보가 바뀌었으면 true
+         */
+        private boolean removeAll(Set<Entry> removed) {
+            if (size == 0) {
+                return false;
+            }
+            Entry previousBest = candidates[0];
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removed.contains(candidates[i])) {
+                    candidates[kept] = candidates[i];
+                    scores[kept] = scores[i];
+                    kept++;
+                }
+            }
+            for (int i = kept; i < size; i++) {
+                candidates[i] = null;
+            }
+            size = kept;
+            return size == 0 || candidates[0] != previousBest;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.match.service;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 고민 임베딩 기반 매칭 후보 생성용 근사 최근접 이웃(IVF, inverted file) 인덱스
+ * - 매칭 주기마다 대기 유저의 정규화된 임베딩으로 생성하며, 유저별로 코사인 유사도 상위 k명의 후보를 제안합니다.
+ * - 약 √n개의 중심(구면 k-means)으로 유저를 군집화하고, 각 유저는 가장 가까운 nprobe개 군집의 유저만 비교합니다.
+ *   모든 쌍(O(n²)) 대신 유저당 O(√n · nprobe) 비교로 줄어듭니다.
+ * - 군집 목록은 CSR(offsets/members) int 배열로 표현하여 쿼리 중 객체 할당이 없습니다.
+ */
+public class IvfCandidateIndex {
+    private final float[][] vectors;
+    private final int size;
+    private final int probes;
+    private final int[] nearestClusters;  // [i * probes + p] 유저 i에 가까운 군집 (가까운 순)
+    private final int[] clusterOffsets;   // 군집 c의 유저는 members[clusterOffsets[c], clusterOffsets[c + 1])
+    private final int[] clusterMembers;
+
+    /**
+     * @param vectors 정규화된 임베딩 (null 불가)
+     * @param probes 유저마다 탐색할 군집 수 (많을수록 재현율↑, 비용↑)
+     * @param iterations k-means 반복 횟수
+     * @param seed 초기 중심 선택 시드
+     */
+    public IvfCandidateIndex(float[][] vectors, int probes, int iterations, long seed) {
+        this.vectors = vectors;
+        this.size = vectors.length;
+        int clusters = Math.max(1, (int) Math.sqrt(size));
+        this.probes = Math.min(probes, clusters);
+        this.nearestClusters = new int[size * this.probes];
+
+        float[][] centroids = initialCentroids(clusters, seed);
+        int[] assignment = new int[size];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            assignNearest(centroids, assignment);
+            updateCentroids(centroids, assignment);
+        }
+        assignNearest(centroids, assignment);
+
+        // CSR 형태의 군집 목록 구성 (주 군집 기준)
+        this.clusterOffsets = new int[clusters + 1];
+        for (int i = 0; i < size; i++) {
+            clusterOffsets[assignment[i] + 1]++;
+        }
+        for (int c = 0; c < clusters; c++) {
+            clusterOffsets[c + 1] += clusterOffsets[c];
+        }
+        this.clusterMembers = new int[size];
+        int[] cursor = Arrays.copyOf(clusterOffsets, clusters);
+        for (int i = 0; i < size; i++) {
+            clusterMembers[cursor[assignment[i]]++] = i;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 모든 유저의 상위 k 후보를 계산합니다.
+     * 반환 배열의 [i * k, i * k + k) 구간이 유저 i의 후보(유사도 내림차순)이며, 부족한 자리는 -1입니다.
+     */
+    public int[] topK(int k) {
+        int[] neighbors = new int[size * k];
+        Arrays.fill(neighbors, -1);
+        double[] scores = new double[k];
+        for (int i = 0; i < size; i++) {
+            int found = 0;
+            for (int p = 0; p < probes; p++) {
+                int c = nearestClusters[i * probes + p];
+                for (int m = clusterOffsets[c]; m < clusterOffsets[c + 1]; m++) {
+                    int j = clusterMembers[m];
+                    if (j != i) {
+                        found = offer(j, VectorMath.dot(vectors[i], vectors[j]), k, neighbors, i * k, scores, found);
+                    }
+                }
+            }
+        }
+        return neighbors;
+    }
+
+    /**
+     * 상위 k 후보 목록(유사도 내림차순, 삽입 정렬)에 j를 추가합니다.
+     */
+    private static int offer(int j, double score, int k, int[] out, int offset, double[] scores, int found) {
+        if (found == k && score <= scores[k - 1]) {
+            return found;
+        }
+        int pos = found < k ? found : k - 1;
+        while (pos > 0 && scores[pos - 1] < score) {
+            scores[pos] = scores[pos - 1];
+            out[offset + pos] = out[offset + pos - 1];
+            pos--;
+        }
+        scores[pos] = score;
+        out[offset + pos] = j;
+        return found < k ? found + 1 : k;
+    }
+
+    /**
+     * 유저마다 가장 가까운 probes개 군집을 nearestClusters에 기록하고, 가장 가까운 군집을 assignment에 기록합니다.
+     */
+    private void assignNearest(float[][] centroids, int[] assignment) {
+        double[] best = new double[probes];
+        for (int i = 0; i < size; i++) {
+            int offset = i * probes;
+            int found = 0;
+            for (int c = 0; c < centroids.length; c++) {
+                found = offer(c, VectorMath.dot(vectors[i], centroids[c]), probes, nearestClusters, offset, best, found);
+            }
+            assignment[i] = nearestClusters[offset];
+        }
+    }
+
+    /**
+     * 구면 k-means: 군집 평균을 정규화하여 새 중심으로 사용합니다. 빈 군집은 기존 중심을 유지합니다.
+     */
+    private void updateCentroids(float[][] centroids, int[] assignment) {
+        int dimension = centroids[0].length;
+        float[][] sums = new float[centroids.length][dimension];
+        int[] counts = new int[centroids.length];
+        for (int i = 0; i < size; i++) {
+            float[] sum = sums[assignment[i]];
+            float[] vector = vectors[i];
+            for (int d = 0; d < dimension; d++) {
+                sum[d] += vector[d];
+            }
+            counts[assignment[i]]++;
+        }
+        for (int c = 0; c < centroids.length; c++) {
+            if (counts[c] > 0) {
+                centroids[c] = VectorMath.normalize(sums[c]);
+            }
+        }
+    }
+
+    private float[][] initialCentroids(int clusters, long seed) {
+        // 유저 인덱스를 무작위로 섞어 앞쪽 clusters개를 초기 중심으로 사용
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        float[][] centroids = new float[clusters][];
+        for (int c = 0; c < clusters; c++) {
+            centroids[c] = vectors[order[c]].clone();
+        }
+        return centroids;
+    }
+}
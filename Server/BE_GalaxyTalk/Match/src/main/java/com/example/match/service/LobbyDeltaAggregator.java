@@ -0,0 +1,102 @@
+package com.example.match.service;
+
+import com.example.match.dto.MessageResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 대기실(로비) 입장/퇴장 알림 묶음 전송
+ * - 입장/퇴장 이벤트를 windowMillis 동안 모았다가 LOBBY_DELTA 메시지 1개(added: 입장 유저 목록, removed: 퇴장 userId 목록)로 보냅니다.
+ *   매칭 성사(퇴장 2건), 매칭 실패 후 복귀(입장 2건)처럼 몰려 오는 이벤트가 구독자마다 프레임 1개로 합쳐집니다.
+ * - 같은 구간 안에서 입장 후 퇴장한 유저는 서로 상쇄되어 전송하지 않습니다.
+ *   퇴장 후 다시 입장한 유저는 두 목록에 모두 들어가며, 클라이언트는 removed를 먼저 적용한 뒤 added를 적용합니다.
+ * - 구간 종료는 MatchTimer로 예약하며, windowMillis가 0 이하이거나 타이머에 예약할 수 없으면 바로 보냅니다.
+ */
+@Slf4j
+@Component
+public class LobbyDeltaAggregator {
+    public static final String LOBBY_DELTA_TOPIC = "/topic/matching/users/delta";
+    private static final String FLUSH_KEY = "lobby-delta-flush";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MatchTimer matchTimer;
+    private final long windowMillis;
+
+    // 이번 구간에 입장한 유저 (userId -> 유저 정보), 퇴장한 userId
+    private Map<String, Map<String, Object>> added = new LinkedHashMap<>();
+    private Set<String> removed = new LinkedHashSet<>();
+    private boolean flushScheduled;
+
+    public LobbyDeltaAggregator(SimpMessagingTemplate messagingTemplate,
+                                MatchTimer matchTimer,
+                                @Value("${match.lobby.delta-window-millis:200}") long windowMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.matchTimer = matchTimer;
+        this.windowMillis = windowMillis;
+    }
+
+    public void userJoined(String userId, Map<String, Object> userData) {
+        synchronized (this) {
+            added.put(userId, userData);
+        }
+        scheduleFlush();
+    }
+
+    public void userExited(String userId) {
+        synchronized (this) {
+            // 이번 구간에 입장한 유저면 입장 알림과 함께 상쇄
+            if (added.remove(userId) == null) {
+                removed.add(userId);
+            }
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * 모아 둔 변경 사항을 LOBBY_DELTA 메시지로 보냅니다. 보낼 내용이 없으면 아무것도 하지 않습니다.
+     */
+    public void flush() {
+        Map<String, Object> data;
+        synchronized (this) {
+            flushScheduled = false;
+            if (added.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+            data = Map.of(
+                    "added", new ArrayList<>(added.values()),
+                    "removed", new ArrayList<>(removed));
+            added = new LinkedHashMap<>();
+            removed = new LinkedHashSet<>();
+        }
+        messagingTemplate.convertAndSend(LOBBY_DELTA_TOPIC,
+                new MessageResponseDto("LOBBY_DELTA", "대기실 유저 변경 사항입니다.", data));
+    }
+
+    private void scheduleFlush() {
+        if (windowMillis <= 0) {
+            flush();
+            return;
+        }
+        synchronized (this) {
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        try {
+            matchTimer.schedule(FLUSH_KEY, windowMillis, this::flush);
+        } catch (RejectedExecutionException | IllegalStateException e) {
+            log.warn("대기실 변경 알림 예약 실패, 바로 전송합니다: {}", e.getMessage());
+            flush();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.match.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 매칭 후보 쌍 생성 단계
+ * - 대기 인원이 annThreshold 미만이면 모든 쌍을 검사하도록 null을 반환합니다.
+ * - 그 이상이면 고민 임베딩의 근사 최근접 이웃(IVF) 인덱스로 유저별 상위 topK 후보만 제안하고,
+ *   strict/relaxed MBTI 점수 계산은 이 후보 쌍에 대해서만 수행합니다.
+ */
+@Slf4j
+@Component
+public class MatchCandidateGenerator {
+    private static final long INDEX_SEED = 42L;
+
+    private final int annThreshold;
+    private final int topK;
+    private final int probes;
+    private final int iterations;
+
+    public MatchCandidateGenerator(@Value("${match.candidate.ann-threshold:1000}") int annThreshold,
+                                   @Value("${match.candidate.top-k:20}") int topK,
+                                   @Value("${match.candidate.probes:3}") int probes,
+                                   @Value("${match.candidate.kmeans-iterations:3}") int iterations) {
+        this.annThreshold = annThreshold;
+        this.topK = topK;
+        this.probes = probes;
+        this.iterations = iterations;
+    }
+
+    /**
+     * 후보 쌍을 (i, j) 순서로 평탄화한 배열을 반환합니다. (i < j, 중복 없음)
+     * 모든 쌍을 검사해야 하는 경우 null을 반환합니다.
+     *
+     * @param embeddings 대기 유저의 정규화된 고민 임베딩 (null 원소 불가)
+     */
+    public int[] generate(float[][] embeddings) {
+        int n = embeddings.length;
+        if (n < annThreshold) {
+            return null;
+        }
+        long start = System.nanoTime();
+        int[] neighbors = new IvfCandidateIndex(embeddings, probes, iterations, INDEX_SEED).topK(topK);
+
+        // (min, max) 쌍을 long으로 인코딩하여 정렬 후 중복 제거
+        long[] keys = new long[neighbors.length];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            for (int p = i * topK; p < i * topK + topK; p++) {
+                int j = neighbors[p];
+                if (j < 0) {
+                    break;
+                }
+                keys[count++] = i < j ? (long) i * n + j : (long) j * n + i;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] pairs = new int[count * 2];
+        int written = 0;
+        for (int p = 0; p < count; p++) {
+            if (p > 0 && keys[p] == keys[p - 1]) {
+                continue;
+            }
+            pairs[written++] = (int) (keys[p] / n);
+            pairs[written++] = (int) (keys[p] % n);
+        }
+        log.info("ANN 후보 생성: 유저 {}명, 후보 쌍 {}개, {}ms",
+                n, written / 2, (System.nanoTime() - start) / 1_000_000);
+        return Arrays.copyOf(pairs, written);
+    }
+}
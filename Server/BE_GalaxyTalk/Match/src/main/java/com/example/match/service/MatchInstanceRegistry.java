@@ -0,0 +1,19 @@
+package com.example.match.service;
+
+import java.util.Set;
+
+/**
+ * 매칭 샤드를 나눠 가질 Match 인스턴스 목록 제공
+ */
+public interface MatchInstanceRegistry {
+    /**
+     * 현재 인스턴스의 ID (인스턴스마다 고유해야 함)
+     */
+    String localInstanceId();
+
+    /**
+     * 서비스 레지스트리에 등록된 Match 인스턴스 ID 목록
+     * 레지스트리를 조회할 수 없으면 빈 집합을 반환합니다.
+     */
+    Set<String> registeredInstanceIds();
+}
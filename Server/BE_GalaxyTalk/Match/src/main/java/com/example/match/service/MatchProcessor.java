@@ -4,13 +4,18 @@ import com.example.match.domain.MatchResultStatus;
 import com.example.match.domain.MatchStatus;
 import com.example.match.domain.UserMatchStatus;
 import com.example.match.dto.MatchApproveRequestDto;
+import com.example.match.exception.BusinessException;
+import com.example.match.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Clock;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
 
 @Component
 @RequiredArgsConstructor
@@ -20,6 +25,13 @@ public class MatchProcessor {
     private final RedisService redisService;
     private final WebSocketService webSocketService;
     private final ExternalApiService externalApiService;
+    private final Clock clock;
+    private final MatchTimer matchTimer;
+
+    @Value("${match.timeout.acceptance-millis:60000}")
+    private long acceptanceTimeoutMillis = 60_000;
+    @Value("${match.timeout.notification-delay-millis:3000}")
+    private long notificationDelayMillis = 3_000;
 
     /**
      * 매칭 생성 및 후속 처리
@@ -37,11 +49,7 @@ public class MatchProcessor {
         similarity = (double) Math.round(similarity * 10000) / 100.0;
         updateMatchStatus(user1, user2, matchId, similarity);
 
-        // 2. 대기 큐에서 해당 유저 제거
-        redisService.removeUserFromWaitingQueue(user1.getUserId());
-        redisService.removeUserFromWaitingQueue(user2.getUserId());
-
-        // 2-1. 매칭 대상 대기 큐 나감 전체 알림
+        // 2. 매칭 대상 대기 큐 나감 전체 알림 (대기 큐 제거는 claimPair에서 선점과 함께 처리됨)
         webSocketService.broadcastUserExit(user1.getUserId());
         webSocketService.broadcastUserExit(user2.getUserId());
 
@@ -70,8 +78,8 @@ public class MatchProcessor {
         matchResult.setUserIds(List.of(user1.getUserId(), user2.getUserId()));
         matchResult.setSimilarity(similarity);
 
-        redisService.saveUserStatus(user1);
-        redisService.saveUserStatus(user2);
+        redisService.markMatched(user1.getUserId(), matchId);
+        redisService.markMatched(user2.getUserId(), matchId);
         redisService.saveMatchInfo(matchId, matchResult);
     }
 
@@ -101,22 +109,41 @@ public class MatchProcessor {
         user2Data.put("energy", user1.getEnergy());
         user2Data.put("similarity", similarity);
 
-        CompletableFuture.delayedExecutor(3, TimeUnit.SECONDS)
-                .execute(() -> webSocketService.notifyMatch(user1Data, user2Data));
+        try {
+            matchTimer.schedule(notificationKey(matchId), notificationDelayMillis,
+                    () -> webSocketService.notifyMatch(user1Data, user2Data));
+        } catch (RejectedExecutionException e) {
+            log.warn("매칭 {} 알림 예약 실패, 바로 전송", matchId);
+            webSocketService.notifyMatch(user1Data, user2Data);
+        }
+    }
+
+    private String notificationKey(String matchId) {
+        return "match-notification:" + matchId;
     }
 
     /**
-     * 1분 후에 두 유저가 모두 수락했는지 확인하고, 수락하지 않은 경우 매칭을 취소하는 로직을 예약합니다.
+     * 1분 후에 두 유저가 모두 수락했는지 확인하도록 Redis 타임아웃 큐에 등록합니다.
+     * 마감 시각이 되면 MatchTimeoutPoller가 handleAcceptanceTimeout을 호출합니다.
      *
      * @param matchId 매칭 ID
      */
     private void scheduleMatchCancellation(String matchId) {
-        CompletableFuture.delayedExecutor(60, TimeUnit.SECONDS).execute(() -> {
-            if (!checkBothAccepted(matchId)) {
-                log.info("매칭 {} 1분 내 수락 미응답으로 취소 처리", matchId);
-                cancelMatch(matchId);
-            }
-        });
+        redisService.scheduleMatchTimeout(matchId, clock.millis() + acceptanceTimeoutMillis);
+    }
+
+    /**
+     * 수락 마감 시각이 지난 매칭 처리
+     * 두 유저가 모두 수락하지 않았으면 매칭을 취소합니다.
+     * 같은 매칭에 여러 번 호출되어도(재처리) 결과가 같습니다.
+     *
+     * @param matchId 매칭 ID
+     */
+    public void handleAcceptanceTimeout(String matchId) {
+        if (!checkBothAccepted(matchId)) {
+            log.info("매칭 {} 1분 내 수락 미응답으로 취소 처리", matchId);
+            cancelMatch(matchId);
+        }
     }
 
     /**
@@ -139,10 +166,22 @@ public class MatchProcessor {
             }
         }
         redisService.deleteMatchInfo(matchId);
+        cancelPendingTimeouts(matchId);
+    }
+
+    /**
+     * 끝난 매칭의 대기 중인 알림과 수락 타임아웃을 제거합니다.
+     *
+     * @param matchId 매칭 ID
+     */
+    private void cancelPendingTimeouts(String matchId) {
+        matchTimer.cancel(notificationKey(matchId));
+        redisService.cancelMatchTimeout(matchId);
     }
 
     /**
      * 매칭된 유저의 상태를 초기화하여 WAITING 상태로 되돌리고, 대기 큐에 재등록합니다.
+     * 그 사이 유저 상태가 삭제되었으면(매칭 재시작 등) 대기 큐에 다시 넣지 않습니다.
      *
      * @param user 매칭 취소 대상 유저
      */
@@ -150,9 +189,10 @@ public class MatchProcessor {
         user.setStatus(MatchStatus.WAITING);
         user.setMatchId(null);
         user.setAccepted(false);
-        redisService.saveUserStatus(user);
-        redisService.addUserToWaitingQueue(user);
-        webSocketService.broadcastNewUser(user);
+        if (redisService.resetToWaiting(user.getUserId())) {
+            redisService.addUserToWaitingQueue(user);
+            webSocketService.broadcastNewUser(user);
+        }
     }
 
     /**
@@ -162,12 +202,11 @@ public class MatchProcessor {
      * @param user 응답한 유저
      * @param response 매칭 수락/거절 요청 DTO
      */
-    public void processMatchResponse(UserMatchStatus user, MatchApproveRequestDto response) {
+    public Mono<Void> processMatchResponse(UserMatchStatus user, MatchApproveRequestDto response) {
         if (response.isAccepted()) {
-            processAcceptance(user);
-        } else {
-            processRejection(user);
+            return processAcceptance(user);
         }
+        return Mono.fromRunnable(() -> processRejection(user));
     }
 
     /**
@@ -177,38 +216,45 @@ public class MatchProcessor {
      *
      * @param user 수락 응답 유저
      */
-    private void processAcceptance(UserMatchStatus user) {
-        user.setAccepted(true);
-        redisService.saveUserStatus(user);
+    private Mono<Void> processAcceptance(UserMatchStatus user) {
+        return Mono.defer(() -> {
+            user.setAccepted(true);
+            redisService.markAccepted(user.getUserId());
 
-        if (checkBothAccepted(user.getMatchId())) {
-            createChat(user);
-            cleanupMatch(user.getMatchId());
-        }
+            if (!checkBothAccepted(user.getMatchId())) {
+                return Mono.empty();
+            }
+            return createChat(user)
+                    // 외부 호출 응답은 Netty 스레드에서 오므로 Redis 정리는 별도 스레드에서 실행
+                    .publishOn(Schedulers.boundedElastic())
+                    .then(Mono.fromRunnable(() -> cleanupMatch(user.getMatchId())));
+        });
     }
 
     /**
      * 채팅방 생성
      * - 매칭 정보를 바탕으로 두 유저의 채팅방을 생성하고, 상태를 "Chatting"으로 업데이트
      * - 채팅방 정보 알림을 전송
+     * - 채팅방 생성 후 두 유저의 상태 변경과 알림 전송은 서로 기다리지 않고 동시에 진행
      *
      * @param user 매칭 응답 유저 (해당 매칭에 포함된 두 유저 모두 대상으로 처리)
      */
-    private void createChat(UserMatchStatus user) {
+    private Mono<Void> createChat(UserMatchStatus user) {
         MatchResultStatus matchResultStatus = redisService.getMatchInfo(user.getMatchId());
         if (matchResultStatus == null || matchResultStatus.getUserIds().size() < 2) {
             log.warn("채팅 생성 실패: 매칭 정보가 올바르지 않습니다. matchId={}", user.getMatchId());
-            return;
+            return Mono.empty();
         }
         UserMatchStatus user1 = redisService.getUserStatus(matchResultStatus.getUserIds().get(0));
         UserMatchStatus user2 = redisService.getUserStatus(matchResultStatus.getUserIds().get(1));
 
-        Map<String, Object> chatResponse = externalApiService.createChatRoom(user1, user2, matchResultStatus.getSimilarity());
-
-        externalApiService.setUserStatus(user1.getUserId(), "Chatting");
-        externalApiService.setUserStatus(user2.getUserId(), "Chatting");
-
-        webSocketService.notifyUsersWithChatRoom(user1, user2, chatResponse);
+        return externalApiService.createChatRoom(user1, user2, matchResultStatus.getSimilarity())
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                        "채팅방 생성 응답이 올바르지 않습니다.")))
+                .flatMap(chatResponse -> Mono.when(
+                        externalApiService.setUserStatus(user1.getUserId(), "Chatting"),
+                        externalApiService.setUserStatus(user2.getUserId(), "Chatting"),
+                        Mono.fromRunnable(() -> webSocketService.notifyUsersWithChatRoom(user1, user2, chatResponse))));
     }
 
     /**
@@ -233,13 +279,14 @@ public class MatchProcessor {
         if (otherUserId != null) {
             UserMatchStatus otherUser = redisService.getUserStatus(otherUserId);
             if (otherUser != null) {
+                // 거절 기록 추가 (대기 큐에 다시 넣기 전에 기록해야 대기 풀 동기화가 거절 기록을 함께 읽음)
+                redisService.addRejection(user.getUserId(), otherUser.getUserId());
+                redisService.addRejection(otherUser.getUserId(), user.getUserId());
                 // 두 유저 상태 초기화
                 resetUsers(user, otherUser);
                 // 매칭 정보 삭제
                 redisService.deleteMatchInfo(matchId);
-                // 거절 기록 추가
-                redisService.addRejection(user.getUserId(), otherUser.getUserId());
-                redisService.addRejection(otherUser.getUserId(), user.getUserId());
+                cancelPendingTimeouts(matchId);
 
                 webSocketService.notifyUser(user.getUserId(), "CANCEL_MATCHED", "매칭 성사 취소");
                 webSocketService.notifyUser(otherUserId, "MATCH_FAILED", "상대방이 매칭을 거절했습니다.");
@@ -254,27 +301,8 @@ public class MatchProcessor {
      * @param user2 상대방 유저
      */
     private void resetUsers(UserMatchStatus user1, UserMatchStatus user2) {
-        // WAITING 상태로 변경
-        user1.setStatus(MatchStatus.WAITING);
-        user2.setStatus(MatchStatus.WAITING);
-
-        // 매칭 아이디, 수락 상태 초기화
-        user1.setMatchId(null);
-        user2.setMatchId(null);
-        user1.setAccepted(false);
-        user2.setAccepted(false);
-
-        // 유저 상태 업데이트
-        redisService.saveUserStatus(user1);
-        redisService.saveUserStatus(user2);
-
-        // 대기 큐에 추가
-        redisService.addUserToWaitingQueue(user1);
-        redisService.addUserToWaitingQueue(user2);
-
-        // 브로드 캐스팅
-        webSocketService.broadcastNewUser(user1);
-        webSocketService.broadcastNewUser(user2);
+        resetUserState(user1);
+        resetUserState(user2);
     }
 
     /**
@@ -292,6 +320,7 @@ public class MatchProcessor {
             redisService.deleteUserStatus(userId);
         }
         redisService.deleteMatchInfo(matchId);
+        cancelPendingTimeouts(matchId);
     }
 
     /**
@@ -330,37 +359,16 @@ public class MatchProcessor {
         if (otherUserId != null) {
             UserMatchStatus otherUser = redisService.getUserStatus(otherUserId);
             if (otherUser != null) {
+                // 거절 기록 추가 (대기 큐에 다시 넣기 전에 기록)
+                redisService.addRejection(otherUser.getUserId(), userId);
                 // 상대방 상태 초기화
-                resetUser(otherUser);
+                resetUserState(otherUser);
                 // 매칭 정보 삭제
                 redisService.deleteMatchInfo(matchId);
-                // 거절 기록 추가
-                redisService.addRejection(otherUser.getUserId(), userId);
+                cancelPendingTimeouts(matchId);
                 // 매칭 거절 알림
                 webSocketService.notifyUser(otherUserId, "MATCH_FAILED", "상대방이 매칭을 거절했습니다.");
             }
         }
     }
-
-    /**
-     * 매칭 취소된 유저의 상태를 초기화하여 WAITING 상태로 재설정하고, 대기 큐에 재등록합니다.
-     *
-     */
-    private void resetUser(UserMatchStatus user) {
-        // WAITING 상태로 변경
-        user.setStatus(MatchStatus.WAITING);
-
-        // 매칭 아이디, 수락 상태 초기화
-        user.setMatchId(null);
-        user.setAccepted(false);
-
-        // 유저 상태 업데이트
-        redisService.saveUserStatus(user);
-
-        // 대기 큐에 추가
-        redisService.addUserToWaitingQueue(user);
-
-        // 브로드 캐스팅
-        webSocketService.broadcastNewUser(user);
-    }
 }
@@ -0,0 +1,61 @@
+package com.example.match.service;
+
+import com.example.match.constant.MBTI;
+
+/**
+ * 매칭 점수 계산 (매칭 주기와 신규 유저 즉시 매칭에서 같은 기준을 사용)
+ * - strict: 서로의 선호 MBTI가 상대의 MBTI와 일치 → 0.8 × 고민 유사도 + 0.2 × 1
+ * - relaxed: 그 외 → 0.8 × 고민 유사도 + 0.2 × MBTI 유사도
+ * MBTI는 유저당 한 번 해석해 둔 ordinal(형식이 올바르지 않거나 없으면 -1)로 받으며,
+ * MBTI 유사도는 미리 계산한 16×16 표에서 조회하므로 쌍마다 문자열 비교나 객체 생성이 없습니다.
+ */
+final class MatchScoring {
+    private static final MBTI[] MBTIS = MBTI.values();
+    private static final int MBTI_COUNT = MBTIS.length;
+    // [a × 16 + b] = MBTI ordinal a, b의 유사도
+    private static final double[] MBTI_SIMILARITY = letterMatchTable();
+
+    private MatchScoring() {
+    }
+
+    static double compositeScore(int mbti1, int preferred1, int mbti2, int preferred2, double concernSim) {
+        double mbtiSim = isStrictCompatible(mbti1, preferred1, mbti2, preferred2) ? 1.0 : mbtiSimilarity(mbti1, mbti2);
+        return 0.8 * concernSim + 0.2 * mbtiSim;
+    }
+
+    /**
+     * strict 조건: A의 선호 MBTI가 B의 자신의 MBTI와 일치하고, B의 선호 MBTI가 A의 자신의 MBTI와 일치하는지 확인
+     */
+    static boolean isStrictCompatible(int mbti1, int preferred1, int mbti2, int preferred2) {
+        return preferred1 >= 0 && preferred2 >= 0 && preferred1 == mbti2 && preferred2 == mbti1;
+    }
+
+    /**
+     * MBTI 유사도 (MBTI를 모르면 0)
+     */
+    static double mbtiSimilarity(int mbti1, int mbti2) {
+        if (mbti1 < 0 || mbti2 < 0) {
+            return 0.0;
+        }
+        return MBTI_SIMILARITY[mbti1 * MBTI_COUNT + mbti2];
+    }
+
+    /**
+     * 각 자리별 일치하는 글자의 비율(0~1)로 MBTI 유사도 표를 만듭니다.
+     */
+    private static double[] letterMatchTable() {
+        double[] table = new double[MBTI_COUNT * MBTI_COUNT];
+        for (MBTI a : MBTIS) {
+            for (MBTI b : MBTIS) {
+                int matchCount = 0;
+                for (int i = 0; i < 4; i++) {
+                    if (a.name().charAt(i) == b.name().charAt(i)) {
+                        matchCount++;
+                    }
+                }
+                table[a.ordinal() * MBTI_COUNT + b.ordinal()] = matchCount / 4.0;
+            }
+        }
+        return table;
+    }
+}
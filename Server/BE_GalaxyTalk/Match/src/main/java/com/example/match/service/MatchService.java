@@ -6,7 +6,6 @@ import com.example.match.dto.MatchApproveRequestDto;
 import com.example.match.dto.UserStatusDto;
 import com.example.match.exception.BusinessException;
 import com.example.match.exception.ErrorCode;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +13,8 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Instant;
 import java.util.*;
@@ -23,10 +24,22 @@ import java.util.*;
 @EnableScheduling
 @Slf4j
 public class MatchService {
+    // 선점(IN_PROGRESS) 후 매칭이 생성되지 않은 유저를 복구하는 기준 (30초)
+    private static final long STRANDED_CLAIM_MILLIS = 30_000;
+
     private final RedisService redisService;
     private final WebSocketService webSocketService;
     private final ExternalApiService externalApiService;
     private final MatchProcessor matchProcessor;
+    private final ConcernEmbeddingStore concernEmbeddingStore;
+    private final MatchCandidateGenerator matchCandidateGenerator;
+    private final StrictPairFinder strictPairFinder;
+    private final ParallelPairScorer parallelPairScorer;
+    private final PairingStrategy pairingStrategy;
+    private final WaitTimePriority waitTimePriority;
+    private final MatchShardManager matchShardManager;
+    private final IncrementalMatcher incrementalMatcher;
+    private final WaitingPool waitingPool;
 
 
     /**
@@ -43,80 +56,137 @@ public class MatchService {
      * 1. 유저 상태를 Redis에 저장하고
      * 2. 대기 큐에 등록(매칭 시작 시간 기준)
      * 3. WebSocket으로 알림 전송
+     * Auth 서버 호출은 스레드를 막지 않으며, 응답 이후의 Redis 작업은 boundedElastic 스레드에서 실행합니다.
+     * 유저 상태 변경(matching) 요청과 알림 전송/즉시 매칭은 동시에 진행합니다.
      */
-    public void startMatching(UserMatchStatus user) {
-        log.info("매칭 시작 요청: userId={}", user.getUserId());
-
-        // 이미 매칭 중인 유저인지 확인
-        UserMatchStatus existing = redisService.getUserStatus(user.getUserId());
-        if (existing != null) {
-            // 매칭 성사된 유저인 경우
-            if (existing.getMatchId() != null) {
-                matchProcessor.processMatchingCancle(existing.getMatchId(), user.getUserId());
+    public Mono<Void> startMatching(UserMatchStatus user) {
+        return Mono.defer(() -> {
+            log.info("매칭 시작 요청: userId={}", user.getUserId());
+            // 이미 매칭 중인 유저인지 확인
+            UserMatchStatus existing = redisService.getUserStatus(user.getUserId());
+            if (existing != null) {
+                // 매칭 성사된 유저인 경우
+                if (existing.getMatchId() != null) {
+                    matchProcessor.processMatchingCancle(existing.getMatchId(), user.getUserId());
+                }
+                // 기존 정보 삭제
+                redisService.deleteUserStatus(user.getUserId());
+                redisService.removeUserFromWaitingQueue(user.getUserId());
+                waitingPool.remove(user.getUserId());
             }
-            // 기존 정보 삭제
-            redisService.deleteUserStatus(user.getUserId());
-            redisService.removeUserFromWaitingQueue(user.getUserId());
-        }
-
-        // 외부 Auth 서버(WebClient 사용)를 통해 회원 정보 조회 및 MBTI, 에너지 등 추출
-        Map<String, Object> userResponse = externalApiService.getUserInfo(user.getUserId());
-        String userMbti = (userResponse != null) ? (String) userResponse.get("mbti") : null;
-        if (userMbti == null) {
-            log.warn("유저 {}의 MBTI 정보를 가져올 수 없습니다.", user.getUserId());
-            throw new BusinessException(ErrorCode.USER_INFO_NOT_FOUND,
-                    "유저 " + user.getUserId() + "의 MBTI 정보를 가져올 수 없습니다.");
-        }
-
-        // 유저 객체에 기본 정보 설정
-        user.setMbti(userMbti);
-        user.setEnergy((Integer) userResponse.get("energy"));
-        // 초기 상태는 WAITING (큐 등록 후 매칭 작업 시 IN_PROGRESS로 전환)
-        user.setStatus(MatchStatus.WAITING);
-        user.setAccepted(false);
-        user.setStartTime(Instant.now().toEpochMilli());
 
-        // Redis에 유저 상태 저장
-        redisService.saveUserStatus(user);
+            // 외부 Auth 서버(WebClient 사용)를 통해 회원 정보 조회 및 MBTI, 에너지 등 추출
+            return externalApiService.getUserInfo(user.getUserId());
+        }).switchIfEmpty(Mono.error(() -> userInfoNotFound(user.getUserId())))
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(userResponse -> {
+                    String userMbti = (String) userResponse.get("mbti");
+                    if (userMbti == null) {
+                        return Mono.error(userInfoNotFound(user.getUserId()));
+                    }
+
+                    // 유저 객체에 기본 정보 설정
+                    user.setMbti(userMbti);
+                    user.setEnergy((Integer) userResponse.get("energy"));
+                    // 초기 상태는 WAITING (큐 등록 후 매칭 작업 시 IN_PROGRESS로 전환)
+                    user.setStatus(MatchStatus.WAITING);
+                    user.setAccepted(false);
+                    user.setStartTime(Instant.now().toEpochMilli());
+
+                    // Redis에 유저 상태 저장
+                    redisService.saveUserStatus(user);
+
+                    // 고민 임베딩은 대기 중 바뀌지 않으므로 매칭 시작 시 1회만 계산하여 저장
+                    concernEmbeddingStore.register(user);
+
+                    // Redis 대기 큐(Waiting Pool)에 유저 등록 후 매칭 주기용 메모리 풀에도 바로 반영
+                    redisService.addUserToWaitingQueue(user);
+                    Set<String> rejected = redisService.getRejectedUsers(List.of(user.getUserId()))
+                            .getOrDefault(user.getUserId(), Set.of());
+                    waitingPool.add(user, rejected);
+
+                    return Mono.when(
+                            externalApiService.setUserStatus(user.getUserId(), "matching"),
+                            Mono.fromRunnable(() -> {
+                                // WebSocket 알림 전송 (매칭 대기 시작)
+                                webSocketService.notifyUser(user.getUserId(), "WAITING", "매칭 대기 시작");
+
+                                // broadCasting
+                                webSocketService.broadcastNewUser(user);
+
+                                // 매칭 주기를 기다리지 않고 기존 대기 유저와 바로 매칭 시도
+                                matchOnArrival(user, rejected);
+                            }));
+                });
+    }
 
-        // Redis 대기 큐(Waiting Pool)에 유저 등록
-        redisService.addUserToWaitingQueue(user);
+    private BusinessException userInfoNotFound(String userId) {
+        log.warn("유저 {}의 MBTI 정보를 가져올 수 없습니다.", userId);
+        return new BusinessException(ErrorCode.USER_INFO_NOT_FOUND,
+                "유저 " + userId + "의 MBTI 정보를 가져올 수 없습니다.");
+    }
 
-        // WebSocket 알림 전송 (매칭 대기 시작)
-        externalApiService.setUserStatus(user.getUserId(), "matching");
-        webSocketService.notifyUser(user.getUserId(), "WAITING", "매칭 대기 시작");
+    /**
+     * 신규 유저를 증분 매칭 풀에 추가하고, 서로 최선 후보인 상대가 있으면 바로 매칭합니다.
+     * 임베딩을 구하지 못했거나 다른 인스턴스가 담당하는 유저는 매칭 주기에서 처리합니다.
+     */
+    private void matchOnArrival(UserMatchStatus user, Set<String> rejected) {
+        if (!incrementalMatcher.isEnabled() || !matchShardManager.owns(user.getUserId())) {
+            return;
+        }
+        float[] embedding = concernEmbeddingStore.getEmbeddings(List.of(user))[0];
+        if (embedding == null) {
+            return;
+        }
+        claimProposals(incrementalMatcher.add(user, embedding, rejected));
+    }
 
-        // broadCasting
-        webSocketService.broadcastNewUser(user);
+    /**
+     * 증분 매칭이 제안한 쌍을 선점 후 매칭 생성합니다.
+     * 선점에 실패한 쌍(한쪽이 이미 매칭/취소됨)의 남은 유저는 다음 매칭 주기 동기화 때 풀로 돌아옵니다.
+     */
+    private void claimProposals(List<IncrementalMatcher.Proposal> proposals) {
+        for (IncrementalMatcher.Proposal proposal : proposals) {
+            if (claimAndCreateMatch(proposal.user1(), proposal.user2(), proposal.score())) {
+                log.info("증분 매칭 성공: {} - {}", proposal.user1().getUserId(), proposal.user2().getUserId());
+            }
+        }
     }
 
 
     /**
      * 매칭 취소 처리
+     * Redis 정리 후 유저 상태 변경(idle) 요청과 퇴장 알림은 동시에 진행합니다.
      */
-    public void cancelMatching(String userId) {
-        // 매칭 중인 유저인지 확인
-        UserMatchStatus userMatchStatus = redisService.getUserStatus(userId);
-        if (userMatchStatus == null) {
-            throw new BusinessException(ErrorCode.USER_NOT_MATCHING);
-        }
+    public Mono<Void> cancelMatching(String userId) {
+        return Mono.defer(() -> {
+            // 매칭 중인 유저인지 확인
+            UserMatchStatus userMatchStatus = redisService.getUserStatus(userId);
+            if (userMatchStatus == null) {
+                return Mono.error(new BusinessException(ErrorCode.USER_NOT_MATCHING));
+            }
 
-        // 매칭이 성사된 유저인 경우 매칭 취소 및 상대방도 취소 처리 필요
-        if (userMatchStatus.getMatchId() != null) {
-            matchProcessor.processMatchingCancle(userMatchStatus.getMatchId(), userId);
-        }
+            // 매칭이 성사된 유저인 경우 매칭 취소 및 상대방도 취소 처리 필요
+            if (userMatchStatus.getMatchId() != null) {
+                matchProcessor.processMatchingCancle(userMatchStatus.getMatchId(), userId);
+            }
 
-        // Redis에서 유저 정보 삭제
-        redisService.deleteUserStatus(userId);
+            // 증분 매칭 풀에서 제외 (이 유저를 최선 후보로 두던 유저끼리 새로 매칭될 수 있음)
+            claimProposals(incrementalMatcher.remove(List.of(userId)));
 
-        // ZSET에서 매칭 대기 유저 제거
-        redisService.removeUserFromWaitingQueue(userId);
+            // Redis에서 유저 정보 삭제
+            redisService.deleteUserStatus(userId);
 
-        // 세션 서버 상태 변경
-        externalApiService.setUserStatus(userId, "idle");
+            // ZSET에서 매칭 대기 유저 제거
+            redisService.removeUserFromWaitingQueue(userId);
+            waitingPool.remove(userId);
 
-        // 유저 퇴장 알림
-        webSocketService.broadcastUserExit(userId);
+            return Mono.when(
+                    // 세션 서버 상태 변경
+                    externalApiService.setUserStatus(userId, "idle"),
+                    // 유저 퇴장 알림
+                    Mono.fromRunnable(() -> webSocketService.broadcastUserExit(userId)));
+        });
     }
 
     /**
@@ -125,17 +195,14 @@ public class MatchService {
     public List<UserStatusDto> getWaitingUsers() {
         Set<String> waitingUserIds = redisService.getRandomWaitingUsers(20);
         List<UserStatusDto> list = new ArrayList<>();
-        for (String id : waitingUserIds) {
-            UserMatchStatus user = redisService.getUserStatus(id);
-            if (user != null) {
-                list.add(new UserStatusDto(
-                        user.getUserId(),
-                        user.getConcern(),
-                        user.getMbti(),
-                        user.getStatus(),
-                        user.getStartTime()
-                ));
-            }
+        for (UserMatchStatus user : redisService.getUserStatuses(waitingUserIds).values()) {
+            list.add(new UserStatusDto(
+                    user.getUserId(),
+                    user.getConcern(),
+                    user.getMbti(),
+                    user.getStatus(),
+                    user.getStartTime()
+            ));
         }
         return list;
     }
@@ -154,15 +221,17 @@ public class MatchService {
     /**
      * 매칭 수락/거절 응답 처리
      */
-    public void processMatchApproval(String userId, MatchApproveRequestDto response) {
-        UserMatchStatus user = redisService.getUserStatus(userId);
-        if (user == null) {
-            throw new BusinessException(ErrorCode.USER_NOT_FOUND, "userId: " + userId);
-        }
-        if (!response.getMatchId().equals(user.getMatchId())) {
-            throw new IllegalArgumentException("잘못된 매칭 ID입니다.");
-        }
-        matchProcessor.processMatchResponse(user, response);
+    public Mono<Void> processMatchApproval(String userId, MatchApproveRequestDto response) {
+        return Mono.defer(() -> {
+            UserMatchStatus user = redisService.getUserStatus(userId);
+            if (user == null) {
+                return Mono.error(new BusinessException(ErrorCode.USER_NOT_FOUND, "userId: " + userId));
+            }
+            if (!response.getMatchId().equals(user.getMatchId())) {
+                return Mono.error(new IllegalArgumentException("잘못된 매칭 ID입니다."));
+            }
+            return matchProcessor.processMatchResponse(user, response);
+        });
     }
 
     /**
@@ -172,151 +241,244 @@ public class MatchService {
      * 2. relaxed 조건: strict 조건 미충족 시, MBTI 유사도 매트릭스를 기반으로 MBTI 유사도를 계산
      * → composite score = 0.8 × 고민 유사도 + 0.2 × (계산된 MBTI 유사도)
      * strict 후보가 하나라도 있으면 우선 strict 후보로 매칭을 시도하고, 없으면 relaxed 후보로 진행
+     * 단, 오래 기다린 유저가 포함된 쌍(롱타임 레인)은 strict/relaxed 단계보다 먼저 처리
+     * 각 단계에서 실제로 매칭할 쌍은 PairingStrategy(greedy / max-weight)가 대기 시간 보정 점수로 선택
      */
     @Scheduled(fixedDelay = 5000)
     public void processMatchingQueue() {
         log.info("매칭 대기 큐 처리 시작");
 
-        // Redis에서 모든 대기 유저 ID 조회
-        Set<String> waitingUserIds = redisService.getAllWaitingUsers();
-        if (waitingUserIds.isEmpty()) {
+        // 담당 샤드 리스 갱신 후, 메모리 대기 풀에서 이 인스턴스가 담당하는 샤드의 유저와
+        // 다른 샤드에서 오래 매칭되지 않은 유저(샤드 간 매칭)를 가져옴 (Redis 조회 없음)
+        long tickStart = Instant.now().toEpochMilli();
+        matchShardManager.refresh();
+        List<WaitingPool.WaitingUser> snapshot = waitingPool.snapshot(
+                entry -> matchShardManager.includesInTick(entry.userId(), tickStart - entry.startTime()));
+        if (snapshot.isEmpty()) {
             log.info("대기 중인 유저가 없습니다.");
+            syncIncrementalPool(List.of(), new float[0][], Map.of(), tickStart);
             return;
         }
 
-        // WAITING 상태인 유저의 상태 객체들을 가져옴
-        List<UserMatchStatus> waitingUsers = new ArrayList<>();
-        for (String userId : waitingUserIds) {
-            UserMatchStatus user = redisService.getUserStatus(userId);
-            if (user != null && user.getStatus() == MatchStatus.WAITING) {
-
-                waitingUsers.add(user);
+        // 스냅샷을 매칭 주기용 상태 객체로 바꾸면서 5분 이상 매칭 중인 유저 제거
+        Set<String> waitingUserIds = new HashSet<>();
+        List<UserMatchStatus> activeUsers = new ArrayList<>(snapshot.size());
+        List<WaitingPool.WaitingUser> activeEntries = new ArrayList<>(snapshot.size());
+        Map<String, Set<String>> rejectedByUserId = new HashMap<>();
+        List<Mono<Void>> idleUpdates = new ArrayList<>();
+        for (WaitingPool.WaitingUser entry : snapshot) {
+            waitingUserIds.add(entry.userId());
+            UserMatchStatus user = entry.toUserStatus();
+            if (!matchShardManager.owns(entry.userId())) {
+                // 다른 샤드 유저의 대기 시간 초과는 담당 인스턴스가 처리 (취소 알림 중복 방지)
+                if (tickStart - entry.startTime() > 300_000) {
+                    continue;
+                }
+            } else if (checkWaitingTimeout(user, idleUpdates)) {
+                continue;
             }
+            activeUsers.add(user);
+            activeEntries.add(entry);
+            if (!entry.rejected().isEmpty()) {
+                rejectedByUserId.put(entry.userId(), entry.rejected());
+            }
+        }
+        // 대기 시간 초과 유저의 상태 변경은 기다리지 않고 한 번에 전송 (실패는 로그만 남김)
+        if (!idleUpdates.isEmpty()) {
+            Mono.whenDelayError(idleUpdates)
+                    .doOnError(e -> log.warn("대기 시간 초과 유저 상태 변경 실패", e))
+                    .onErrorComplete()
+                    .subscribe();
         }
 
-        // 5분 이상 매칭 중인 유저 제거
-        for (UserMatchStatus user : waitingUsers) {
-            if (checkWaitingTimeout(user)){
-                waitingUsers.remove(user);
+        log.info("대기 중인 유저 수: {}", activeUsers.size());
+        // 유저별로 저장된 고민 임베딩 조회 (쌍 유사도는 로컬 코사인으로 계산)
+        concernEmbeddingStore.retainOnly(waitingUserIds);
+        float[][] fetched = concernEmbeddingStore.getEmbeddings(activeUsers);
+
+        // 임베딩을 구하지 못한 유저(AI 서버 오류/시간 초과)는 이번 주기 쌍 선택에서 빼고 다음 주기에 다시 요청
+        // (고민 유사도는 임베딩 코사인 하나로만 계산하여, 주기마다 점수 척도가 달라지지 않도록 다른 점수로 대체하지 않음)
+        List<UserMatchStatus> waitingUsers = new ArrayList<>(activeUsers.size());
+        List<WaitingPool.WaitingUser> waiting = new ArrayList<>(activeUsers.size());
+        List<float[]> embeddingList = new ArrayList<>(activeUsers.size());
+        for (int i = 0; i < activeUsers.size(); i++) {
+            if (fetched[i] != null) {
+                waitingUsers.add(activeUsers.get(i));
+                waiting.add(activeEntries.get(i));
+                embeddingList.add(fetched[i]);
             }
         }
+        if (waitingUsers.size() < activeUsers.size()) {
+            log.warn("고민 임베딩이 없는 유저 {}명은 이번 매칭 주기에서 제외", activeUsers.size() - waitingUsers.size());
+        }
+        float[][] embeddings = embeddingList.toArray(new float[0][]);
+        if (waitingUsers.size() < 2) {
+            syncIncrementalPool(waitingUsers, embeddings, Map.of(), tickStart);
+            return;
+        }
 
-        log.info("대기 중인 유저 수: {}", waitingUsers.size());
-
-        List<MatchPair> strictPairs = new ArrayList<>();
-        List<MatchPair> relaxedPairs = new ArrayList<>();
-
-        // 모든 후보 쌍에 대해 검사
-        for (int i = 0; i < waitingUsers.size() - 1; i++) {
-            for (int j = i + 1; j < waitingUsers.size(); j++) {
-                UserMatchStatus u1 = waitingUsers.get(i);
-                UserMatchStatus u2 = waitingUsers.get(j);
-
-                // 같은 사람인지 확인
-                if (u1.getUserId().equals(u2.getUserId()))
-                    continue;
-
-                // 거절했던 상대라면 매칭 후보에서 제외
-                if (redisService.hasRejected(u1.getUserId(), u2.getUserId()) ||
-                redisService.hasRejected(u2.getUserId(), u1.getUserId()))
-                    continue;
-
+        // 대기 풀에 들어올 때 읽어 둔 거절 기록으로 로컬 거절 그래프 구성 (쌍마다 Redis 조회하지 않음)
+        RejectionGraph rejections = RejectionGraph.of(waitingUsers, rejectedByUserId);
+
+        // 유저 인덱스별 MBTI / 선호 MBTI ordinal (대기 풀 추가 시 해석해 둔 값, 쌍마다 문자열을 해석하지 않음)과 대기 시간
+        int[] mbti = new int[waiting.size()];
+        int[] preferred = new int[waiting.size()];
+        long[] waitMillis = new long[waiting.size()];
+        for (int i = 0; i < waiting.size(); i++) {
+            mbti[i] = waiting.get(i).mbti();
+            preferred[i] = waiting.get(i).preferredMbti();
+            waitMillis[i] = tickStart - waiting.get(i).startTime();
+        }
 
-                // 고민 유사도 계산 (기존 외부 API 활용)
-                double concernSim = externalApiService.calculateSimilarity(u1, u2);
-                if (isStrictCompatible(u1, u2)) {
-                    // strict 조건: 두 유저의 선호와 자신의 MBTI가 완벽히 일치하면 MBTI 점수를 1로 간주
-                    double compositeScore = 0.8 * concernSim + 0.2 * 1.0;
-                    strictPairs.add(new MatchPair(u1, u2, compositeScore));
-                } else {
-                    // relaxed 조건: MBTI 유사도 계산 (각 자리 일치 비율)
-                    double mbtiSim = calculateMBTISimilarity(u1.getMbti(), u2.getMbti());
-                    double compositeScore = 0.8 * concernSim + 0.2 * mbtiSim;
-                    relaxedPairs.add(new MatchPair(u1, u2, compositeScore));
-                }
+        // strict 후보: MBTI 버킷에서 선호 MBTI 버킷을 직접 조회하여 탐색 (버킷별 병렬 처리)
+        ScoredPairs strictCandidates = findStrictPairs(mbti, preferred, embeddings, rejections);
+
+        // relaxed 후보: 대기 인원이 많으면 ANN 인덱스로 유저별 상위 후보만 생성 (null이면 모든 쌍 검사)
+        // 쌍 점수 계산은 대기 인원이 기준 이상이면 블록으로 나눠 병렬 처리
+        int[] candidatePairs = matchCandidateGenerator.generate(embeddings);
+        PairScorer relaxedScorer = (i, j) -> relaxedScore(i, j, mbti, preferred, embeddings, rejections);
+        ScoredPairs relaxedCandidates = (candidatePairs == null)
+                ? parallelPairScorer.scoreAllPairs(waitingUsers.size(), relaxedScorer)
+                : parallelPairScorer.scorePairs(waitingUsers.size(), candidatePairs, relaxedScorer);
+
+        // 롱타임 레인(오래 기다린 유저가 포함된 strict/relaxed 후보)을 먼저 처리하고,
+        // strict 후보들을 처리한 뒤, 남은 유저들에 대해 relaxed 후보들을 처리
+        boolean[] matched = new boolean[waitingUsers.size()];
+        claimSelectedPairs(waitingUsers, waitTimePriority.longWaitPairs(waitMillis, strictCandidates, relaxedCandidates),
+                waitMillis, matched);
+        claimSelectedPairs(waitingUsers, strictCandidates, waitMillis, matched);
+        claimSelectedPairs(waitingUsers, relaxedCandidates, waitMillis, matched);
+
+        // 이번 주기에 매칭되지 않은 유저로 증분 매칭 풀을 맞춤
+        List<UserMatchStatus> remaining = new ArrayList<>();
+        List<float[]> remainingEmbeddings = new ArrayList<>();
+        for (int i = 0; i < waitingUsers.size(); i++) {
+            if (!matched[i]) {
+                remaining.add(waitingUsers.get(i));
+                remainingEmbeddings.add(embeddings[i]);
             }
         }
+        syncIncrementalPool(remaining, remainingEmbeddings.toArray(new float[0][]), rejectedByUserId, tickStart);
+    }
 
-        // strict 후보들을 우선 처리
-        strictPairs.sort((p1, p2) -> Double.compare(p2.similarity, p1.similarity));
-        Set<String> matchedUserIds = new HashSet<>();
-        for (MatchPair pair : strictPairs) {
-            if (matchedUserIds.contains(pair.user1.getUserId()) || matchedUserIds.contains(pair.user2.getUserId())) {
-                continue;
-            }
-            // 원자적 상태 전환 시도: WAITING -> IN_PROGRESS
-            boolean trans1 = redisService.atomicTransitionToInProgress(pair.user1.getUserId());
-            boolean trans2 = redisService.atomicTransitionToInProgress(pair.user2.getUserId());
-            if (trans1 && trans2) {
-                // 매칭 처리: 매칭 생성 및 상태 업데이트
-                matchProcessor.createMatch(pair.user1, pair.user2, pair.similarity);
-                matchedUserIds.add(pair.user1.getUserId());
-                matchedUserIds.add(pair.user2.getUserId());
-            }
+    /**
+     * 매칭 주기가 본 대기 유저로 증분 매칭 풀을 맞춥니다. (주기 도중 새로 들어온 유저는 유지)
+     */
+    private void syncIncrementalPool(List<UserMatchStatus> waitingUsers, float[][] embeddings,
+                                     Map<String, Set<String>> rejectedByUserId, long tickStart) {
+        if (incrementalMatcher.isEnabled()) {
+            claimProposals(incrementalMatcher.sync(waitingUsers, embeddings, rejectedByUserId, tickStart));
         }
+    }
 
-        // strict 후보 처리 후, 남은 유저들에 대해 relaxed 후보들을 처리
-        relaxedPairs.sort((p1, p2) -> Double.compare(p2.similarity, p1.similarity));
-        for (MatchPair pair : relaxedPairs) {
-            if (matchedUserIds.contains(pair.user1.getUserId()) || matchedUserIds.contains(pair.user2.getUserId())) {
-                continue;
-            }
-            // 원자적 상태 전환 시도: WAITING -> IN_PROGRESS
-            boolean trans1 = redisService.atomicTransitionToInProgress(pair.user1.getUserId());
-            boolean trans2 = redisService.atomicTransitionToInProgress(pair.user2.getUserId());
-            if (trans1 && trans2) {
-                // 매칭 처리: 매칭 생성 및 상태 업데이트
-                matchProcessor.createMatch(pair.user1, pair.user2, pair.similarity);
-                matchedUserIds.add(pair.user1.getUserId());
-                matchedUserIds.add(pair.user2.getUserId());
+    /**
+     * 매칭 전략(PairingStrategy)이 대기 시간 보정 점수로 선택한 쌍을 보정 점수 순으로 상태 전환 후 매칭 생성합니다.
+     * 매칭 생성에는 보정 전 점수를 사용하며, 매칭된 유저는 matched에 표시하여 다음 단계 후보에서 제외합니다.
+     */
+    private void claimSelectedPairs(List<UserMatchStatus> waitingUsers, ScoredPairs candidates, long[] waitMillis,
+                                    boolean[] matched) {
+        if (candidates.size() == 0) {
+            return;
+        }
+        ScoredPairs boosted = waitTimePriority.boosted(candidates, waitMillis);
+        for (int k : pairingStrategy.select(waitingUsers.size(), boosted, matched)) {
+            UserMatchStatus user1 = waitingUsers.get(candidates.first(k));
+            UserMatchStatus user2 = waitingUsers.get(candidates.second(k));
+            if (claimAndCreateMatch(user1, user2, candidates.score(k))) {
+                matched[candidates.first(k)] = true;
+                matched[candidates.second(k)] = true;
             }
         }
     }
 
     /**
-     * strict 조건: A의 선호 MBTI가 B의 자신의 MBTI와 일치하고, B의 선호 MBTI가 A의 자신의 MBTI와 일치하는지 확인
+     * 두 유저를 선점한 뒤 매칭을 생성합니다. 선점하지 못했거나 매칭 생성에 실패하면 false
      */
-    private boolean isStrictCompatible(UserMatchStatus u1, UserMatchStatus u2) {
-        if (u1.getPreferredMbti() == null || u2.getPreferredMbti() == null ||
-                u1.getMbti() == null || u2.getMbti() == null) {
+    private boolean claimAndCreateMatch(UserMatchStatus user1, UserMatchStatus user2, double score) {
+        // 두 유저를 한 번에 선점: WAITING -> IN_PROGRESS 전환 및 대기 큐 제거 (Lua 스크립트 1회)
+        if (!redisService.claimPair(user1, user2)) {
+            return false;
+        }
+        // 선점한 유저는 대기 풀에서 제외 (매칭 생성 실패로 대기 큐에 돌아가면 대기 풀 동기화 때 다시 추가됨)
+        waitingPool.remove(user1.getUserId());
+        waitingPool.remove(user2.getUserId());
+        try {
+            // 매칭 처리: 매칭 생성 및 상태 업데이트
+            matchProcessor.createMatch(user1, user2, score);
+            return true;
+        } catch (RuntimeException e) {
+            // 매칭 생성 실패 시 선점을 되돌려 두 유저가 IN_PROGRESS로 남지 않도록 함
+            log.error("매칭 생성 실패, 선점 해제: {} - {}", user1.getUserId(), user2.getUserId(), e);
+            redisService.releasePair(user1, user2);
             return false;
         }
-        return u1.getPreferredMbti().equalsIgnoreCase(u2.getMbti()) &&
-                u2.getPreferredMbti().equalsIgnoreCase(u1.getMbti());
     }
 
     /**
-     * MBTI 유사도 계산
-     * 간단히 각 자리별 일치하는 글자의 비율(0~1)을 반환.
+     * MBTI 버킷을 이용해 strict 후보 쌍을 찾습니다.
+     * composite score = 0.8 × 고민 유사도 + 0.2 × 1
      */
-    private double calculateMBTISimilarity(String mbti1, String mbti2) {
-        if (mbti1 == null || mbti2 == null || mbti1.length() != 4 || mbti2.length() != 4) {
-            return 0.0;
-        }
-        int matchCount = 0;
-        mbti1 = mbti1.toUpperCase();
-        mbti2 = mbti2.toUpperCase();
-        for (int i = 0; i < 4; i++) {
-            if (mbti1.charAt(i) == mbti2.charAt(i)) {
-                matchCount++;
-            }
-        }
-        return matchCount / 4.0;
+    private ScoredPairs findStrictPairs(int[] mbti, int[] preferred, float[][] embeddings,
+                                        RejectionGraph rejections) {
+        return strictPairFinder.find(mbti, preferred, (i, j) -> {
+            double concernSim = concernSimilarity(i, j, embeddings, rejections);
+            return Double.isNaN(concernSim) ? Double.NaN : 0.8 * concernSim + 0.2 * 1.0;
+        });
     }
 
-    public boolean checkWaitingTimeout(UserMatchStatus user) {
+    /**
+     * relaxed 후보 쌍 (i, j)의 composite score를 계산합니다. 후보가 아니면 NaN을 반환합니다.
+     * strict 쌍은 MBTI 버킷 탐색에서 이미 처리했으므로 제외합니다.
+     * composite score = 0.8 × 고민 유사도 + 0.2 × (계산된 MBTI 유사도)
+     * 여러 스레드에서 동시에 호출되므로 읽기만 합니다.
+     */
+    private double relaxedScore(int i, int j, int[] mbti, int[] preferred,
+                                float[][] embeddings, RejectionGraph rejections) {
+        if (MatchScoring.isStrictCompatible(mbti[i], preferred[i], mbti[j], preferred[j]))
+            return Double.NaN;
+
+        double concernSim = concernSimilarity(i, j, embeddings, rejections);
+        if (Double.isNaN(concernSim))
+            return Double.NaN;
+
+        // relaxed 조건: MBTI 유사도(각 자리 일치 비율, 미리 계산한 표) 반영
+        return 0.8 * concernSim + 0.2 * MatchScoring.mbtiSimilarity(mbti[i], mbti[j]);
+    }
+
+    /**
+     * 두 유저의 고민 유사도(임베딩 코사인 유사도)를 반환합니다. 같은 유저이거나 거절 이력이 있으면 NaN을 반환합니다.
+     */
+    private double concernSimilarity(int i, int j, float[][] embeddings, RejectionGraph rejections) {
+        // 같은 사람인지 확인 (대기 풀 스냅샷은 유저 ID별로 하나이므로 인덱스로 비교)
+        if (i == j)
+            return Double.NaN;
+
+        // 거절했던 상대라면 매칭 후보에서 제외 (주기 시작 시 읽어 둔 거절 그래프에서 조회)
+        if (rejections.contains(i, j))
+            return Double.NaN;
+
+        // 고민 유사도 (임베딩 코사인 유사도)
+        return VectorMath.cosineSimilarity(embeddings[i], embeddings[j]);
+    }
+
+    /**
+     * 대기 시간(5분)이 지난 유저의 매칭을 취소합니다.
+     * 외부 API 상태 변경(idle) 요청은 idleUpdates에 모아 두며, 호출 측에서 한 번에 전송합니다. (매칭 주기가 유저마다 기다리지 않도록)
+     */
+    public boolean checkWaitingTimeout(UserMatchStatus user, List<Mono<Void>> idleUpdates) {
         log.info("대기 시간 초과 유저 검사");
         long now = Instant.now().toEpochMilli();
-        String userId = user.getUserId();
         if (user != null && user.getStatus() == MatchStatus.WAITING) {
+            String userId = user.getUserId();
             // 시작 시각으로부터 5분(300,000ms) 경과 여부 확인
             if (now - user.getStartTime() > 300_000) {
                 log.info("유저 {} 대기 시간 초과로 매칭 취소", userId);
                 // Redis에서 상태 삭제 및 대기 큐에서 제거
                 redisService.deleteUserStatus(userId);
                 redisService.removeUserFromWaitingQueue(userId);
-                // 외부 API를 통해 세션 상태 변경 (예: idle)
-                externalApiService.setUserStatus(userId, "idle");
+                waitingPool.remove(userId);
+                // 외부 API를 통해 세션 상태 변경 (예: idle) - 호출 측에서 모아서 동시에 요청
+                idleUpdates.add(externalApiService.setUserStatus(userId, "idle"));
                 // WebSocket 알림 전송
                 webSocketService.notifyUser(userId, "CANCEL_WAITING", "매칭 대기 취소");
                 // 매칭 취소 브로드캐스팅
@@ -335,19 +497,25 @@ public class MatchService {
     @Scheduled(fixedDelay = 60000)
     public void checkWaitingTimeout() {
         log.info("대기 시간 초과 유저 검사 시작");
-        Set<String> waitingUserIds = redisService.getAllWaitingUsers();
         long now = Instant.now().toEpochMilli();
-        for (String userId : waitingUserIds) {
-            UserMatchStatus user = redisService.getUserStatus(userId);
-            if (user != null && user.getStatus() == MatchStatus.WAITING) {
+        // 선점 후 매칭 생성 전에 멈춘 유저(인스턴스 종료 등)를 대기 상태로 복구
+        redisService.recoverStrandedClaims(now - STRANDED_CLAIM_MILLIS);
+
+        // 다른 인스턴스가 담당하는 유저는 해당 인스턴스가 처리 (취소 알림 중복 방지)
+        Set<String> waitingUserIds = matchShardManager.filterOwned(redisService.getAllWaitingUsers());
+        List<Mono<Void>> idleUpdates = new ArrayList<>();
+        for (UserMatchStatus user : redisService.getUserStatuses(waitingUserIds).values()) {
+            String userId = user.getUserId();
+            if (user.getStatus() == MatchStatus.WAITING) {
                 // 시작 시각으로부터 5분(300,000ms) 경과 여부 확인
                 if (now - user.getStartTime() > 300_000) {
                     log.info("유저 {} 대기 시간 초과로 매칭 취소", userId);
                     // Redis에서 상태 삭제 및 대기 큐에서 제거
                     redisService.deleteUserStatus(userId);
                     redisService.removeUserFromWaitingQueue(userId);
-                    // 외부 API를 통해 세션 상태 변경 (예: idle)
-                    externalApiService.setUserStatus(userId, "idle");
+                    waitingPool.remove(userId);
+                    // 외부 API를 통해 세션 상태 변경 (예: idle) - 아래에서 모아서 동시에 요청
+                    idleUpdates.add(externalApiService.setUserStatus(userId, "idle"));
                     // WebSocket 알림 전송
                     webSocketService.notifyUser(userId, "CANCEL_WAITING", "매칭 대기 취소");
                     // 매칭 취소 브로드캐스팅
@@ -355,19 +523,11 @@ public class MatchService {
                 }
             }
         }
-    }
-
-
-    @Getter
-    private static class MatchPair {
-        private final UserMatchStatus user1;
-        private final UserMatchStatus user2;
-        private final double similarity;
-
-        public MatchPair(UserMatchStatus user1, UserMatchStatus user2, double similarity) {
-            this.user1 = user1;
-            this.user2 = user2;
-            this.similarity = similarity;
+        if (!idleUpdates.isEmpty()) {
+            Mono.whenDelayError(idleUpdates)
+                    .doOnError(e -> log.warn("대기 시간 초과 유저 상태 변경 실패", e))
+                    .onErrorComplete()
+                    .block();
         }
     }
 }
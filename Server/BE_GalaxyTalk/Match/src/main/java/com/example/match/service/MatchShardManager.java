@@ -0,0 +1,173 @@
+package com.example.match.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 여러 Match 인스턴스가 대기 풀을 나눠 매칭하기 위한 샤드 관리
+ * - 유저는 userId 해시로 고정된 샤드(0 ~ shardCount-1)에 속하고, 샤드는 살아있는 인스턴스의 일관성 해시 링으로 배분합니다.
+ * - 살아있는 인스턴스 = Eureka에 등록된 인스턴스 중 Redis 하트비트가 leaseTtl 안에 갱신된 인스턴스
+ *   (Eureka 목록은 캐시 때문에 늦게 반영되므로, 종료된 인스턴스는 하트비트로 더 빨리 제외합니다.)
+ * - 링에서 담당으로 정해진 샤드라도 Redis 리스를 획득한 뒤에만 처리합니다.
+ *   인스턴스마다 목록이 잠시 다르게 보이더라도 한 샤드는 한 인스턴스만 처리하며,
+ *   담당에서 빠진 샤드는 즉시 반납하고, 종료된 인스턴스의 리스는 만료 후 새 담당 인스턴스가 가져갑니다.
+ * - 샤드가 겹치는 순간이 있더라도 유저 선점은 claimPair 스크립트로 원자적이므로 중복 매칭은 생기지 않습니다.
+ * - 트레이드오프: 샤드는 userId 해시로 정해지므로 다른 인스턴스에 배분된 유저끼리는 평소 서로 후보가 되지 않습니다.
+ *   인스턴스가 N개이면 유저마다 후보 풀이 약 1/N로 줄어, 잘 맞는 상대가 다른 인스턴스에 있으면 더 낮은 점수로 매칭되거나 더 오래 기다립니다.
+ * - 이를 보완하기 위해 crossShardAfterMillis 이상 매칭되지 않은 유저는 모든 인스턴스의 매칭 주기에 포함합니다. (샤드 간 매칭)
+ *   여러 인스턴스가 같은 유저를 동시에 고르면 claimPair로 한 곳만 선점하고, 나머지 인스턴스는 해당 쌍만 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class MatchShardManager {
+    private final RedisService redisService;
+    private final MatchInstanceRegistry instanceRegistry;
+    private final boolean enabled;
+    private final int shardCount;
+    private final long leaseTtlMillis;
+    private final int virtualNodes;
+    private final long crossShardAfterMillis;
+    private final long[] shardHashes;
+
+    // 리스를 가진 샤드 (refresh 전에는 아무 샤드도 처리하지 않음)
+    private volatile boolean[] ownedShards;
+    private Set<String> liveInstances = Set.of();
+
+    public MatchShardManager(RedisService redisService,
+                             MatchInstanceRegistry instanceRegistry,
+                             @Value("${match.shard.enabled:true}") boolean enabled,
+                             @Value("${match.shard.count:32}") int shardCount,
+                             @Value("${match.shard.lease-ttl-millis:15000}") long leaseTtlMillis,
+                             @Value("${match.shard.virtual-nodes:128}") int virtualNodes,
+                             @Value("${match.shard.cross-shard-after-millis:120000}") long crossShardAfterMillis) {
+        this.redisService = redisService;
+        this.instanceRegistry = instanceRegistry;
+        this.enabled = enabled;
+        this.shardCount = shardCount;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.virtualNodes = virtualNodes;
+        this.crossShardAfterMillis = crossShardAfterMillis;
+        this.shardHashes = new long[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardHashes[shard] = ConsistentHashRing.hash("shard:" + shard);
+        }
+        this.ownedShards = new boolean[shardCount];
+    }
+
+    /**
+     * 하트비트를 남기고, 살아있는 인스턴스 기준으로 담당 샤드를 다시 계산해 리스를 반납/획득/갱신합니다.
+     * 매칭 주기마다 호출하며, 리스 유지 시간은 매칭 주기보다 충분히 길어야 합니다.
+     */
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        String self = instanceRegistry.localInstanceId();
+        Set<String> live = new TreeSet<>(
+                redisService.heartbeatShardInstance(self, Instant.now().toEpochMilli(), leaseTtlMillis));
+        // Eureka 목록을 받을 수 있으면 등록된 인스턴스만 사용 (조회 실패 시 하트비트만으로 판단)
+        Set<String> registered = instanceRegistry.registeredInstanceIds();
+        if (!registered.isEmpty()) {
+            live.retainAll(registered);
+        }
+        live.add(self);
+
+        ConsistentHashRing ring = new ConsistentHashRing(live, virtualNodes);
+        boolean[] previous = ownedShards;
+        List<Integer> desired = new ArrayList<>();
+        List<Integer> released = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (self.equals(ring.ownerOf(shardHashes[shard]))) {
+                desired.add(shard);
+            } else if (previous[shard]) {
+                released.add(shard);
+            }
+        }
+        // 담당에서 빠진 샤드는 바로 반납해 새 담당 인스턴스가 리스 만료를 기다리지 않도록 함
+        redisService.releaseShardLeases(self, released);
+
+        boolean[] owned = new boolean[shardCount];
+        int ownedCount = 0;
+        for (int shard : redisService.acquireShardLeases(self, desired, leaseTtlMillis)) {
+            owned[shard] = true;
+            ownedCount++;
+        }
+        if (!live.equals(liveInstances) || !released.isEmpty() || ownedCount != desired.size()) {
+            log.info("매칭 샤드 재분배: 인스턴스 {}개, 담당 샤드 {}개 중 리스 획득 {}개, 반납 {}개",
+                    live.size(), desired.size(), ownedCount, released.size());
+        }
+        liveInstances = live;
+        ownedShards = owned;
+    }
+
+    /**
+     * 이 인스턴스가 리스를 가진 샤드의 유저인지 확인합니다. 샤딩을 끄면 모든 유저를 처리합니다.
+     */
+    public boolean owns(String userId) {
+        return !enabled || ownedShards[shardOf(userId)];
+    }
+
+    /**
+     * 이번 매칭 주기 후보에 넣을 유저인지 확인합니다.
+     * 담당 샤드의 유저와, 다른 샤드 유저 중 crossShardAfterMillis 이상 기다린 유저를 포함합니다. (0이면 샤드 간 매칭 안 함)
+     */
+    public boolean includesInTick(String userId, long waitMillis) {
+        return owns(userId) || (crossShardAfterMillis > 0 && waitMillis >= crossShardAfterMillis);
+    }
+
+    /**
+     * 유저 ID 중 이 인스턴스가 처리할 유저만 순서를 유지하여 반환합니다.
+     */
+    public Set<String> filterOwned(Collection<String> userIds) {
+        Set<String> owned = new LinkedHashSet<>();
+        for (String userId : userIds) {
+            if (owns(userId)) {
+                owned.add(userId);
+            }
+        }
+        return owned;
+    }
+
+    public int shardOf(String userId) {
+        return (int) Long.remainderUnsigned(ConsistentHashRing.hash(userId), shardCount);
+    }
+
+    /**
+     * 현재 리스를 가진 샤드 번호 목록
+     */
+    public List<Integer> ownedShards() {
+        boolean[] owned = ownedShards;
+        List<Integer> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (!enabled || owned[shard]) {
+                shards.add(shard);
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * 종료 시 리스와 하트비트를 정리해 다른 인스턴스가 바로 샤드를 넘겨받도록 합니다.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        String self = instanceRegistry.localInstanceId();
+        redisService.releaseShardLeases(self, ownedShards());
+        redisService.removeShardInstance(self);
+        ownedShards = new boolean[shardCount];
+        log.info("매칭 샤드 리스 반납 완료: {}", self);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.match.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * 매칭 수락 타임아웃 처리
+ * - 타임아웃은 Redis ZSET(match:timeouts, score: 마감 시각)에 저장되므로 재시작 후에도 유지되고,
+ *   대기 중인 매칭 수와 관계없이 인스턴스 메모리를 쓰지 않습니다.
+ * - MatchTimer로 pollInterval마다 마감된 타임아웃을 batchSize개씩 가져가 처리합니다.
+ *   폴링이 끝난 뒤 다음 폴링을 예약하므로 한 번에 하나의 폴링만 실행됩니다.
+ * - 가져갈 때 마감 시각을 processingLease만큼 미뤄 두고 처리가 끝나면 제거하므로,
+ *   여러 인스턴스가 함께 폴링해도 한 타임아웃은 한 인스턴스만 처리하며, 처리 중 죽은 인스턴스의 몫은 유예 후 다시 처리됩니다.
+ */
+@Slf4j
+@Component
+public class MatchTimeoutPoller {
+    private static final String POLL_KEY = "match-timeout-poll";
+
+    private final RedisService redisService;
+    private final MatchProcessor matchProcessor;
+    private final MatchTimer matchTimer;
+    private final Clock clock;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final long processingLeaseMillis;
+    private volatile boolean running;
+
+    public MatchTimeoutPoller(RedisService redisService,
+                              MatchProcessor matchProcessor,
+                              MatchTimer matchTimer,
+                              Clock clock,
+                              @Value("${match.timeout.poll-interval-millis:500}") long pollIntervalMillis,
+                              @Value("${match.timeout.batch-size:100}") int batchSize,
+                              @Value("${match.timeout.processing-lease-millis:30000}") long processingLeaseMillis) {
+        this.redisService = redisService;
+        this.matchProcessor = matchProcessor;
+        this.matchTimer = matchTimer;
+        this.clock = clock;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.processingLeaseMillis = processingLeaseMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        matchTimer.schedule(POLL_KEY, pollIntervalMillis, this::pollSafely);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        matchTimer.cancel(POLL_KEY);
+    }
+
+    /**
+     * 현재 시각까지 마감된 타임아웃을 모두 처리합니다.
+     * 처리에 실패한 타임아웃은 남겨 두어 processingLease 후 다시 처리합니다.
+     *
+     * @return 처리를 마친 타임아웃 수
+     */
+    public int poll() {
+        int processed = 0;
+        List<String> due;
+        do {
+            due = redisService.claimDueMatchTimeouts(clock.millis(), batchSize, processingLeaseMillis);
+            for (String matchId : due) {
+                try {
+                    matchProcessor.handleAcceptanceTimeout(matchId);
+                    redisService.cancelMatchTimeout(matchId);
+                    processed++;
+                } catch (Exception e) {
+                    log.error("매칭 {} 수락 타임아웃 처리 실패, {}ms 후 재시도", matchId, processingLeaseMillis, e);
+                }
+            }
+        } while (due.size() == batchSize);
+        return processed;
+    }
+
+    private void pollSafely() {
+        try {
+            int processed = poll();
+            if (processed > 0) {
+                log.info("매칭 수락 타임아웃 {}건 처리", processed);
+            }
+        } catch (Exception e) {
+            log.error("매칭 수락 타임아웃 폴링 실패", e);
+        } finally {
+            if (running) {
+                matchTimer.schedule(POLL_KEY, pollIntervalMillis, this::pollSafely);
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.match.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Match 서비스 전용 지연 작업 타이머 (hashed wheel)
+ * - tickMillis 간격의 칸 wheelSize개로 이루어진 바퀴에 작업을 마감 시각 기준으로 넣고, 타이머 스레드가 한 칸씩 돌며 시간이 된 작업을 실행합니다.
+ * - 예약/취소는 칸의 연결 리스트에 넣고 빼기만 하므로 대기 작업 수와 관계없이 O(1)이며, 정밀도는 tickMillis 단위입니다.
+ * - 작업은 키로 구분합니다. 같은 키로 다시 예약하면 이전 작업을 대체하고, 키로 바로 취소할 수 있습니다.
+ * - 대기 작업은 maxPending개까지만 받고, 넘치면 RejectedExecutionException을 던집니다.
+ * - 시간이 된 작업은 타이머 스레드가 아닌 executor에서 실행하므로, 느린 작업이 다른 작업의 실행 시각을 밀지 않습니다.
+ * - 지표: match.timer.pending (대기 작업 수), match.timer.lateness (마감 시각 대비 실행 지연), match.timer.rejected (거부 수)
+ */
+@Slf4j
+@Component
+public class MatchTimer {
+    private final Executor executor;
+    private final long tickNanos;
+    private final int mask;
+    private final int maxPending;
+    private final Bucket[] wheel;
+    private final Map<String, Timeout> pending = new HashMap<>();
+    private final Timer lateness;
+    private final Counter rejected;
+
+    private Thread worker;
+    private volatile boolean running;
+    private long startNanos;
+    // 다음에 처리할 칸 번호 (바퀴를 돈 횟수를 포함한 누적 값)
+    private long tick;
+
+    public MatchTimer(MeterRegistry meterRegistry,
+                      @Qualifier("matchTimerExecutor") Executor executor,
+                      @Value("${match.timer.tick-millis:100}") long tickMillis,
+                      @Value("${match.timer.wheel-size:512}") int wheelSize,
+                      @Value("${match.timer.max-pending:200000}") int maxPending) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.executor = executor;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = wheelSize - 1;
+        this.maxPending = maxPending;
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        Gauge.builder("match.timer.pending", this, MatchTimer::pendingCount)
+                .description("Match 타이머 대기 작업 수")
+                .register(meterRegistry);
+        this.lateness = Timer.builder("match.timer.lateness")
+                .description("Match 타이머 작업의 마감 시각 대비 실행 지연")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("match.timer.rejected")
+                .description("대기 작업 한도 초과로 거부된 예약 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startNanos = System.nanoTime();
+        tick = 0;
+        worker = new Thread(this::run, "MatchTimer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    /**
+     * delayMillis 후 task를 실행하도록 예약합니다. 같은 키의 대기 작업이 있으면 대체합니다.
+     *
+     * @throws RejectedExecutionException 대기 작업이 maxPending개를 넘은 경우
+     * @throws IllegalStateException 타이머가 시작 전이거나 종료된 경우
+     */
+    public synchronized void schedule(String key, long delayMillis, Runnable task) {
+        if (!running) {
+            throw new IllegalStateException("Match 타이머가 실행 중이 아닙니다.");
+        }
+        Timeout previous = pending.remove(key);
+        if (previous != null) {
+            previous.unlink();
+        } else if (pending.size() >= maxPending) {
+            rejected.increment();
+            throw new RejectedExecutionException("Match 타이머 대기 작업 한도 초과: " + maxPending);
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        // 마감 시각이 속한 칸 다음 칸에서 실행 (너무 이르게 실행되지 않도록 올림)
+        long deadlineTick = Math.max(tick, (deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+        Timeout timeout = new Timeout(key, task, deadlineNanos, (deadlineTick - tick) / wheel.length);
+        wheel[(int) (deadlineTick & mask)].add(timeout);
+        pending.put(key, timeout);
+    }
+
+    /**
+     * 대기 중인 작업을 취소합니다.
+     *
+     * @return 취소된 작업이 있으면 true
+     */
+    public synchronized boolean cancel(String key) {
+        Timeout timeout = pending.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.unlink();
+        return true;
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickNanos = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = nextTickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            for (Timeout timeout : expire()) {
+                fire(timeout);
+            }
+        }
+    }
+
+    /**
+     * 현재 칸에서 시간이 된 작업을 꺼내고 다음 칸으로 넘어갑니다.
+     */
+    private synchronized List<Timeout> expire() {
+        List<Timeout> expired = new ArrayList<>();
+        Bucket bucket = wheel[(int) (tick & mask)];
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.remainingRounds <= 0) {
+                timeout.unlink();
+                pending.remove(timeout.key);
+                expired.add(timeout);
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+        tick++;
+        return expired;
+    }
+
+    private void fire(Timeout timeout) {
+        lateness.record(Math.max(0, System.nanoTime() - timeout.deadlineNanos), TimeUnit.NANOSECONDS);
+        try {
+            executor.execute(() -> {
+                try {
+                    timeout.task.run();
+                } catch (Exception e) {
+                    log.error("Match 타이머 작업 실패: {}", timeout.key, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.error("Match 타이머 작업 실행 거부: {}", timeout.key, e);
+        }
+    }
+
+    /**
+     * 한 칸에 속한 작업 목록 (이중 연결 리스트)
+     */
+    private static final class Bucket {
+        private Timeout head;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+    }
+
+    private static final class Timeout {
+        private final String key;
+        private final Runnable task;
+        private final long deadlineNanos;
+        // 실행 전 바퀴를 더 돌아야 하는 횟수
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(String key, Runnable task, long deadlineNanos, long remainingRounds) {
+            this.key = key;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.remainingRounds = remainingRounds;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+            } else {
+                bucket.head = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            prev = null;
+            next = null;
+            bucket = null;
+        }
+    }
+}
@@ -0,0 +1,662 @@
+package com.example.match.service;
+
+import java.util.Arrays;
+
+/**
+ * 일반 그래프의 최대 가중치 매칭 (Edmonds blossom 알고리즘, Galil의 O(n³) primal-dual 구현)
+ * - Joris van Rantwijk의 공개 구현(mwmatching)을 primitive 배열 기반으로 옮긴 것입니다.
+ * - 정수 가중치만 사용하여 부동소수점 오차 없이 dual 변수를 갱신합니다.
+ * - 인스턴스는 한 번의 계산에만 사용합니다.
+ */
+final class MaxWeightMatching {
+    private final int nvertex;
+    private final int nedge;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final long[] weight;
+
+    // endpoint[p]: 엣지 p / 2의 끝점 (p가 짝수면 from, 홀수면 to)
+    private final int[] endpoint;
+    // neighbend[v]: 정점 v에 연결된 엣지의 "반대쪽 끝점" 인덱스 목록
+    private final int[][] neighbend;
+
+    private final int[] mate;
+    private final int[] label;
+    private final int[] labelend;
+    private final int[] inblossom;
+    private final int[] blossomparent;
+    private final int[][] blossomchilds;
+    private final int[] blossombase;
+    private final int[][] blossomendps;
+    private final int[] bestedge;
+    private final int[][] blossombestedges;
+    private final int[] unusedblossoms;
+    private int unusedCount;
+    private final long[] dualvar;
+    private final boolean[] allowedge;
+    private int[] queue;
+    private int queueSize;
+
+    private MaxWeightMatching(int nvertex, int[] edgeFrom, int[] edgeTo, long[] weight) {
+        this.nvertex = nvertex;
+        this.nedge = edgeFrom.length;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.weight = weight;
+
+        long maxweight = 0;
+        for (long w : weight) {
+            maxweight = Math.max(maxweight, w);
+        }
+
+        this.endpoint = new int[2 * nedge];
+        int[] degree = new int[nvertex];
+        for (int k = 0; k < nedge; k++) {
+            endpoint[2 * k] = edgeFrom[k];
+            endpoint[2 * k + 1] = edgeTo[k];
+            degree[edgeFrom[k]]++;
+            degree[edgeTo[k]]++;
+        }
+        this.neighbend = new int[nvertex][];
+        for (int v = 0; v < nvertex; v++) {
+            neighbend[v] = new int[degree[v]];
+        }
+        int[] fill = new int[nvertex];
+        for (int k = 0; k < nedge; k++) {
+            neighbend[edgeFrom[k]][fill[edgeFrom[k]]++] = 2 * k + 1;
+            neighbend[edgeTo[k]][fill[edgeTo[k]]++] = 2 * k;
+        }
+
+        this.mate = new int[nvertex];
+        Arrays.fill(mate, -1);
+        this.label = new int[2 * nvertex];
+        this.labelend = new int[2 * nvertex];
+        Arrays.fill(labelend, -1);
+        this.inblossom = new int[nvertex];
+        for (int v = 0; v < nvertex; v++) {
+            inblossom[v] = v;
+        }
+        this.blossomparent = new int[2 * nvertex];
+        Arrays.fill(blossomparent, -1);
+        this.blossomchilds = new int[2 * nvertex][];
+        this.blossombase = new int[2 * nvertex];
+        for (int v = 0; v < 2 * nvertex; v++) {
+            blossombase[v] = v < nvertex ? v : -1;
+        }
+        this.blossomendps = new int[2 * nvertex][];
+        this.bestedge = new int[2 * nvertex];
+        Arrays.fill(bestedge, -1);
+        this.blossombestedges = new int[2 * nvertex][];
+        this.unusedblossoms = new int[nvertex];
+        for (int b = 0; b < nvertex; b++) {
+            unusedblossoms[b] = nvertex + b;
+        }
+        this.unusedCount = nvertex;
+        this.dualvar = new long[2 * nvertex];
+        for (int v = 0; v < nvertex; v++) {
+            dualvar[v] = maxweight;
+        }
+        this.allowedge = new boolean[nedge];
+        this.queue = new int[Math.max(16, nvertex)];
+    }
+
+    /**
+     * 최대 가중치 매칭을 계산합니다.
+     *
+     * @param vertexCount 정점 수
+     * @param edgeFrom 엣지 시작 정점
+     * @param edgeTo 엣지 끝 정점 (edgeFrom과 달라야 함)
+     * @param weight 엣지 가중치 (정수)
+     * @return mate 배열: mate[v]는 v와 매칭된 정점, 매칭되지 않았으면 -1
+     */
+    static int[] solve(int vertexCount, int[] edgeFrom, int[] edgeTo, long[] weight) {
+        if (vertexCount == 0 || edgeFrom.length == 0) {
+            int[] mate = new int[vertexCount];
+            Arrays.fill(mate, -1);
+            return mate;
+        }
+        return new MaxWeightMatching(vertexCount, edgeFrom, edgeTo, weight).run();
+    }
+
+    private long slack(int k) {
+        return dualvar[edgeFrom[k]] + dualvar[edgeTo[k]] - 2 * weight[k];
+    }
+
+    private void enqueue(int v) {
+        if (queueSize == queue.length) {
+            queue = Arrays.copyOf(queue, queueSize * 2);
+        }
+        queue[queueSize++] = v;
+    }
+
+    /**
+     * blossom b에 속한 모든 정점(leaf)을 반환합니다.
+     */
+    private int[] blossomLeaves(int b) {
+        if (b < nvertex) {
+            return new int[]{b};
+        }
+        IntBuffer leaves = new IntBuffer();
+        collectLeaves(b, leaves);
+        return leaves.toArray();
+    }
+
+    private void collectLeaves(int b, IntBuffer leaves) {
+        for (int t : blossomchilds[b]) {
+            if (t < nvertex) {
+                leaves.add(t);
+            } else {
+                collectLeaves(t, leaves);
+            }
+        }
+    }
+
+    /**
+     * 정점 w (및 w를 포함한 최상위 blossom)에 라벨 t를 붙입니다. p는 라벨을 얻게 된 엣지의 끝점입니다.
+     */
+    private void assignLabel(int w, int t, int p) {
+        int b = inblossom[w];
+        label[w] = label[b] = t;
+        labelend[w] = labelend[b] = p;
+        bestedge[w] = bestedge[b] = -1;
+        if (t == 1) {
+            for (int v : blossomLeaves(b)) {
+                enqueue(v);
+            }
+        } else if (t == 2) {
+            int base = blossombase[b];
+            assignLabel(endpoint[mate[base]], 1, mate[base] ^ 1);
+        }
+    }
+
+    /**
+     * v와 w에서 트리를 거슬러 올라가 새 blossom의 base를 찾습니다. 증가 경로를 찾은 경우 -1을 반환합니다.
+     */
+    private int scanBlossom(int v, int w) {
+        IntBuffer path = new IntBuffer();
+        int base = -1;
+        while (v != -1 || w != -1) {
+            int b = inblossom[v];
+            if ((label[b] & 4) != 0) {
+                base = blossombase[b];
+                break;
+            }
+            path.add(b);
+            label[b] = 5;
+            if (labelend[b] == -1) {
+                v = -1;
+            } else {
+                v = endpoint[labelend[b]];
+                b = inblossom[v];
+                v = endpoint[labelend[b]];
+            }
+            if (w != -1) {
+                int tmp = v;
+                v = w;
+                w = tmp;
+            }
+        }
+        for (int i = 0; i < path.size; i++) {
+            label[path.data[i]] = 1;
+        }
+        return base;
+    }
+
+    /**
+     * 엣지 k로 닫히는 홀수 사이클을 base를 기준으로 새 blossom으로 묶습니다.
+     */
+    private void addBlossom(int base, int k) {
+        int v = edgeFrom[k];
+        int w = edgeTo[k];
+        int bb = inblossom[base];
+        int bv = inblossom[v];
+        int bw = inblossom[w];
+        int b = unusedblossoms[--unusedCount];
+        blossombase[b] = base;
+        blossomparent[b] = -1;
+        blossomparent[bb] = b;
+
+        IntBuffer path = new IntBuffer();
+        IntBuffer endps = new IntBuffer();
+        while (bv != bb) {
+            blossomparent[bv] = b;
+            path.add(bv);
+            endps.add(labelend[bv]);
+            v = endpoint[labelend[bv]];
+            bv = inblossom[v];
+        }
+        path.add(bb);
+        path.reverse();
+        endps.reverse();
+        endps.add(2 * k);
+        while (bw != bb) {
+            blossomparent[bw] = b;
+            path.add(bw);
+            endps.add(labelend[bw] ^ 1);
+            w = endpoint[labelend[bw]];
+            bw = inblossom[w];
+        }
+        blossomchilds[b] = path.toArray();
+        blossomendps[b] = endps.toArray();
+
+        label[b] = 1;
+        labelend[b] = labelend[bb];
+        dualvar[b] = 0;
+        for (int leaf : blossomLeaves(b)) {
+            if (label[inblossom[leaf]] == 2) {
+                enqueue(leaf);
+            }
+            inblossom[leaf] = b;
+        }
+
+        // 새 blossom에서 이웃 S-blossom으로 가는 최소 slack 엣지 계산
+        int[] bestedgeto = new int[2 * nvertex];
+        Arrays.fill(bestedgeto, -1);
+        for (int child : blossomchilds[b]) {
+            int[][] nblists;
+            if (blossombestedges[child] == null) {
+                int[] leaves = blossomLeaves(child);
+                nblists = new int[leaves.length][];
+                for (int l = 0; l < leaves.length; l++) {
+                    int[] ends = neighbend[leaves[l]];
+                    int[] edges = new int[ends.length];
+                    for (int e = 0; e < ends.length; e++) {
+                        edges[e] = ends[e] / 2;
+                    }
+                    nblists[l] = edges;
+                }
+            } else {
+                nblists = new int[][]{blossombestedges[child]};
+            }
+            for (int[] nblist : nblists) {
+                for (int edge : nblist) {
+                    int i = edgeFrom[edge];
+                    int j = edgeTo[edge];
+                    if (inblossom[j] == b) {
+                        j = i;
+                    }
+                    int bj = inblossom[j];
+                    if (bj != b && label[bj] == 1
+                            && (bestedgeto[bj] == -1 || slack(edge) < slack(bestedgeto[bj]))) {
+                        bestedgeto[bj] = edge;
+                    }
+                }
+            }
+            blossombestedges[child] = null;
+            bestedge[child] = -1;
+        }
+        IntBuffer best = new IntBuffer();
+        for (int edge : bestedgeto) {
+            if (edge != -1) {
+                best.add(edge);
+            }
+        }
+        blossombestedges[b] = best.toArray();
+        bestedge[b] = -1;
+        for (int edge : blossombestedges[b]) {
+            if (bestedge[b] == -1 || slack(edge) < slack(bestedge[b])) {
+                bestedge[b] = edge;
+            }
+        }
+    }
+
+    /**
+     * blossom b를 해체합니다. endstage가 true면 dual 값이 0인 하위 blossom도 재귀적으로 해체합니다.
+     */
+    private void expandBlossom(int b, boolean endstage) {
+        for (int s : blossomchilds[b]) {
+            blossomparent[s] = -1;
+            if (s < nvertex) {
+                inblossom[s] = s;
+            } else if (endstage && dualvar[s] == 0) {
+                expandBlossom(s, endstage);
+            } else {
+                for (int leaf : blossomLeaves(s)) {
+                    inblossom[leaf] = s;
+                }
+            }
+        }
+
+        if (!endstage && label[b] == 2) {
+            // T-blossom을 해체하는 경우, 트리 구조를 유지하도록 하위 blossom에 라벨을 다시 붙임
+            int[] childs = blossomchilds[b];
+            int[] endps = blossomendps[b];
+            int len = childs.length;
+            int entrychild = inblossom[endpoint[labelend[b] ^ 1]];
+            int j = indexOf(childs, entrychild);
+            int jstep;
+            int endptrick;
+            if ((j & 1) != 0) {
+                j -= len;
+                jstep = 1;
+                endptrick = 0;
+            } else {
+                jstep = -1;
+                endptrick = 1;
+            }
+            int p = labelend[b];
+            while (j != 0) {
+                label[endpoint[p ^ 1]] = 0;
+                label[endpoint[endps[mod(j - endptrick, len)] ^ endptrick ^ 1]] = 0;
+                assignLabel(endpoint[p ^ 1], 2, p);
+                allowedge[endps[mod(j - endptrick, len)] / 2] = true;
+                j += jstep;
+                p = endps[mod(j - endptrick, len)] ^ endptrick;
+                allowedge[p / 2] = true;
+                j += jstep;
+            }
+            int bv = childs[mod(j, len)];
+            label[endpoint[p ^ 1]] = label[bv] = 2;
+            labelend[endpoint[p ^ 1]] = labelend[bv] = p;
+            bestedge[bv] = -1;
+            j += jstep;
+            while (childs[mod(j, len)] != entrychild) {
+                bv = childs[mod(j, len)];
+                if (label[bv] == 1) {
+                    j += jstep;
+                    continue;
+                }
+                int labeled = -1;
+                for (int leaf : blossomLeaves(bv)) {
+                    if (label[leaf] != 0) {
+                        labeled = leaf;
+                        break;
+                    }
+                }
+                if (labeled != -1) {
+                    label[labeled] = 0;
+                    label[endpoint[mate[blossombase[bv]]]] = 0;
+                    assignLabel(labeled, 2, labelend[labeled]);
+                }
+                j += jstep;
+            }
+        }
+
+        label[b] = labelend[b] = -1;
+        blossomchilds[b] = null;
+        blossomendps[b] = null;
+        blossombase[b] = -1;
+        blossombestedges[b] = null;
+        bestedge[b] = -1;
+        unusedblossoms[unusedCount++] = b;
+    }
+
+    /**
+     * blossom b 안에서 정점 v까지의 경로를 따라 매칭을 뒤집고, v가 새 base가 되도록 자식 순서를 회전합니다.
+     */
+    private void augmentBlossom(int b, int v) {
+        int t = v;
+        while (blossomparent[t] != b) {
+            t = blossomparent[t];
+        }
+        if (t >= nvertex) {
+            augmentBlossom(t, v);
+        }
+        int[] childs = blossomchilds[b];
+        int[] endps = blossomendps[b];
+        int len = childs.length;
+        int i = indexOf(childs, t);
+        int j = i;
+        int jstep;
+        int endptrick;
+        if ((i & 1) != 0) {
+            j -= len;
+            jstep = 1;
+            endptrick = 0;
+        } else {
+            jstep = -1;
+            endptrick = 1;
+        }
+        while (j != 0) {
+            j += jstep;
+            t = childs[mod(j, len)];
+            int p = endps[mod(j - endptrick, len)] ^ endptrick;
+            if (t >= nvertex) {
+                augmentBlossom(t, endpoint[p]);
+            }
+            j += jstep;
+            t = childs[mod(j, len)];
+            if (t >= nvertex) {
+                augmentBlossom(t, endpoint[p ^ 1]);
+            }
+            mate[endpoint[p]] = p ^ 1;
+            mate[endpoint[p ^ 1]] = p;
+        }
+        blossomchilds[b] = rotate(childs, i);
+        blossomendps[b] = rotate(endps, i);
+        blossombase[b] = blossombase[blossomchilds[b][0]];
+    }
+
+    /**
+     * 엣지 k를 통해 두 트리의 루트를 잇는 증가 경로를 따라 매칭을 뒤집습니다.
+     */
+    private void augmentMatching(int k) {
+        int[][] starts = {{edgeFrom[k], 2 * k + 1}, {edgeTo[k], 2 * k}};
+        for (int[] start : starts) {
+            int s = start[0];
+            int p = start[1];
+            while (true) {
+                int bs = inblossom[s];
+                if (bs >= nvertex) {
+                    augmentBlossom(bs, s);
+                }
+                mate[s] = p;
+                if (labelend[bs] == -1) {
+                    break;
+                }
+                int t = endpoint[labelend[bs]];
+                int bt = inblossom[t];
+                s = endpoint[labelend[bt]];
+                int j = endpoint[labelend[bt] ^ 1];
+                if (bt >= nvertex) {
+                    augmentBlossom(bt, j);
+                }
+                mate[j] = labelend[bt];
+                p = labelend[bt] ^ 1;
+            }
+        }
+    }
+
+    private int[] run() {
+        for (int stage = 0; stage < nvertex; stage++) {
+            Arrays.fill(label, 0);
+            Arrays.fill(bestedge, -1);
+            for (int b = nvertex; b < 2 * nvertex; b++) {
+                blossombestedges[b] = null;
+            }
+            Arrays.fill(allowedge, false);
+            queueSize = 0;
+
+            for (int v = 0; v < nvertex; v++) {
+                if (mate[v] == -1 && label[inblossom[v]] == 0) {
+                    assignLabel(v, 1, -1);
+                }
+            }
+
+            boolean augmented = false;
+            while (true) {
+                while (queueSize > 0 && !augmented) {
+                    int v = queue[--queueSize];
+                    for (int p : neighbend[v]) {
+                        int k = p / 2;
+                        int w = endpoint[p];
+                        if (inblossom[v] == inblossom[w]) {
+                            continue;
+                        }
+                        long kslack = 0;
+                        if (!allowedge[k]) {
+                            kslack = slack(k);
+                            if (kslack <= 0) {
+                                allowedge[k] = true;
+                            }
+                        }
+                        if (allowedge[k]) {
+                            if (label[inblossom[w]] == 0) {
+                                assignLabel(w, 2, p ^ 1);
+                            } else if (label[inblossom[w]] == 1) {
+                                int base = scanBlossom(v, w);
+                                if (base >= 0) {
+                                    addBlossom(base, k);
+                                } else {
+                                    augmentMatching(k);
+                                    augmented = true;
+                                    break;
+                                }
+                            } else if (label[w] == 0) {
+                                label[w] = 2;
+                                labelend[w] = p ^ 1;
+                            }
+                        } else if (label[inblossom[w]] == 1) {
+                            int b = inblossom[v];
+                            if (bestedge[b] == -1 || kslack < slack(bestedge[b])) {
+                                bestedge[b] = k;
+                            }
+                        } else if (label[w] == 0) {
+                            if (bestedge[w] == -1 || kslack < slack(bestedge[w])) {
+                                bestedge[w] = k;
+                            }
+                        }
+                    }
+                }
+                if (augmented) {
+                    break;
+                }
+
+                // dual 변수 조정량(delta) 계산
+                int deltatype = 1;
+                long delta = Long.MAX_VALUE;
+                int deltaedge = -1;
+                int deltablossom = -1;
+                for (int v = 0; v < nvertex; v++) {
+                    delta = Math.min(delta, dualvar[v]);
+                }
+                for (int v = 0; v < nvertex; v++) {
+                    if (label[inblossom[v]] == 0 && bestedge[v] != -1) {
+                        long d = slack(bestedge[v]);
+                        if (d < delta) {
+                            delta = d;
+                            deltatype = 2;
+                            deltaedge = bestedge[v];
+                        }
+                    }
+                }
+                for (int b = 0; b < 2 * nvertex; b++) {
+                    if (blossomparent[b] == -1 && label[b] == 1 && bestedge[b] != -1) {
+                        long d = slack(bestedge[b]) / 2;
+                        if (d < delta) {
+                            delta = d;
+                            deltatype = 3;
+                            deltaedge = bestedge[b];
+                        }
+                    }
+                }
+                for (int b = nvertex; b < 2 * nvertex; b++) {
+                    if (blossombase[b] >= 0 && blossomparent[b] == -1 && label[b] == 2 && dualvar[b] < delta) {
+                        delta = dualvar[b];
+                        deltatype = 4;
+                        deltablossom = b;
+                    }
+                }
+
+                for (int v = 0; v < nvertex; v++) {
+                    if (label[inblossom[v]] == 1) {
+                        dualvar[v] -= delta;
+                    } else if (label[inblossom[v]] == 2) {
+                        dualvar[v] += delta;
+                    }
+                }
+                for (int b = nvertex; b < 2 * nvertex; b++) {
+                    if (blossombase[b] >= 0 && blossomparent[b] == -1) {
+                        if (label[b] == 1) {
+                            dualvar[b] += delta;
+                        } else if (label[b] == 2) {
+                            dualvar[b] -= delta;
+                        }
+                    }
+                }
+
+                if (deltatype == 1) {
+                    // 더 이상 개선할 수 없음 (최적)
+                    break;
+                } else if (deltatype == 2) {
+                    allowedge[deltaedge] = true;
+                    int i = edgeFrom[deltaedge];
+                    if (label[inblossom[i]] == 0) {
+                        i = edgeTo[deltaedge];
+                    }
+                    enqueue(i);
+                } else if (deltatype == 3) {
+                    allowedge[deltaedge] = true;
+                    enqueue(edgeFrom[deltaedge]);
+                } else {
+                    expandBlossom(deltablossom, false);
+                }
+            }
+
+            if (!augmented) {
+                break;
+            }
+
+            // stage 종료: dual 값이 0이 된 최상위 S-blossom 해체
+            for (int b = nvertex; b < 2 * nvertex; b++) {
+                if (blossomparent[b] == -1 && blossombase[b] >= 0 && label[b] == 1 && dualvar[b] == 0) {
+                    expandBlossom(b, true);
+                }
+            }
+        }
+
+        int[] result = new int[nvertex];
+        for (int v = 0; v < nvertex; v++) {
+            result[v] = mate[v] >= 0 ? endpoint[mate[v]] : -1;
+        }
+        return result;
+    }
+
+    private static int indexOf(int[] array, int value) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int mod(int index, int length) {
+        int r = index % length;
+        return r < 0 ? r + length : r;
+    }
+
+    private static int[] rotate(int[] array, int from) {
+        int[] rotated = new int[array.length];
+        System.arraycopy(array, from, rotated, 0, array.length - from);
+        System.arraycopy(array, 0, rotated, array.length - from, from);
+        return rotated;
+    }
+
+    /**
+     * blossom 구성 중 사용하는 가변 길이 int 버퍼
+     */
+    private static final class IntBuffer {
+        private int[] data = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        void reverse() {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int tmp = data[i];
+                data[i] = data[j];
+                data[j] = tmp;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
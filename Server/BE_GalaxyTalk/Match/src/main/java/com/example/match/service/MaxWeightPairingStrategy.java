@@ -0,0 +1,312 @@
+package com.example.match.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 매칭된 쌍의 composite score 총합을 최대화하는 전략
+ * - 후보 쌍에 포함된 유저 수가 exactLimit 이하이면 blossom 알고리즘으로 최적해를 구합니다.
+ * - 그보다 많으면 탐욕 선택 결과에서 출발해, 쌍을 교환(추가/분할)하여 총점이 늘어나는 동안
+ *   반복하는 지역 탐색으로 근사합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "match.pairing.strategy", havingValue = "max-weight", matchIfMissing = true)
+public class MaxWeightPairingStrategy implements PairingStrategy {
+    // blossom 알고리즘은 정수 가중치로 계산 (score × 10⁶)
+    private static final double WEIGHT_SCALE = 1_000_000.0;
+    private static final double MIN_GAIN = 1e-9;
+
+    private final int exactLimit;
+    private final int exactDegree;
+    private final int maxImprovePasses;
+
+    public MaxWeightPairingStrategy(@Value("${match.pairing.exact-limit:1000}") int exactLimit,
+                                    @Value("${match.pairing.exact-degree:20}") int exactDegree,
+                                    @Value("${match.pairing.improve-passes:5}") int maxImprovePasses) {
+        this.exactLimit = exactLimit;
+        this.exactDegree = exactDegree;
+        this.maxImprovePasses = maxImprovePasses;
+    }
+
+    @Override
+    public int[] select(int userCount, ScoredPairs candidates, boolean[] excluded) {
+        // 선택 가능한 후보 쌍에 등장하는 유저만 정점으로 압축
+        int[] vertexOf = new int[userCount];
+        Arrays.fill(vertexOf, -1);
+        int vertexCount = 0;
+        int edgeCount = 0;
+        for (int k = 0; k < candidates.size(); k++) {
+            if (isSelectable(candidates, k, excluded)) {
+                edgeCount++;
+                int i = candidates.first(k);
+                int j = candidates.second(k);
+                if (vertexOf[i] < 0) {
+                    vertexOf[i] = vertexCount++;
+                }
+                if (vertexOf[j] < 0) {
+                    vertexOf[j] = vertexCount++;
+                }
+            }
+        }
+        if (edgeCount == 0) {
+            return new int[0];
+        }
+
+        // 정점별 인접 후보 목록 (CSR)
+        int[] offsets = new int[vertexCount + 1];
+        for (int k = 0; k < candidates.size(); k++) {
+            if (isSelectable(candidates, k, excluded)) {
+                offsets[vertexOf[candidates.first(k)] + 1]++;
+                offsets[vertexOf[candidates.second(k)] + 1]++;
+            }
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] adjacent = new int[offsets[vertexCount]];
+        int[] fill = Arrays.copyOf(offsets, vertexCount);
+        for (int k = 0; k < candidates.size(); k++) {
+            if (isSelectable(candidates, k, excluded)) {
+                adjacent[fill[vertexOf[candidates.first(k)]]++] = k;
+                adjacent[fill[vertexOf[candidates.second(k)]]++] = k;
+            }
+        }
+
+        int[] matchedEdge = (vertexCount <= exactLimit)
+                ? solveExact(candidates, excluded, vertexOf, vertexCount, adjacent, offsets)
+                : solveApproximate(candidates, excluded, vertexOf, vertexCount, adjacent, offsets);
+
+        // 정점별 매칭 후보를 모아 점수 내림차순으로 반환
+        ScoredPairs selected = new ScoredPairs(vertexCount / 2 + 1);
+        int[] selectedIndex = new int[vertexCount / 2 + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            int k = matchedEdge[v];
+            if (k >= 0 && vertexOf[candidates.first(k)] == v) {
+                selectedIndex[selected.size()] = k;
+                selected.add(candidates.first(k), candidates.second(k), candidates.score(k));
+            }
+        }
+        int[] order = selected.indicesByScoreDesc();
+        int[] result = new int[order.length];
+        for (int r = 0; r < order.length; r++) {
+            result[r] = selectedIndex[order[r]];
+        }
+        return result;
+    }
+
+    /**
+     * blossom 알고리즘으로 최적 매칭을 구하고, 정점별로 매칭된 후보 인덱스를 반환합니다.
+     * 모든 쌍 후보처럼 엣지가 많으면 계산 시간이 엣지 수에 비례해 커지므로, 어느 한쪽 유저의
+     * 상위 exactDegree개 후보에 드는 쌍만 남겨 계산합니다. (최적 매칭은 거의 항상 상위 후보로만 구성됨)
+     */
+    private int[] solveExact(ScoredPairs candidates, boolean[] excluded, int[] vertexOf, int vertexCount,
+                             int[] adjacent, int[] offsets) {
+        // 정점별 exactDegree번째로 높은 후보 점수 (후보가 그보다 적으면 -∞)
+        double[] threshold = new double[vertexCount];
+        double[] scores = new double[0];
+        for (int v = 0; v < vertexCount; v++) {
+            int degree = offsets[v + 1] - offsets[v];
+            if (degree <= exactDegree) {
+                threshold[v] = Double.NEGATIVE_INFINITY;
+                continue;
+            }
+            if (scores.length < degree) {
+                scores = new double[degree];
+            }
+            for (int a = 0; a < degree; a++) {
+                scores[a] = candidates.score(adjacent[offsets[v] + a]);
+            }
+            Arrays.sort(scores, 0, degree);
+            threshold[v] = scores[degree - exactDegree];
+        }
+
+        int edgeCount = 0;
+        int[] candidateIndex = new int[candidates.size()];
+        for (int k = 0; k < candidates.size(); k++) {
+            if (isSelectable(candidates, k, excluded)
+                    && (candidates.score(k) >= threshold[vertexOf[candidates.first(k)]]
+                    || candidates.score(k) >= threshold[vertexOf[candidates.second(k)]])) {
+                candidateIndex[edgeCount++] = k;
+            }
+        }
+        int[] edgeFrom = new int[edgeCount];
+        int[] edgeTo = new int[edgeCount];
+        long[] weight = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            int k = candidateIndex[e];
+            edgeFrom[e] = vertexOf[candidates.first(k)];
+            edgeTo[e] = vertexOf[candidates.second(k)];
+            weight[e] = Math.round(candidates.score(k) * WEIGHT_SCALE);
+        }
+
+        int[] mate = MaxWeightMatching.solve(vertexCount, edgeFrom, edgeTo, weight);
+
+        // 같은 유저 쌍의 후보가 여러 개일 수 있으므로 매칭된 정점 쌍의 최고 점수 후보를 선택
+        int[] matchedEdge = new int[vertexCount];
+        Arrays.fill(matchedEdge, -1);
+        for (int e = 0; e < edgeCount; e++) {
+            int u = edgeFrom[e];
+            int v = edgeTo[e];
+            if (mate[u] == v) {
+                int k = candidateIndex[e];
+                if (matchedEdge[u] < 0 || candidates.score(k) > candidates.score(matchedEdge[u])) {
+                    matchedEdge[u] = k;
+                    matchedEdge[v] = k;
+                }
+            }
+        }
+        return matchedEdge;
+    }
+
+    /**
+     * 탐욕 선택 + 교환 지역 탐색으로 근사 매칭을 구하고, 정점별로 매칭된 후보 인덱스를 반환합니다.
+     * - 추가 교환: 매칭되지 않은 쌍 하나를 넣고, 두 유저의 기존 쌍을 해제 (점수 합이 늘어날 때)
+     * - 분할 교환: 매칭된 쌍 하나를 해제하고, 두 유저를 각각 비어 있는 다른 유저와 매칭 (점수 합이 늘어날 때)
+     */
+    private int[] solveApproximate(ScoredPairs candidates, boolean[] excluded, int[] vertexOf, int vertexCount,
+                                   int[] adjacent, int[] offsets) {
+        int[] order = candidates.indicesByScoreDesc();
+        int[] matchedEdge = new int[vertexCount];
+        Arrays.fill(matchedEdge, -1);
+        fillGreedy(candidates, excluded, vertexOf, order, matchedEdge);
+
+        for (int pass = 0; pass < maxImprovePasses; pass++) {
+            boolean improved = false;
+            for (int k : order) {
+                if (!isSelectable(candidates, k, excluded)) {
+                    continue;
+                }
+                int u = vertexOf[candidates.first(k)];
+                int v = vertexOf[candidates.second(k)];
+                int eu = matchedEdge[u];
+                int ev = matchedEdge[v];
+                if (eu == k || (eu >= 0 && eu == ev)) {
+                    continue;
+                }
+                double gain = candidates.score(k)
+                        - (eu >= 0 ? candidates.score(eu) : 0)
+                        - (ev >= 0 ? candidates.score(ev) : 0);
+                if (gain > MIN_GAIN) {
+                    // 기존 쌍을 해제하고 (u, v)를 매칭
+                    unmatch(candidates, vertexOf, matchedEdge, eu);
+                    unmatch(candidates, vertexOf, matchedEdge, ev);
+                    matchedEdge[u] = k;
+                    matchedEdge[v] = k;
+                    improved = true;
+                }
+            }
+            for (int u = 0; u < vertexCount; u++) {
+                int m = matchedEdge[u];
+                if (m < 0 || vertexOf[candidates.first(m)] != u) {
+                    continue;
+                }
+                int v = vertexOf[candidates.second(m)];
+                if (splitMatchedPair(candidates, vertexOf, matchedEdge, adjacent, offsets, m, u, v)) {
+                    improved = true;
+                }
+            }
+            if (!improved) {
+                break;
+            }
+            // 해제되어 남은 유저들끼리 다시 탐욕 선택
+            fillGreedy(candidates, excluded, vertexOf, order, matchedEdge);
+        }
+        log.debug("근사 최대 가중치 매칭: 정점 수={}", vertexCount);
+        return matchedEdge;
+    }
+
+    /**
+     * 매칭된 쌍 m = (u, v)를 해제하고 u, v를 각각 매칭되지 않은 다른 유저와 잇는 편이 점수 합이 크면 교환합니다.
+     */
+    private boolean splitMatchedPair(ScoredPairs candidates, int[] vertexOf, int[] matchedEdge,
+                                     int[] adjacent, int[] offsets, int m, int u, int v) {
+        // u, v 각각 비어 있는 상대로 가는 최고 / 차선 후보 (같은 상대를 고르는 경우 대비)
+        int[] bestU = bestFreeEdges(candidates, vertexOf, matchedEdge, adjacent, offsets, u);
+        int[] bestV = bestFreeEdges(candidates, vertexOf, matchedEdge, adjacent, offsets, v);
+        if (bestU[0] < 0 || bestV[0] < 0) {
+            return false;
+        }
+        int ku = bestU[0];
+        int kv = bestV[0];
+        if (other(candidates, vertexOf, ku, u) == other(candidates, vertexOf, kv, v)) {
+            double keepU = bestV[1] >= 0 ? candidates.score(ku) + candidates.score(bestV[1]) : -1;
+            double keepV = bestU[1] >= 0 ? candidates.score(bestU[1]) + candidates.score(kv) : -1;
+            if (keepU < 0 && keepV < 0) {
+                return false;
+            }
+            if (keepU >= keepV) {
+                kv = bestV[1];
+            } else {
+                ku = bestU[1];
+            }
+        }
+        if (candidates.score(ku) + candidates.score(kv) - candidates.score(m) <= MIN_GAIN) {
+            return false;
+        }
+        matchedEdge[other(candidates, vertexOf, ku, u)] = ku;
+        matchedEdge[u] = ku;
+        matchedEdge[other(candidates, vertexOf, kv, v)] = kv;
+        matchedEdge[v] = kv;
+        return true;
+    }
+
+    private int[] bestFreeEdges(ScoredPairs candidates, int[] vertexOf, int[] matchedEdge,
+                                int[] adjacent, int[] offsets, int u) {
+        int best = -1;
+        int second = -1;
+        for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+            int k = adjacent[a];
+            if (matchedEdge[other(candidates, vertexOf, k, u)] >= 0) {
+                continue;
+            }
+            if (best < 0 || candidates.score(k) > candidates.score(best)) {
+                second = best;
+                best = k;
+            } else if (second < 0 || candidates.score(k) > candidates.score(second)) {
+                second = k;
+            }
+        }
+        return new int[]{best, second};
+    }
+
+    private int other(ScoredPairs candidates, int[] vertexOf, int k, int u) {
+        int first = vertexOf[candidates.first(k)];
+        return first == u ? vertexOf[candidates.second(k)] : first;
+    }
+
+    private void fillGreedy(ScoredPairs candidates, boolean[] excluded, int[] vertexOf,
+                            int[] order, int[] matchedEdge) {
+        for (int k : order) {
+            if (!isSelectable(candidates, k, excluded)) {
+                continue;
+            }
+            int u = vertexOf[candidates.first(k)];
+            int v = vertexOf[candidates.second(k)];
+            if (matchedEdge[u] < 0 && matchedEdge[v] < 0) {
+                matchedEdge[u] = k;
+                matchedEdge[v] = k;
+            }
+        }
+    }
+
+    private void unmatch(ScoredPairs candidates, int[] vertexOf, int[] matchedEdge, int k) {
+        if (k >= 0) {
+            matchedEdge[vertexOf[candidates.first(k)]] = -1;
+            matchedEdge[vertexOf[candidates.second(k)]] = -1;
+        }
+    }
+
+    /**
+     * 두 유저 모두 선택 가능하고 점수가 양수인 후보인지 확인합니다. (점수 0 이하의 쌍은 총점을 늘리지 않음)
+     */
+    private boolean isSelectable(ScoredPairs candidates, int k, boolean[] excluded) {
+        int i = candidates.first(k);
+        int j = candidates.second(k);
+        return i != j && !excluded[i] && !excluded[j] && candidates.score(k) > 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.match.service;
+
+/**
+ * 매칭 주기 내 유저 인덱스 쌍 (i, j)의 점수 계산 함수
+ * - 후보에서 제외해야 하는 쌍(거절 이력 등)은 NaN을 반환합니다.
+ * - 병렬로 호출될 수 있으므로 구현은 스레드 안전해야 합니다.
+ */
+@FunctionalInterface
+public interface PairScorer {
+    double score(int i, int j);
+}
@@ -0,0 +1,19 @@
+package com.example.match.service;
+
+/**
+ * 후보 쌍 중 실제로 매칭할 쌍을 고르는 전략
+ * - 한 유저는 최대 한 쌍에만 선택됩니다.
+ * - match.pairing.strategy 설정으로 구현체를 선택합니다. (greedy / max-weight)
+ */
+public interface PairingStrategy {
+
+    /**
+     * 서로 겹치지 않는 쌍을 선택하여, 선택된 후보의 인덱스를 점수 내림차순으로 반환합니다.
+     * 매칭 주기는 반환 순서대로 상태 전환(claim)을 시도합니다.
+     *
+     * @param userCount 유저 인덱스 범위 (0 ~ userCount - 1)
+     * @param candidates 후보 쌍과 composite score
+     * @param excluded excluded[i]가 true인 유저가 포함된 쌍은 선택하지 않음 (이전 단계에서 매칭된 유저)
+     */
+    int[] select(int userCount, ScoredPairs candidates, boolean[] excluded);
+}
@@ -0,0 +1,138 @@
+package com.example.match.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 매칭 주기의 relaxed 후보 쌍 점수 계산 병렬 처리
+ * - 대기 인원이 parallelThreshold 이상이면 쌍 목록을 블록으로 나눠 전용 ForkJoinPool(pairScoringExecutor)에서 병렬 계산합니다.
+ *   블록 수는 parallelism × BLOCKS_PER_THREAD이며, 작업 큐에 한도가 없는 풀이므로 코어 수가 많아도 작업이 거부되지 않습니다.
+ *   (모든 쌍: 쌍 개수가 고르도록 나눈 행 블록, 후보 쌍 목록: 같은 길이의 구간)
+ * - 블록마다 별도 ScoredPairs(primitive 배열)에 결과를 모은 뒤 블록 순서대로 합치므로,
+ *   결과 순서가 한 스레드에서 계산한 것과 같아 쌍 선택 결과도 달라지지 않습니다.
+ * - 인원이 적으면 작업 분배 비용이 더 크므로 호출 스레드에서 바로 계산합니다.
+ */
+@Component
+public class ParallelPairScorer {
+    // 쌍마다 계산 비용이 달라(거절/strict 쌍은 바로 제외) 스레드당 블록을 여러 개 두어 먼저 끝난 스레드가 나머지를 처리
+    private static final int BLOCKS_PER_THREAD = 4;
+
+    private final Executor pairScoringExecutor;
+    private final int parallelThreshold;
+    private final int parallelism;
+
+    public ParallelPairScorer(@Qualifier("pairScoringExecutor") Executor pairScoringExecutor,
+                              @Value("${match.scoring.parallel-threshold:500}") int parallelThreshold,
+                              @Value("${match.scoring.parallelism:0}") int parallelism) {
+        this.pairScoringExecutor = pairScoringExecutor;
+        this.parallelThreshold = parallelThreshold;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 유저 인덱스 쌍 (i, j), i < j 전체의 점수를 계산합니다. (NaN인 쌍은 제외)
+     */
+    public ScoredPairs scoreAllPairs(int userCount, PairScorer scorer) {
+        if (userCount < parallelThreshold || parallelism == 1) {
+            return scoreRows(userCount, 0, userCount, scorer);
+        }
+        int[] bounds = rowBlocks(userCount, parallelism * BLOCKS_PER_THREAD);
+        List<CompletableFuture<ScoredPairs>> futures = new ArrayList<>(bounds.length - 1);
+        for (int b = 0; b + 1 < bounds.length; b++) {
+            int from = bounds[b];
+            int to = bounds[b + 1];
+            futures.add(CompletableFuture.supplyAsync(() -> scoreRows(userCount, from, to, scorer), pairScoringExecutor));
+        }
+        return merge(futures);
+    }
+
+    /**
+     * 후보 쌍 목록(pairs[2k], pairs[2k + 1])의 점수를 계산합니다. (NaN인 쌍은 제외)
+     *
+     * @param userCount 대기 인원 (병렬 처리 여부 판단)
+     */
+    public ScoredPairs scorePairs(int userCount, int[] pairs, PairScorer scorer) {
+        int pairCount = pairs.length / 2;
+        if (userCount < parallelThreshold || parallelism == 1) {
+            return scoreRange(pairs, 0, pairCount, scorer);
+        }
+        int blocks = Math.min(pairCount, parallelism * BLOCKS_PER_THREAD);
+        List<CompletableFuture<ScoredPairs>> futures = new ArrayList<>(blocks);
+        for (int b = 0; b < blocks; b++) {
+            int from = (int) ((long) pairCount * b / blocks);
+            int to = (int) ((long) pairCount * (b + 1) / blocks);
+            futures.add(CompletableFuture.supplyAsync(() -> scoreRange(pairs, from, to, scorer), pairScoringExecutor));
+        }
+        return merge(futures);
+    }
+
+    /**
+     * 행 i의 쌍 개수가 (n - 1 - i)개로 줄어드므로, 블록별 쌍 개수가 비슷해지도록 행 경계를 정합니다.
+     * 반환 배열은 0으로 시작해 n으로 끝나는 증가 수열입니다.
+     */
+    static int[] rowBlocks(int n, int blocks) {
+        long totalPairs = (long) n * (n - 1) / 2;
+        long perBlock = Math.max(1, totalPairs / Math.max(1, blocks));
+        List<Integer> bounds = new ArrayList<>();
+        bounds.add(0);
+        long accumulated = 0;
+        for (int i = 0; i < n - 1; i++) {
+            accumulated += n - 1 - i;
+            if (accumulated >= perBlock) {
+                bounds.add(i + 1);
+                accumulated = 0;
+            }
+        }
+        if (bounds.get(bounds.size() - 1) != n) {
+            bounds.add(n);
+        }
+        return bounds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static ScoredPairs scoreRows(int n, int fromRow, int toRow, PairScorer scorer) {
+        ScoredPairs result = new ScoredPairs();
+        for (int i = fromRow; i < toRow; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double score = scorer.score(i, j);
+                if (!Double.isNaN(score)) {
+                    result.add(i, j, score);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static ScoredPairs scoreRange(int[] pairs, int from, int to, PairScorer scorer) {
+        ScoredPairs result = new ScoredPairs(to - from);
+        for (int k = from; k < to; k++) {
+            int i = pairs[2 * k];
+            int j = pairs[2 * k + 1];
+            double score = scorer.score(i, j);
+            if (!Double.isNaN(score)) {
+                result.add(i, j, score);
+            }
+        }
+        return result;
+    }
+
+    private static ScoredPairs merge(List<CompletableFuture<ScoredPairs>> futures) {
+        List<ScoredPairs> blocks = new ArrayList<>(futures.size());
+        int total = 0;
+        for (CompletableFuture<ScoredPairs> future : futures) {
+            ScoredPairs block = future.join();
+            blocks.add(block);
+            total += block.size();
+        }
+        ScoredPairs result = new ScoredPairs(total);
+        for (ScoredPairs block : blocks) {
+            result.addAll(block);
+        }
+        return result;
+    }
+}
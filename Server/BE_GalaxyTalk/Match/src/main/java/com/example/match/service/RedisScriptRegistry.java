@@ -0,0 +1,91 @@
+package com.example.match.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Match 서비스에서 사용하는 Lua 스크립트 모음 (resources/scripts/*.lua)
+ * - 스크립트 객체를 한 번만 만들어 SHA1을 재사용하고, 시작 시 SCRIPT LOAD로 Redis에 미리 올려 둡니다.
+ * - RedisTemplate.execute는 EVALSHA로 실행하고, Redis 재시작 등으로 NOSCRIPT가 나면 EVAL로 다시 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisScriptRegistry {
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RedisScript<Long> claimPair = load("claim_pair");
+    private final RedisScript<Long> releaseClaim = load("release_claim");
+    private final RedisScript<Long> updateUserFields = load("update_user_fields");
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> acquireShardLeases = load("acquire_shard_leases", List.class);
+    private final RedisScript<Long> releaseShardLeases = load("release_shard_leases");
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> claimDueTimeouts = load("claim_due_timeouts", List.class);
+
+    private static RedisScript<Long> load(String name) {
+        return load(name, Long.class);
+    }
+
+    private static <T> RedisScript<T> load(String name, Class<T> resultType) {
+        return RedisScript.of(new ClassPathResource("scripts/" + name + ".lua"), resultType);
+    }
+
+    /**
+     * 모든 스크립트를 Redis 스크립트 캐시에 미리 등록합니다.
+     * Redis에 연결할 수 없어도 첫 실행 시 EVAL로 대체되므로 기동은 계속합니다.
+     */
+    @PostConstruct
+    public void preload() {
+        for (RedisScript<?> script : all()) {
+            try {
+                byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+                String sha = redisTemplate.execute((RedisCallback<String>) connection ->
+                        connection.scriptingCommands().scriptLoad(body));
+                log.info("Lua 스크립트 등록 완료: sha={}", sha);
+            } catch (Exception e) {
+                log.warn("Lua 스크립트 사전 등록 실패 (첫 실행 시 EVAL로 대체): {}", e.getMessage());
+            }
+        }
+    }
+
+    public RedisScript<Long> claimPair() {
+        return claimPair;
+    }
+
+    public RedisScript<Long> releaseClaim() {
+        return releaseClaim;
+    }
+
+    public RedisScript<Long> updateUserFields() {
+        return updateUserFields;
+    }
+
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> acquireShardLeases() {
+        return acquireShardLeases;
+    }
+
+    public RedisScript<Long> releaseShardLeases() {
+        return releaseShardLeases;
+    }
+
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> claimDueTimeouts() {
+        return claimDueTimeouts;
+    }
+
+    List<RedisScript<?>> all() {
+        return List.of(claimPair, releaseClaim, updateUserFields, acquireShardLeases, releaseShardLeases,
+                claimDueTimeouts);
+    }
+}
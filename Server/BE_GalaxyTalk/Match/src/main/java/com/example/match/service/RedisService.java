@@ -1,18 +1,36 @@
 package com.example.match.service;
 
+import com.example.match.config.RedisValueCodecs;
 import com.example.match.domain.MatchResultStatus;
+import com.example.match.domain.MatchStatus;
 import com.example.match.domain.UserMatchStatus;
 import com.example.match.exception.BusinessException;
 import com.example.match.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,43 +40,189 @@ public class RedisService {
     private static final String USER_KEY_PREFIX = "user:";
     private static final String MATCH_KEY_PREFIX = "match:";
     private static final String REJECTION_KEY_PREFIX = "rejected:";
+    private static final String EMBEDDING_KEY_PREFIX = "embedding:";
     // Sorted Set 키: 대기 유저 관리 (score는 매칭 시작 시간)
     private static final String WAITING_USERS_KEY = "waiting_users";
+    private static final String CLAIMED_USERS_KEY = "claimed_users";
+    private static final String SHARD_LEASE_KEY_PREFIX = "match:shard:lease:";
+    private static final String SHARD_INSTANCES_KEY = "match:shard:instances";
+    private static final String MATCH_TIMEOUTS_KEY = "match:timeouts";
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+    private static final UserStatusHashMapper USER_HASH_MAPPER = new UserStatusHashMapper();
+    // 이전 버전의 user: 문자열 값(@class 포함 JSON) 변환용
+    private static final RedisSerializer<UserMatchStatus> LEGACY_USER_SERIALIZER =
+            RedisValueCodecs.legacyUserStatusSerializer();
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScriptRegistry scriptRegistry;
+    // match: 값은 RedisTemplate 값 직렬화(GenericJackson2Json) 대신 값 클래스별 직렬화기로 읽고 씀 (user:는 해시)
+    private final RedisValueCodecs valueCodecs;
+
+    // 거절 기록 보관 기간 (마지막 거절 시점 기준, 오래 접속하는 유저의 거절 집합이 계속 커지지 않도록 만료)
+    @Value("${match.rejection.ttl-hours:168}")
+    private long rejectionTtlHours = 168;
+
+    /**
+     * 매칭 쌍의 두 유저를 한 번의 Lua 스크립트로 선점합니다.
+     * 두 유저가 모두 WAITING이면 IN_PROGRESS로 전환하고 대기 큐에서 제거한 뒤 true를,
+     * 하나라도 WAITING이 아니면 아무것도 바꾸지 않고 false를 반환합니다.
+     * 선점 시각은 claimed_users에 기록되어, 매칭 생성 전에 멈춘 선점을 recoverStrandedClaims로 복구할 수 있습니다.
+     */
+    public boolean claimPair(UserMatchStatus user1, UserMatchStatus user2) {
+        List<String> keys = List.of(
+                USER_KEY_PREFIX + user1.getUserId(),
+                USER_KEY_PREFIX + user2.getUserId(),
+                WAITING_USERS_KEY,
+                CLAIMED_USERS_KEY);
+        return executeScript(scriptRegistry.claimPair(), keys,
+                queueMember(user1.getUserId()), queueMember(user2.getUserId()),
+                String.valueOf(Instant.now().toEpochMilli())) == 1;
+    }
+
+    /**
+     * claimPair로 선점한 두 유저를 WAITING으로 되돌리고 대기 큐에 다시 등록합니다. (매칭 생성 실패 시 롤백)
+     * 매칭 생성 도중 MATCHED까지 저장된 유저도 함께 되돌립니다.
+     */
+    public void releasePair(UserMatchStatus user1, UserMatchStatus user2) {
+        releaseClaim(user1.getUserId(), true);
+        releaseClaim(user2.getUserId(), true);
+    }
 
     /**
-     * WAITING 상태인 유저를 원자적으로 IN_PROGRESS 상태로 전환하는 메서드
-     * Lua 스크립트를 사용하여 원자적 연산을 보장합니다.
+     * cutoff 이전에 선점된 뒤 아직 IN_PROGRESS로 남아 있는 유저를 대기 상태로 복구합니다.
+     * 선점 직후 인스턴스가 종료되는 등으로 매칭이 생성되지 않은 유저가 대상이며,
+     * 이미 매칭이 진행된 유저는 선점 기록만 정리합니다.
+     * @return 복구된 유저 수
      */
-    public boolean atomicTransitionToInProgress(String userId) {
-        String key = USER_KEY_PREFIX + userId;
-        String script =
-                "if redis.call('EXISTS', KEYS[1]) == 1 then " +
-                        "  local user = cjson.decode(redis.call('GET', KEYS[1])); " +
-                        "  if user.status == 'WAITING' then " +
-                        "    user.status = 'IN_PROGRESS'; " +
-                        "    redis.call('SET', KEYS[1], cjson.encode(user)); " +
-                        "    return 1; " +
-                        "  else " +
-                        "    return 0; " +
-                        "  end " +
-                        "else " +
-                        "  return 0; " +
-                        "end";
-        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>(script, Long.class);
-        Long result = redisTemplate.execute(redisScript, Collections.singletonList(key));
-        return result != null && result == 1;
+    public int recoverStrandedClaims(long cutoff) {
+        Set<Object> claimed = redisTemplate.opsForZSet().rangeByScore(CLAIMED_USERS_KEY, 0, cutoff);
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        int recovered = 0;
+        for (Object userId : claimed) {
+            if (releaseClaim(userId.toString(), false)) {
+                log.info("선점 후 방치된 유저 복구: {}", userId);
+                recovered++;
+            }
+        }
+        return recovered;
+    }
+
+    private boolean releaseClaim(String userId, boolean includeMatched) {
+        List<String> keys = List.of(
+                USER_KEY_PREFIX + userId,
+                WAITING_USERS_KEY,
+                CLAIMED_USERS_KEY);
+        return executeScript(scriptRegistry.releaseClaim(), keys,
+                queueMember(userId), includeMatched ? "1" : "0") == 1;
+    }
+
+    /**
+     * 대기 큐 ZSET에 저장된 멤버 값(RedisTemplate 값 직렬화 결과)을 만듭니다.
+     * 스크립트 인자는 문자열 그대로 전달되므로, 큐에서 ZREM/ZADD할 때는 이 값을 넘겨야 같은 멤버로 인식됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    private String queueMember(String userId) {
+        byte[] member = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(userId);
+        return new String(member, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 등록된 Lua 스크립트를 EVALSHA로 실행합니다. 인자는 JSON이 아닌 문자열 그대로 전달합니다.
+     */
+    private long executeScript(RedisScript<Long> script, List<String> keys, String... args) {
+        Long result = redisTemplate.execute(script, RedisSerializer.string(), LONG_RESULT_SERIALIZER,
+                keys, (Object[]) args);
+        return result == null ? 0 : result;
+    }
+
+    /**
+     * match: 값을 직렬화된 바이트 그대로 읽고 씁니다. (키는 RedisTemplate 키 직렬화와 같은 UTF-8 문자열)
+     */
+    private void setValue(String key, byte[] value) {
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(rawKey(key), value));
+    }
+
+    private byte[] getValue(String key) {
+        return redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(rawKey(key)));
+    }
+
+    private static byte[] rawKey(String key) {
+        return RedisSerializer.string().serialize(key);
+    }
+
+    private static boolean isWrongType(DataAccessException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains("WRONGTYPE");
     }
 
     /**
-     * 유저 상태를 Redis에 저장합니다.
+     * 유저 상태를 Redis 해시(user:{userId})에 저장합니다. 값이 null인 필드는 해시에서 지웁니다.
      */
     public void saveUserStatus(UserMatchStatus user) {
         if (user == null || user.getUserId() == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT, "UserMatchStatus 혹은 userId가 null입니다.");
         }
         log.info("유저 상태 저장: {}", user.getUserId());
-        redisTemplate.opsForValue().set(USER_KEY_PREFIX + user.getUserId(), user);
+        byte[] key = rawKey(USER_KEY_PREFIX + user.getUserId());
+        Map<byte[], byte[]> hash = USER_HASH_MAPPER.toHash(user);
+        Set<String> present = hash.keySet().stream()
+                .map(field -> new String(field, StandardCharsets.UTF_8))
+                .collect(Collectors.toSet());
+        byte[][] nullFields = UserStatusHashMapper.NULLABLE_FIELDS.stream()
+                .filter(field -> !present.contains(field))
+                .map(UserStatusHashMapper::bytes)
+                .toArray(byte[][]::new);
+        // 다른 인스턴스가 값 변경 도중의 해시를 읽지 않도록 MULTI로 함께 적용
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.multi();
+            connection.hashCommands().hMSet(key, hash);
+            if (nullFields.length > 0) {
+                connection.hashCommands().hDel(key, nullFields);
+            }
+            connection.exec();
+            return null;
+        });
+    }
+
+    /**
+     * 매칭이 성사된 유저의 status, matchId 필드만 변경합니다.
+     * @return 유저 상태가 있어 변경했으면 true
+     */
+    public boolean markMatched(String userId, String matchId) {
+        return updateUserFields(userId,
+                UserStatusHashMapper.STATUS, MatchStatus.MATCHED.name(),
+                UserStatusHashMapper.MATCH_ID, matchId);
+    }
+
+    /**
+     * 매칭을 수락한 유저의 accepted 필드만 변경합니다.
+     * @return 유저 상태가 있어 변경했으면 true
+     */
+    public boolean markAccepted(String userId) {
+        return updateUserFields(userId, UserStatusHashMapper.ACCEPTED, "1");
+    }
+
+    /**
+     * 매칭이 취소/거절된 유저를 WAITING으로 되돌립니다. (status, matchId, accepted 필드만 변경)
+     * @return 유저 상태가 있어 변경했으면 true
+     */
+    public boolean resetToWaiting(String userId) {
+        return updateUserFields(userId,
+                UserStatusHashMapper.STATUS, MatchStatus.WAITING.name(),
+                UserStatusHashMapper.MATCH_ID, "",
+                UserStatusHashMapper.ACCEPTED, "0");
+    }
+
+    /**
+     * 유저 상태 해시의 필드 일부를 Lua 스크립트 1회로 변경합니다. 유저 상태가 없으면(삭제된 유저) 새로 만들지 않습니다.
+     * 값이 빈 문자열인 필드는 삭제합니다.
+     */
+    private boolean updateUserFields(String userId, String... fieldValues) {
+        log.info("유저 상태 필드 변경: {}", userId);
+        return executeScript(scriptRegistry.updateUserFields(), List.of(USER_KEY_PREFIX + userId), fieldValues) == 1;
     }
 
     /**
@@ -66,15 +230,123 @@ public class RedisService {
      */
     public UserMatchStatus getUserStatus(String userId) {
         log.info("유저 상태 조회: {}", userId);
-        Object data = redisTemplate.opsForValue().get(USER_KEY_PREFIX + userId);
-        if (data == null) {
+        Map<byte[], byte[]> hash;
+        try {
+            hash = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+                    connection.hashCommands().hGetAll(rawKey(USER_KEY_PREFIX + userId)));
+        } catch (DataAccessException e) {
+            if (!isWrongType(e)) {
+                throw e;
+            }
+            throw userStatusMismatch(userId);
+        }
+        if (hash == null || hash.isEmpty()) {
             return null;
         }
-        if (!(data instanceof UserMatchStatus userMatchStatus)) {
-            throw new BusinessException(ErrorCode.REDIS_DATA_MISMATCH,
-                    "Redis 데이터 타입 불일치: userId=" + userId);
+        try {
+            return USER_HASH_MAPPER.fromHash(hash);
+        } catch (IllegalArgumentException e) {
+            throw userStatusMismatch(userId);
+        }
+    }
+
+    private BusinessException userStatusMismatch(String userId) {
+        return new BusinessException(ErrorCode.REDIS_DATA_MISMATCH, "Redis 데이터 타입 불일치: userId=" + userId);
+    }
+
+    /**
+     * 여러 유저의 상태를 한 번의 파이프라인(HGETALL)으로 조회합니다.
+     * 반환 맵은 userIds 순서를 유지하며, 저장된 상태가 없거나 타입이 맞지 않는 유저는 제외합니다.
+     * (매칭 주기에서 유저 한 명의 손상된 데이터로 전체 처리가 중단되지 않도록 예외 대신 경고 로그를 남김)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, UserMatchStatus> getUserStatuses(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> ids = new ArrayList<>(userIds);
+        log.info("유저 상태 일괄 조회: {}명", ids.size());
+        List<Object> hashes = redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            for (String id : ids) {
+                connection.hashCommands().hGetAll(rawKey(USER_KEY_PREFIX + id));
+            }
+            try {
+                return connection.closePipeline();
+            } catch (RedisPipelineException e) {
+                // 해시가 아닌 키(WRONGTYPE)는 결과 목록에 예외로 남고, 나머지 결과는 그대로 사용
+                return e.getPipelineResult();
+            }
+        });
+        Map<String, UserMatchStatus> result = new LinkedHashMap<>();
+        if (hashes == null) {
+            return result;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            Object hash = hashes.get(i);
+            if (hash instanceof Map<?, ?> fields && !fields.isEmpty()) {
+                try {
+                    result.put(ids.get(i), USER_HASH_MAPPER.fromHash((Map<byte[], byte[]>) fields));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Redis 데이터 타입 불일치로 조회에서 제외: userId={}", ids.get(i));
+                }
+            } else if (hash instanceof Exception) {
+                log.warn("Redis 데이터 타입 불일치로 조회에서 제외: userId={}", ids.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 시작 시 이전 형식 user: 키를 해시로 변환합니다.
+     */
+    @PostConstruct
+    public void migrateLegacyUserKeysOnStartup() {
+        migrateLegacyUserKeys();
+    }
+
+    /**
+     * 이전 버전이 JSON 문자열로 저장한 user: 키를 해시로 변환합니다.
+     * Redis에 연결할 수 없으면 경고만 남기고 기동을 계속합니다.
+     * @return 변환한 키 수
+     */
+    public int migrateLegacyUserKeys() {
+        List<String> legacyKeys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(USER_KEY_PREFIX + "*").type(DataType.STRING).count(1000).build())) {
+            cursor.forEachRemaining(legacyKeys::add);
+        } catch (Exception e) {
+            log.warn("이전 형식 유저 상태 확인 실패: {}", e.getMessage());
+            return 0;
         }
-        return userMatchStatus;
+        int migrated = 0;
+        for (String key : legacyKeys) {
+            byte[] value = getValue(key);
+            UserMatchStatus user;
+            try {
+                user = LEGACY_USER_SERIALIZER.deserialize(value);
+            } catch (SerializationException e) {
+                log.warn("이전 형식 유저 상태 변환 실패, 건너뜀: {}", key);
+                continue;
+            }
+            if (user == null) {
+                continue;
+            }
+            byte[] rawKey = rawKey(key);
+            Map<byte[], byte[]> hash = USER_HASH_MAPPER.toHash(user);
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                connection.multi();
+                connection.keyCommands().del(rawKey);
+                connection.hashCommands().hMSet(rawKey, hash);
+                connection.exec();
+                return null;
+            });
+            migrated++;
+        }
+        if (migrated > 0) {
+            log.info("이전 형식 유저 상태를 해시로 변환: {}개", migrated);
+        }
+        return migrated;
     }
 
     /**
@@ -82,10 +354,48 @@ public class RedisService {
      */
     public void deleteUserStatus(String userId) {
         log.info("유저 상태 삭제: {}", userId);
-        redisTemplate.delete(USER_KEY_PREFIX + userId);
+        redisTemplate.delete(List.of(USER_KEY_PREFIX + userId, EMBEDDING_KEY_PREFIX + userId));
         deleteRejection(userId);
     }
 
+    /**
+     * 유저의 고민 임베딩을 저장합니다.
+     * float 배열을 little-endian 바이트로 직렬화한 뒤 Base64 문자열로 저장합니다.
+     */
+    public void saveConcernEmbedding(String userId, float[] embedding) {
+        log.info("고민 임베딩 저장: {}", userId);
+        ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(embedding);
+        redisTemplate.opsForValue().set(EMBEDDING_KEY_PREFIX + userId,
+                Base64.getEncoder().encodeToString(buffer.array()));
+    }
+
+    /**
+     * 여러 유저의 고민 임베딩을 한 번의 MGET으로 조회합니다.
+     * 반환 목록의 i번째 값은 userIds.get(i)의 임베딩이며, 저장된 값이 없으면 null입니다.
+     */
+    public List<float[]> getConcernEmbeddings(List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> keys = userIds.stream().map(id -> EMBEDDING_KEY_PREFIX + id).toList();
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        List<float[]> result = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value == null) {
+                result.add(null);
+                continue;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(value.toString()))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            float[] embedding = new float[buffer.remaining() / Float.BYTES];
+            buffer.asFloatBuffer().get(embedding);
+            result.add(embedding);
+        }
+        return result;
+    }
+
     /**
      * 대기 큐(Waiting Pool)에 유저를 추가합니다.
      * score는 현재 시간(매칭 시작 시간)으로 설정합니다.
@@ -136,7 +446,7 @@ public class RedisService {
         if (matchId == null || matchResult == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT, "matchId 혹은 matchResult가 null입니다.");
         }
-        redisTemplate.opsForValue().set(MATCH_KEY_PREFIX + matchId, matchResult);
+        setValue(MATCH_KEY_PREFIX + matchId, valueCodecs.matchResult().serialize(matchResult));
     }
 
     /**
@@ -144,15 +454,16 @@ public class RedisService {
      */
     public MatchResultStatus getMatchInfo(String matchId) {
         log.info("매칭 정보 조회: {}", matchId);
-        Object data = redisTemplate.opsForValue().get(MATCH_KEY_PREFIX + matchId);
+        byte[] data = getValue(MATCH_KEY_PREFIX + matchId);
         if (data == null) {
             return null;
         }
-        if (!(data instanceof MatchResultStatus matchResult)) {
+        try {
+            return valueCodecs.matchResult().deserialize(data);
+        } catch (SerializationException e) {
             throw new BusinessException(ErrorCode.REDIS_DATA_MISMATCH,
                     "Redis 데이터 타입 불일치: matchId=" + matchId);
         }
-        return matchResult;
     }
 
     /**
@@ -170,16 +481,37 @@ public class RedisService {
         log.info("거절 기록 저장: {} - {}", userId, rejectedUserId);
         String key = REJECTION_KEY_PREFIX + userId;
         redisTemplate.opsForSet().add(key, rejectedUserId);
+        redisTemplate.expire(key, Duration.ofHours(rejectionTtlHours));
     }
 
     /**
-     * userId가 otherUserId를 과거에 거절한 적이 있는지 조회
+     * 여러 유저의 거절 대상 집합을 한 번의 파이프라인(SMEMBERS)으로 조회합니다.
+     * 거절 기록이 없는 유저는 결과에서 제외됩니다.
      */
-    public boolean hasRejected(String userId, String otherUserId) {
-        log.info("거절 기록 조회: {} - {}", userId, otherUserId);
-        String key = REJECTION_KEY_PREFIX + userId;
-        Boolean isMember = redisTemplate.opsForSet().isMember(key, otherUserId);
-        return isMember != null && isMember;
+    public Map<String, Set<String>> getRejectedUsers(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> ids = new ArrayList<>(userIds);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (String id : ids) {
+                    operations.opsForSet().members(REJECTION_KEY_PREFIX + id);
+                }
+                return null;
+            }
+        });
+        Map<String, Set<String>> rejections = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (results.get(i) instanceof Collection<?> members && !members.isEmpty()) {
+                Set<String> rejected = new HashSet<>();
+                members.forEach(member -> rejected.add(member.toString()));
+                rejections.put(ids.get(i), rejected);
+            }
+        }
+        return rejections;
     }
 
     /**
@@ -190,4 +522,107 @@ public class RedisService {
         String key = REJECTION_KEY_PREFIX + userId;
         redisTemplate.delete(key);
     }
+
+    /**
+     * 매칭 인스턴스의 하트비트를 기록하고, ttlMillis 안에 하트비트를 남긴 인스턴스 ID 목록을 반환합니다.
+     * 기록, 만료 정리, 조회를 한 번의 파이프라인으로 처리합니다.
+     */
+    public Set<String> heartbeatShardInstance(String instanceId, long now, long ttlMillis) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                operations.opsForZSet().add(SHARD_INSTANCES_KEY, instanceId, now);
+                operations.opsForZSet().removeRangeByScore(SHARD_INSTANCES_KEY, 0, now - ttlMillis);
+                operations.opsForZSet().range(SHARD_INSTANCES_KEY, 0, -1);
+                return null;
+            }
+        });
+        Set<String> instanceIds = new HashSet<>();
+        if (results.get(2) instanceof Collection<?> members) {
+            members.forEach(member -> instanceIds.add(member.toString()));
+        }
+        return instanceIds;
+    }
+
+    /**
+     * 종료하는 인스턴스를 하트비트 목록에서 제거합니다.
+     */
+    public void removeShardInstance(String instanceId) {
+        redisTemplate.opsForZSet().remove(SHARD_INSTANCES_KEY, instanceId);
+    }
+
+    /**
+     * 샤드 리스를 획득하거나 갱신하고, 리스를 가진 샤드 번호 목록을 반환합니다. (Lua 스크립트 1회)
+     * 다른 인스턴스가 리스를 가진 샤드는 결과에서 빠집니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Integer> acquireShardLeases(String instanceId, List<Integer> shards, long ttlMillis) {
+        if (shards.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> keys = shards.stream().map(shard -> SHARD_LEASE_KEY_PREFIX + shard).toList();
+        // 결과는 정수 배열이라 원소가 Long으로 오므로 결과 직렬화기는 쓰이지 않음
+        List<?> positions = redisTemplate.execute(scriptRegistry.acquireShardLeases(), RedisSerializer.string(),
+                (RedisSerializer) LONG_RESULT_SERIALIZER, keys, instanceId, String.valueOf(ttlMillis));
+        if (positions == null) {
+            return Collections.emptyList();
+        }
+        List<Integer> acquired = new ArrayList<>(positions.size());
+        for (Object position : positions) {
+            acquired.add(shards.get(((Number) position).intValue() - 1));
+        }
+        return acquired;
+    }
+
+    /**
+     * 인스턴스가 가진 샤드 리스를 반납합니다. 다른 인스턴스가 가진 리스는 그대로 둡니다.
+     */
+    public void releaseShardLeases(String instanceId, Collection<Integer> shards) {
+        if (shards.isEmpty()) {
+            return;
+        }
+        List<String> keys = shards.stream().map(shard -> SHARD_LEASE_KEY_PREFIX + shard).toList();
+        executeScript(scriptRegistry.releaseShardLeases(), keys, instanceId);
+    }
+
+    /**
+     * 매칭 수락 타임아웃을 등록합니다. (member: matchId, score: 마감 시각)
+     * 인스턴스 메모리가 아닌 Redis에 두므로 재시작 후에도 유지되고, 어느 인스턴스든 처리할 수 있습니다.
+     */
+    public void scheduleMatchTimeout(String matchId, long deadlineMillis) {
+        redisTemplate.opsForZSet().add(MATCH_TIMEOUTS_KEY, matchId, deadlineMillis);
+    }
+
+    /**
+     * 처리를 마쳤거나 더 이상 필요 없는(수락/거절/취소된) 매칭의 타임아웃을 제거합니다.
+     */
+    public void cancelMatchTimeout(String matchId) {
+        redisTemplate.opsForZSet().remove(MATCH_TIMEOUTS_KEY, matchId);
+    }
+
+    /**
+     * 마감 시각이 지난 타임아웃을 최대 limit개 가져갑니다. (Lua 스크립트 1회)
+     * 가져간 타임아웃은 leaseMillis 뒤로 미뤄 두므로, 처리 전에 인스턴스가 죽으면 그 뒤에 다시 처리됩니다.
+     * 여러 인스턴스가 동시에 호출해도 같은 타임아웃을 함께 가져가지 않습니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<String> claimDueMatchTimeouts(long now, int limit, long leaseMillis) {
+        // 멤버는 값 직렬화(JSON) 형태로 저장되어 있으므로 결과도 같은 직렬화기로 복원
+        List<?> due = redisTemplate.execute(scriptRegistry.claimDueTimeouts(), RedisSerializer.string(),
+                (RedisSerializer) redisTemplate.getValueSerializer(), List.of(MATCH_TIMEOUTS_KEY),
+                String.valueOf(now), String.valueOf(limit), String.valueOf(now + leaseMillis));
+        if (due == null) {
+            return Collections.emptyList();
+        }
+        return due.stream().map(Object::toString).toList();
+    }
+
+    /**
+     * 등록된(처리 대기 중인) 매칭 타임아웃 수
+     */
+    public long countMatchTimeouts() {
+        Long count = redisTemplate.opsForZSet().zCard(MATCH_TIMEOUTS_KEY);
+        return count == null ? 0 : count;
+    }
 }
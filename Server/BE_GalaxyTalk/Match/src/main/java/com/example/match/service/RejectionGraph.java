@@ -0,0 +1,115 @@
+package com.example.match.service;
+
+import com.example.match.domain.UserMatchStatus;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매칭 주기 내 거절 관계 그래프
+ * - 대기 유저의 rejected:{userId} 집합을 한 번에 읽어, 유저 인덱스 쌍 (min, max)를 long 키로 저장합니다.
+ * - 한쪽이라도 거절했으면 두 유저는 매칭 후보가 아니므로 방향 없이 저장합니다.
+ * - 박싱 없는 open addressing(선형 탐사) 해시 집합이며, 생성 후에는 읽기 전용이라 병렬 조회에 안전합니다.
+ */
+public final class RejectionGraph {
+    private static final long EMPTY = -1L;
+    private static final RejectionGraph NONE = new RejectionGraph(0, 0);
+
+    private final long[] table;
+    private final int mask;
+    private final long userCount;
+    private int size;
+
+    private RejectionGraph(int expectedPairs, long userCount) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedPairs * 2 - 1)) << 1;
+        this.table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        this.mask = capacity - 1;
+        this.userCount = userCount;
+    }
+
+    /**
+     * 대기 유저 목록과 유저별 거절 대상 ID 집합으로 그래프를 만듭니다.
+     * 대기 목록에 없는 유저에 대한 거절 기록은 이번 주기와 무관하므로 무시합니다.
+     */
+    public static RejectionGraph of(List<UserMatchStatus> users, Map<String, Set<String>> rejectedByUserId) {
+        int expected = 0;
+        for (Set<String> rejected : rejectedByUserId.values()) {
+            expected += rejected.size();
+        }
+        if (expected == 0) {
+            return NONE;
+        }
+        Map<String, Integer> indexByUserId = new HashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            indexByUserId.put(users.get(i).getUserId(), i);
+        }
+        RejectionGraph graph = new RejectionGraph(expected, users.size());
+        for (Map.Entry<String, Set<String>> entry : rejectedByUserId.entrySet()) {
+            Integer i = indexByUserId.get(entry.getKey());
+            if (i == null) {
+                continue;
+            }
+            for (String rejectedId : entry.getValue()) {
+                Integer j = indexByUserId.get(rejectedId);
+                if (j != null && !j.equals(i)) {
+                    graph.add(i, j);
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * 두 유저 중 한쪽이라도 상대를 거절한 적이 있는지 확인합니다.
+     */
+    public boolean contains(int i, int j) {
+        if (size == 0) {
+            return false;
+        }
+        long key = key(i, j);
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = table[slot];
+            if (current == key) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void add(int i, int j) {
+        long key = key(i, j);
+        int slot = slot(key);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == key) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+        size++;
+    }
+
+    private long key(int i, int j) {
+        return i < j ? i * userCount + j : j * userCount + i;
+    }
+
+    private int slot(long key) {
+        // murmur3 fmix64로 상위 비트까지 섞어 연속된 키가 한 구간에 몰리지 않도록 함
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+}
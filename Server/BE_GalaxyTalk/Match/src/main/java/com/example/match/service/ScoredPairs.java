@@ -0,0 +1,88 @@
+package com.example.match.service;
+
+import java.util.Arrays;
+
+/**
+ * 점수가 매겨진 후보 쌍 목록
+ * - 쌍마다 객체를 만들지 않도록 (유저 인덱스 i, j, 점수)를 primitive 배열에 저장합니다.
+ * - 스레드 안전하지 않으므로 병렬 처리 시 작업마다 별도 인스턴스를 사용한 뒤 addAll로 합칩니다.
+ */
+public class ScoredPairs {
+    private int[] firsts;
+    private int[] seconds;
+    private double[] scores;
+    private int size;
+
+    public ScoredPairs() {
+        this(16);
+    }
+
+    public ScoredPairs(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.firsts = new int[capacity];
+        this.seconds = new int[capacity];
+        this.scores = new double[capacity];
+    }
+
+    public void add(int first, int second, double score) {
+        ensureCapacity(size + 1);
+        firsts[size] = first;
+        seconds[size] = second;
+        scores[size] = score;
+        size++;
+    }
+
+    public void addAll(ScoredPairs other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.firsts, 0, firsts, size, other.size);
+        System.arraycopy(other.seconds, 0, seconds, size, other.size);
+        System.arraycopy(other.scores, 0, scores, size, other.size);
+        size += other.size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int first(int index) {
+        return firsts[index];
+    }
+
+    public int second(int index) {
+        return seconds[index];
+    }
+
+    public double score(int index) {
+        return scores[index];
+    }
+
+    /**
+     * 점수 내림차순으로 정렬된 후보 인덱스를 반환합니다.
+     * (float 정렬 키 상위 32비트 + 인덱스 하위 32비트를 long 배열 하나로 정렬하여 박싱/Comparator 없이 처리)
+     */
+    public int[] indicesByScoreDesc() {
+        long[] keys = new long[size];
+        for (int k = 0; k < size; k++) {
+            int bits = Float.floatToIntBits((float) scores[k]);
+            // 음수 float도 정수 비교 순서와 일치하도록 변환
+            bits ^= (bits >> 31) & 0x7fffffff;
+            keys[k] = ((long) bits << 32) | k;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[size];
+        for (int k = 0; k < size; k++) {
+            order[k] = (int) keys[size - 1 - k];
+        }
+        return order;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= firsts.length) {
+            return;
+        }
+        int capacity = Math.max(required, firsts.length * 2);
+        firsts = Arrays.copyOf(firsts, capacity);
+        seconds = Arrays.copyOf(seconds, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.match.service;
+
+import com.example.match.constant.MBTI;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * MBTI 버킷 기반 strict 후보 탐색
+ * - strict 조건(서로의 선호 MBTI가 상대의 MBTI와 일치)을 만족하는 상대는
+ *   "내 선호 MBTI 버킷 중 나의 MBTI를 선호하는 유저"뿐이므로, 모든 쌍을 훑지 않고 버킷을 직접 조회합니다.
+ * - 유저를 (MBTI, 선호 MBTI) 그룹으로 나눈 뒤, MBTI 버킷(16개)별 작업을 matchTaskExecutor에서 병렬 처리합니다.
+ */
+@Component
+public class StrictPairFinder {
+    private static final int MBTI_COUNT = MBTI.values().length;
+
+    private final Executor matchTaskExecutor;
+
+    public StrictPairFinder(@Qualifier("matchTaskExecutor") Executor matchTaskExecutor) {
+        this.matchTaskExecutor = matchTaskExecutor;
+    }
+
+    /**
+     * strict 후보 쌍을 찾아 점수와 함께 반환합니다.
+     *
+     * @param mbti 유저 인덱스별 MBTI ordinal (-1이면 MBTI 버킷에 없는 유저)
+     * @param preferred 유저 인덱스별 선호 MBTI ordinal (-1이면 선호 없음)
+     * @param scorer 쌍 점수 계산 함수 (NaN이면 후보에서 제외)
+     */
+    public ScoredPairs find(int[] mbti, int[] preferred, PairScorer scorer) {
+        // (MBTI, 선호 MBTI) 그룹별 유저 인덱스를 CSR 배열로 구성
+        int groups = MBTI_COUNT * MBTI_COUNT;
+        int[] offsets = new int[groups + 1];
+        for (int i = 0; i < mbti.length; i++) {
+            if (mbti[i] >= 0 && preferred[i] >= 0) {
+                offsets[mbti[i] * MBTI_COUNT + preferred[i] + 1]++;
+            }
+        }
+        for (int g = 0; g < groups; g++) {
+            offsets[g + 1] += offsets[g];
+        }
+        int[] members = new int[offsets[groups]];
+        int[] cursor = new int[groups];
+        System.arraycopy(offsets, 0, cursor, 0, groups);
+        for (int i = 0; i < mbti.length; i++) {
+            if (mbti[i] >= 0 && preferred[i] >= 0) {
+                members[cursor[mbti[i] * MBTI_COUNT + preferred[i]]++] = i;
+            }
+        }
+
+        // MBTI 버킷별로 병렬 탐색
+        List<CompletableFuture<ScoredPairs>> futures = new ArrayList<>(MBTI_COUNT);
+        for (int a = 0; a < MBTI_COUNT; a++) {
+            int bucket = a;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> findInBucket(bucket, offsets, members, scorer), matchTaskExecutor));
+        }
+        ScoredPairs result = new ScoredPairs();
+        for (CompletableFuture<ScoredPairs> future : futures) {
+            result.addAll(future.join());
+        }
+        return result;
+    }
+
+    /**
+     * MBTI가 a인 유저들의 strict 쌍을 찾습니다.
+     * 같은 쌍을 두 번 찾지 않도록 상대 MBTI p >= a인 경우만 처리합니다.
+     */
+    private ScoredPairs findInBucket(int a, int[] offsets, int[] members, PairScorer scorer) {
+        ScoredPairs pairs = new ScoredPairs();
+        for (int p = a; p < MBTI_COUNT; p++) {
+            // a 버킷 중 p를 선호하는 유저 × p 버킷 중 a를 선호하는 유저
+            int from = offsets[a * MBTI_COUNT + p];
+            int to = offsets[a * MBTI_COUNT + p + 1];
+            int partnerFrom = offsets[p * MBTI_COUNT + a];
+            int partnerTo = offsets[p * MBTI_COUNT + a + 1];
+            for (int x = from; x < to; x++) {
+                int i = members[x];
+                // 같은 그룹(a == p)이면 그룹 내 뒤쪽 유저와만 짝지음
+                for (int y = (a == p) ? x + 1 : partnerFrom; y < partnerTo; y++) {
+                    int j = members[y];
+                    double score = scorer.score(i, j);
+                    if (!Double.isNaN(score)) {
+                        pairs.add(Math.min(i, j), Math.max(i, j), score);
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.match.service;
+
+import com.example.match.domain.MatchStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.hash.HashMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserMatchStatus <-> Redis 해시(user:{userId}) 변환
+ * - 필드 값은 문자열 그대로 저장합니다. (status: enum 이름, accepted: 1/0, energy/startTime: 10진수)
+ * - null 필드는 해시에 두지 않습니다. 값 타입이 정해지지 않은 additionalInfo, matchingQueues만 JSON으로 저장합니다.
+ * - Lua 스크립트(claim_pair 등)가 status, matchId, accepted, startTime 필드를 이름으로 직접 읽고 쓰므로 필드 이름을 바꾸면 스크립트도 함께 바꿔야 합니다.
+ */
+class UserStatusHashMapper implements HashMapper<UserMatchStatus, byte[], byte[]> {
+    static final String USER_ID = "userId";
+    static final String CONCERN = "concern";
+    static final String ENERGY = "energy";
+    static final String MBTI = "mbti";
+    static final String PREFERRED_MBTI = "preferredMbti";
+    static final String STATUS = "status";
+    static final String MATCH_ID = "matchId";
+    static final String ACCEPTED = "accepted";
+    static final String START_TIME = "startTime";
+    static final String ADDITIONAL_INFO = "additionalInfo";
+    static final String MATCHING_QUEUES = "matchingQueues";
+
+    // null이면 해시에서 지워야 하는 필드 (전체 저장 시 이전 값이 남지 않도록)
+    static final List<String> NULLABLE_FIELDS =
+            List.of(CONCERN, MBTI, PREFERRED_MBTI, STATUS, MATCH_ID, ADDITIONAL_INFO, MATCHING_QUEUES);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> ADDITIONAL_INFO_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<String>> MATCHING_QUEUES_TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public Map<byte[], byte[]> toHash(UserMatchStatus user) {
+        Map<byte[], byte[]> hash = new HashMap<>();
+        put(hash, USER_ID, user.getUserId());
+        put(hash, CONCERN, user.getConcern());
+        put(hash, ENERGY, String.valueOf(user.getEnergy()));
+        put(hash, MBTI, user.getMbti());
+        put(hash, PREFERRED_MBTI, user.getPreferredMbti());
+        put(hash, STATUS, user.getStatus() == null ? null : user.getStatus().name());
+        put(hash, MATCH_ID, user.getMatchId());
+        put(hash, ACCEPTED, user.isAccepted() ? "1" : "0");
+        put(hash, START_TIME, String.valueOf(user.getStartTime()));
+        put(hash, ADDITIONAL_INFO, user.getAdditionalInfo() == null ? null : toJson(user.getAdditionalInfo()));
+        put(hash, MATCHING_QUEUES, user.getMatchingQueues() == null ? null : toJson(user.getMatchingQueues()));
+        return hash;
+    }
+
+    /**
+     * 해시를 UserMatchStatus로 변환합니다. 필드 값 형식이 맞지 않으면 IllegalArgumentException을 던집니다.
+     */
+    @Override
+    public UserMatchStatus fromHash(Map<byte[], byte[]> hash) {
+        Map<String, String> fields = new HashMap<>(hash.size() * 2);
+        hash.forEach((field, value) ->
+                fields.put(new String(field, StandardCharsets.UTF_8), new String(value, StandardCharsets.UTF_8)));
+
+        UserMatchStatus user = new UserMatchStatus();
+        user.setUserId(fields.get(USER_ID));
+        user.setConcern(fields.get(CONCERN));
+        user.setEnergy(fields.containsKey(ENERGY) ? Integer.parseInt(fields.get(ENERGY)) : 0);
+        user.setMbti(fields.get(MBTI));
+        user.setPreferredMbti(fields.get(PREFERRED_MBTI));
+        user.setStatus(fields.containsKey(STATUS) ? MatchStatus.valueOf(fields.get(STATUS)) : null);
+        user.setMatchId(fields.get(MATCH_ID));
+        user.setAccepted("1".equals(fields.get(ACCEPTED)));
+        user.setStartTime(fields.containsKey(START_TIME) ? Long.parseLong(fields.get(START_TIME)) : 0);
+        if (fields.containsKey(ADDITIONAL_INFO)) {
+            user.setAdditionalInfo(fromJson(fields.get(ADDITIONAL_INFO), ADDITIONAL_INFO_TYPE));
+        }
+        if (fields.containsKey(MATCHING_QUEUES)) {
+            user.setMatchingQueues(fromJson(fields.get(MATCHING_QUEUES), MATCHING_QUEUES_TYPE));
+        }
+        return user;
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void put(Map<byte[], byte[]> hash, String field, String value) {
+        if (value != null) {
+            hash.put(bytes(field), bytes(value));
+        }
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("유저 상태 필드 JSON 변환 실패", e);
+        }
+    }
+
+    private static <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(json, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("유저 상태 필드 JSON 해석 실패", e);
+        }
+    }
+}
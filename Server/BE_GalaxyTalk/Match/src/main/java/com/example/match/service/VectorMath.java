@@ -0,0 +1,61 @@
+package com.example.match.service;
+
+/**
+ * 고민 임베딩(float 벡터) 연산 유틸리티
+ * - 매칭 루프에서 호출되므로 객체 할당 없이 primitive 연산만 사용합니다.
+ */
+public final class VectorMath {
+
+    private VectorMath() {
+    }
+
+    /**
+     * L2 정규화된 새 벡터를 반환합니다. (영벡터는 그대로 복사)
+     */
+    public static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        float[] result = new float[vector.length];
+        if (norm == 0.0) {
+            return result;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            result[i] = vector[i] * scale;
+        }
+        return result;
+    }
+
+    /**
+     * 두 벡터의 내적. 정규화된 벡터라면 코사인 유사도와 같습니다.
+     */
+    public static double dot(float[] a, float[] b) {
+        int length = Math.min(a.length, b.length);
+        // 누산기 4개로 나눠 의존성 체인을 끊어 JIT가 파이프라이닝할 수 있도록 합니다.
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[i] * b[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * 정규화된 두 벡터의 코사인 유사도를 고민 유사도 범위(0~1)로 잘라 반환합니다.
+     */
+    public static double cosineSimilarity(float[] a, float[] b) {
+        double cosine = dot(a, b);
+        if (cosine < 0.0) {
+            return 0.0;
+        }
+        return Math.min(cosine, 1.0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.match.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 시간 기반 매칭 우선순위 (오래 기다린 유저가 대기 시간 초과로 취소되기 전에 매칭되도록)
+ * - 롱타임 레인: longWaitMillis 이상 기다린 유저가 포함된 후보 쌍을 strict/relaxed 단계보다 먼저 선택합니다.
+ * - 대기 시간 보정(aging): 쌍 선택 시 두 유저 중 오래 기다린 쪽의
+ *   min(1, 대기 시간 / horizonMillis) × maxBoost를 점수에 더합니다.
+ *   보정 점수는 선택 순서에만 쓰며, 매칭 알림/저장되는 유사도는 보정 전 점수입니다.
+ * 대기 시간은 매칭 시작 시각(대기 큐 waiting_users의 score, 매칭 거절 후 복귀해도 유지)부터 계산합니다.
+ */
+@Component
+public class WaitTimePriority {
+    private final double maxBoost;
+    private final long horizonMillis;
+    private final long longWaitMillis;
+
+    public WaitTimePriority(@Value("${match.aging.max-boost:0.2}") double maxBoost,
+                            @Value("${match.aging.horizon-millis:300000}") long horizonMillis,
+                            @Value("${match.aging.long-wait-millis:180000}") long longWaitMillis) {
+        this.maxBoost = maxBoost;
+        this.horizonMillis = Math.max(1, horizonMillis);
+        this.longWaitMillis = longWaitMillis;
+    }
+
+    /**
+     * 유저 인덱스별 대기 시간(ms)이 longWaitMillis 이상인 유저가 포함된 쌍만 모읍니다. (원래 점수 유지)
+     */
+    public ScoredPairs longWaitPairs(long[] waitMillis, ScoredPairs... stages) {
+        ScoredPairs result = new ScoredPairs();
+        for (ScoredPairs stage : stages) {
+            for (int k = 0; k < stage.size(); k++) {
+                int i = stage.first(k);
+                int j = stage.second(k);
+                if (waitMillis[i] >= longWaitMillis || waitMillis[j] >= longWaitMillis) {
+                    result.add(i, j, stage.score(k));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 대기 시간 보정을 더한 선택용 점수 목록을 반환합니다. 인덱스 k는 candidates와 같은 쌍입니다.
+     * 보정이 꺼져 있으면(maxBoost ≤ 0) candidates를 그대로 반환합니다.
+     */
+    public ScoredPairs boosted(ScoredPairs candidates, long[] waitMillis) {
+        if (maxBoost <= 0 || candidates.size() == 0) {
+            return candidates;
+        }
+        double[] boost = new double[waitMillis.length];
+        for (int i = 0; i < waitMillis.length; i++) {
+            boost[i] = maxBoost * Math.min(1.0, Math.max(0, waitMillis[i]) / (double) horizonMillis);
+        }
+        ScoredPairs result = new ScoredPairs(candidates.size());
+        for (int k = 0; k < candidates.size(); k++) {
+            int i = candidates.first(k);
+            int j = candidates.second(k);
+            result.add(i, j, candidates.score(k) + Math.max(boost[i], boost[j]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.match.service;
+
+import com.example.match.constant.MBTI;
+import com.example.match.domain.MatchStatus;
+import com.example.match.domain.UserMatchStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 매칭 주기용 대기 풀 메모리 사본 (Redis waiting_users 대기 큐의 미러)
+ * - 유저별로 변경되지 않는 스냅샷(WaitingUser)을 ConcurrentHashMap에 두므로, 매칭 주기는 Redis를 읽지 않고 잠금 없이 풀을 순회합니다.
+ * - 이 인스턴스에서 일어나는 매칭 시작/취소/선점/대기 시간 초과는 Redis 변경 직후 바로 반영합니다. (write-through)
+ * - 다른 인스턴스의 변경(다른 인스턴스로 들어온 매칭 시작, 매칭 거절/취소 후 대기 큐 복귀 등)은
+ *   reconcile()이 주기적으로 대기 큐 ID 목록과 비교하여, 새로 생긴 유저만 상태와 거절 기록을 읽어 추가하고 빠진 유저는 제외합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingPool {
+    private final RedisService redisService;
+
+    private final Map<String, WaitingUser> users = new ConcurrentHashMap<>();
+    // 풀 변경 순번 (reconcile이 대기 큐를 읽은 뒤 추가된 유저를 지우지 않도록 비교)
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 대기 큐에 등록한 유저를 풀에 추가합니다. 같은 유저가 있으면 교체합니다.
+     *
+     * @param rejected 유저가 거절한 상대 ID 집합
+     */
+    public void add(UserMatchStatus user, Set<String> rejected) {
+        users.put(user.getUserId(), WaitingUser.of(user, rejected, version.incrementAndGet()));
+    }
+
+    /**
+     * 대기를 끝낸(선점/취소/시간 초과) 유저를 풀에서 제외합니다.
+     */
+    public void remove(String userId) {
+        users.remove(userId);
+    }
+
+    /**
+     * filter를 만족하는 대기 유저의 스냅샷 목록을 반환합니다. (Redis 조회 없음)
+     */
+    public List<WaitingUser> snapshot(Predicate<WaitingUser> filter) {
+        List<WaitingUser> result = new ArrayList<>(users.size());
+        for (WaitingUser user : users.values()) {
+            if (filter.test(user)) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    /**
+     * 풀을 Redis 대기 큐와 맞춥니다.
+     * - 대기 큐를 읽기 전에 풀에 있던 유저 중 대기 큐에 없는 유저는 제외 (읽은 뒤 추가된 유저는 유지)
+     * - 대기 큐에 있지만 풀에 없는 유저는 상태(WAITING인 유저만)와 거절 기록을 한 번의 파이프라인씩으로 읽어 추가
+     */
+    @Scheduled(fixedDelayString = "${match.waiting-pool.reconcile-interval-millis:1000}")
+    public void reconcile() {
+        try {
+            long since = version.get();
+            Set<String> waitingIds = redisService.getAllWaitingUsers();
+
+            int removed = 0;
+            for (WaitingUser user : users.values()) {
+                if (user.version() <= since && !waitingIds.contains(user.userId())
+                        && users.remove(user.userId(), user)) {
+                    removed++;
+                }
+            }
+
+            List<String> missing = new ArrayList<>();
+            for (String userId : waitingIds) {
+                if (!users.containsKey(userId)) {
+                    missing.add(userId);
+                }
+            }
+            int added = 0;
+            if (!missing.isEmpty()) {
+                Map<String, UserMatchStatus> statuses = redisService.getUserStatuses(missing);
+                Map<String, Set<String>> rejections = redisService.getRejectedUsers(statuses.keySet());
+                for (UserMatchStatus user : statuses.values()) {
+                    if (user.getStatus() == MatchStatus.WAITING) {
+                        WaitingUser snapshot = WaitingUser.of(user,
+                                rejections.getOrDefault(user.getUserId(), Set.of()), version.incrementAndGet());
+                        if (users.putIfAbsent(user.getUserId(), snapshot) == null) {
+                            added++;
+                        }
+                    }
+                }
+            }
+            if (removed > 0 || added > 0) {
+                log.info("대기 풀 동기화: 추가 {}명, 제외 {}명, 풀 {}명", added, removed, users.size());
+            }
+        } catch (Exception e) {
+            log.warn("대기 풀 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 유저 스냅샷 (생성 후 변경되지 않음)
+     * MBTI는 추가 시 한 번만 해석하여 ordinal로 저장합니다. (형식이 올바르지 않으면 -1)
+     */
+    public record WaitingUser(String userId, String concern, int energy, byte mbti, byte preferredMbti,
+                              long startTime, Set<String> rejected, long version) {
+        private static final MBTI[] MBTIS = MBTI.values();
+
+        static WaitingUser of(UserMatchStatus user, Set<String> rejected, long version) {
+            return new WaitingUser(user.getUserId(), user.getConcern(), user.getEnergy(),
+                    ordinal(user.getMbti()), ordinal(user.getPreferredMbti()), user.getStartTime(),
+                    Set.copyOf(rejected), version);
+        }
+
+        /**
+         * 매칭 주기/매칭 생성에 넘길 WAITING 상태 객체를 만듭니다. (호출마다 새 객체)
+         */
+        public UserMatchStatus toUserStatus() {
+            UserMatchStatus user = new UserMatchStatus();
+            user.setUserId(userId);
+            user.setConcern(concern);
+            user.setEnergy(energy);
+            user.setMbti(name(mbti));
+            user.setPreferredMbti(name(preferredMbti));
+            user.setStatus(MatchStatus.WAITING);
+            user.setStartTime(startTime);
+            return user;
+        }
+
+        private static byte ordinal(String value) {
+            return (byte) MBTI.ordinalOf(value);
+        }
+
+        private static String name(byte ordinal) {
+            return ordinal < 0 ? null : MBTIS[ordinal].name();
+        }
+    }
+}
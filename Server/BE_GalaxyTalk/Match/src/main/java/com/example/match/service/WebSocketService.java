@@ -16,7 +16,11 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class WebSocketService {
+    // 유저별 메시지 큐 (클라이언트 구독 경로: /user/queue/matching)
+    public static final String USER_QUEUE = "/queue/matching";
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final LobbyDeltaAggregator lobbyDeltaAggregator;
 
 
     public void notifyUser(String userId, String type, String message) {
@@ -24,8 +28,8 @@ public class WebSocketService {
         if (userId == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT, "notifyUser: userId가 null입니다.");
         }
-        messagingTemplate.convertAndSend(
-                "/topic/matching/" + userId,
+        messagingTemplate.convertAndSendToUser(
+                userId, USER_QUEUE,
                 new MessageResponseDto(type, message, null)
         );
     }
@@ -35,14 +39,14 @@ public class WebSocketService {
         log.info("매칭 알림: 사용자 데이터 {}, {}", user1Data, user2Data);
         String message = "매칭이 성사되었습니다.";
         // user1에게 전송
-        messagingTemplate.convertAndSend(
-                "/topic/matching/" + user2Data.get("matchedUserId"),
+        messagingTemplate.convertAndSendToUser(
+                (String) user2Data.get("matchedUserId"), USER_QUEUE,
                 new MessageResponseDto("MATCH_SUCCESS", message, user1Data)
         );
 
         // user2에게 전송
-        messagingTemplate.convertAndSend(
-                "/topic/matching/" + user1Data.get("matchedUserId"),
+        messagingTemplate.convertAndSendToUser(
+                (String) user1Data.get("matchedUserId"), USER_QUEUE,
                 new MessageResponseDto("MATCH_SUCCESS", message, user2Data)
         );
     }
@@ -64,42 +68,42 @@ public class WebSocketService {
         user2Data.put("sessionId", chatResponse.get("sessionId"));
         user2Data.put("token", chatResponse.get("tokenB"));
 
-        messagingTemplate.convertAndSend(
-                "/topic/matching/" + user1.getUserId(),
+        messagingTemplate.convertAndSendToUser(
+                user1.getUserId(), USER_QUEUE,
                 new MessageResponseDto("CHAT_CREATED", message, user1Data)
         );
-        messagingTemplate.convertAndSend(
-                "/topic/matching/" + user2.getUserId(),
+        messagingTemplate.convertAndSendToUser(
+                user2.getUserId(), USER_QUEUE,
                 new MessageResponseDto("CHAT_CREATED", message, user2Data)
         );
     }
 
+    /**
+     * 대기실 입장 알림 - LobbyDeltaAggregator가 모아서 LOBBY_DELTA로 전송
+     */
     public void broadcastNewUser(UserMatchStatus user) {
         log.info("새로운 유저 입장 알림: {}", user);
         if (user == null || user.getUserId() == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT, "broadcastNewUser: UserMatchStatus 혹은 userId가 null입니다.");
         }
 
-        String message = "새로운 유저가 접속했습니다.";
-
         Map<String, Object> data = new HashMap<>();
         data.put("userId", user.getUserId());
         data.put("concern", user.getConcern());
         data.put("mbti", user.getMbti());
         data.put("status", user.getStatus());
         data.put("startTime", user.getStartTime());
-        messagingTemplate.convertAndSend("/topic/matching/users/new",
-                new MessageResponseDto("NEW_USER", message, data));
+        lobbyDeltaAggregator.userJoined(user.getUserId(), data);
     }
 
+    /**
+     * 대기실 퇴장 알림 - LobbyDeltaAggregator가 모아서 LOBBY_DELTA로 전송
+     */
     public void broadcastUserExit(String userId) {
         log.info("유저 퇴장 알림: {}", userId);
         if (userId == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT, "broadcastUserExit: userId가 null입니다.");
         }
-        String message = "해당 유저가 매칭 큐에서 제외되었습니다.";
-        Map<String, Object> data = Map.of("userId", userId);
-        messagingTemplate.convertAndSend("/topic/matching/users/exit",
-                new MessageResponseDto("EXIT_USER", message, data));
+        lobbyDeltaAggregator.userExited(userId);
     }
 }
@@ -0,0 +1,15 @@
+-- 인스턴스가 담당할 샤드 리스를 획득하거나, 이미 가진 리스의 만료 시간을 갱신
+-- 다른 인스턴스가 가진 리스는 건드리지 않음 (만료되거나 반납된 뒤에만 획득 가능)
+-- KEYS: 담당하려는 샤드의 리스 키 (match:shard:lease:{shard})
+-- ARGV[1]: instanceId, ARGV[2]: 리스 유지 시간 (밀리초)
+-- 반환: 획득/갱신에 성공한 KEYS의 위치 목록 (1부터 시작)
+local acquired = {}
+for i, key in ipairs(KEYS) do
+  if redis.call('SET', key, ARGV[1], 'PX', ARGV[2], 'NX') then
+    acquired[#acquired + 1] = i
+  elseif redis.call('GET', key) == ARGV[1] then
+    redis.call('PEXPIRE', key, ARGV[2])
+    acquired[#acquired + 1] = i
+  end
+end
+return acquired
@@ -0,0 +1,10 @@
+-- 마감 시각이 지난 타임아웃을 최대 ARGV[2]개 가져가고, 처리 중 인스턴스가 죽어도 다시 처리되도록 마감 시각을 ARGV[3]으로 미룸
+-- 처리를 마친 타임아웃은 호출 측에서 ZREM으로 제거
+-- KEYS[1]: 타임아웃 ZSET (member: matchId, score: 마감 시각)
+-- ARGV[1]: 현재 시각 (밀리초), ARGV[2]: 최대 개수, ARGV[3]: 재처리 시각 (현재 시각 + 처리 유예 시간)
+-- 반환: 가져간 matchId 목록
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+for _, member in ipairs(due) do
+  redis.call('ZADD', KEYS[1], ARGV[3], member)
+end
+return due
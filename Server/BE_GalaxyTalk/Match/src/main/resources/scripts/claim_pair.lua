@@ -0,0 +1,18 @@
+-- 매칭 쌍의 두 유저를 한 번에 WAITING -> IN_PROGRESS로 전환하고 대기 큐에서 제거
+-- 두 유저 모두 WAITING일 때만 변경하며, 하나라도 아니면 아무것도 바꾸지 않음
+-- KEYS[1], KEYS[2]: user:{userId1}, user:{userId2} (해시)
+-- KEYS[3]: waiting_users
+-- KEYS[4]: claimed_users (선점 시각 기록, 선점 후 방치된 유저 복구용)
+-- ARGV[1], ARGV[2]: 대기 큐 ZSET에 저장된 두 유저의 멤버 값 (RedisTemplate 값 직렬화 결과)
+-- ARGV[3]: 선점 시각 (밀리초)
+-- 반환: 1 두 유저 모두 선점 성공, 0 실패
+if redis.call('HGET', KEYS[1], 'status') ~= 'WAITING' or redis.call('HGET', KEYS[2], 'status') ~= 'WAITING' then
+  return 0
+end
+redis.call('HSET', KEYS[1], 'status', 'IN_PROGRESS')
+redis.call('HSET', KEYS[2], 'status', 'IN_PROGRESS')
+for i = 1, 2 do
+  redis.call('ZREM', KEYS[3], ARGV[i])
+  redis.call('ZADD', KEYS[4], ARGV[3], ARGV[i])
+end
+return 1
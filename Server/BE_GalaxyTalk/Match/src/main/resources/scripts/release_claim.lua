@@ -0,0 +1,19 @@
+-- 선점(IN_PROGRESS)된 유저를 WAITING으로 되돌리고 대기 큐에 다시 등록 (score는 기존 매칭 시작 시간)
+-- 매칭 생성 실패 시 롤백, 또는 선점 후 방치된 유저 복구에 사용
+-- KEYS[1]: user:{userId} (해시), KEYS[2]: waiting_users, KEYS[3]: claimed_users
+-- ARGV[1]: 대기 큐 ZSET에 저장된 유저의 멤버 값 (RedisTemplate 값 직렬화 결과)
+-- ARGV[2]: '1'이면 MATCHED 상태도 되돌림 (매칭 생성 도중 실패한 경우)
+-- 반환: 1 되돌림, 0 대상 아님 (이미 매칭 진행/종료된 유저는 선점 기록만 정리)
+redis.call('ZREM', KEYS[3], ARGV[1])
+local fields = redis.call('HMGET', KEYS[1], 'status', 'startTime')
+local status, startTime = fields[1], fields[2] or '0'
+if not status then
+  return 0
+end
+if status ~= 'IN_PROGRESS' and not (ARGV[2] == '1' and status == 'MATCHED') then
+  return 0
+end
+redis.call('HSET', KEYS[1], 'status', 'WAITING', 'accepted', '0')
+redis.call('HDEL', KEYS[1], 'matchId')
+redis.call('ZADD', KEYS[2], startTime, ARGV[1])
+return 1
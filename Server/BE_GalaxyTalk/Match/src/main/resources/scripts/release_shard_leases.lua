@@ -0,0 +1,12 @@
+-- 인스턴스가 가진 샤드 리스를 반납 (다른 인스턴스가 가진 리스는 유지)
+-- KEYS: 반납할 샤드의 리스 키 (match:shard:lease:{shard})
+-- ARGV[1]: instanceId
+-- 반환: 반납한 리스 수
+local released = 0
+for _, key in ipairs(KEYS) do
+  if redis.call('GET', key) == ARGV[1] then
+    redis.call('DEL', key)
+    released = released + 1
+  end
+end
+return released
@@ -0,0 +1,15 @@
+-- 유저 상태 해시의 일부 필드만 변경 (유저가 없으면 아무것도 만들지 않음)
+-- KEYS[1]: user:{userId} (해시)
+-- ARGV: 필드 이름, 값 쌍의 나열. 값이 빈 문자열이면 필드를 삭제 (null)
+-- 반환: 1 변경, 0 유저 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return 0
+end
+for i = 1, #ARGV, 2 do
+  if ARGV[i + 1] == '' then
+    redis.call('HDEL', KEYS[1], ARGV[i])
+  else
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+  end
+end
+return 1
@@ -0,0 +1,151 @@
+package com.example.match.benchmark;
+
+import com.example.match.dto.MatchApproveRequestDto;
+import com.example.match.service.*;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import com.example.match.support.StubAiServer;
+import com.example.match.support.StubPeerServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * /api/match/approve 처리 시간 분포 측정 (동시 부하)
+ * - 매칭마다 한 명은 미리 수락해 두고, 나머지 한 명의 수락(채팅방 생성 + 두 유저 상태 변경)을 일정 간격으로 요청합니다.
+ * - 요청 스레드는 Tomcat 스레드 풀을 흉내낸 고정 크기 풀이며, Auth/Chat 서버는 요청마다 PEER_LATENCY_MILLIS 지연됩니다.
+ * - blocking: 기존 방식. 외부 호출을 하나씩 끝날 때까지 기다리며 요청 스레드를 점유합니다.
+ * - reactive: Mono를 구독만 하고 요청 스레드를 바로 반환합니다. (MVC 비동기 응답과 동일)
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ApproveLatencyBenchmark {
+    private static final int MATCHES = 600;
+    private static final int REQUEST_THREADS = 20;
+    private static final long PEER_LATENCY_MILLIS = 50;
+    private static final long REQUEST_INTERVAL_MICROS = 5_000;
+
+    @Test
+    void approveLatencyUnderLoad() throws Exception {
+        try (EmbeddedRedis redis = new EmbeddedRedis();
+             StubAiServer aiServer = new StubAiServer(0);
+             StubPeerServer peerServer = new StubPeerServer(PEER_LATENCY_MILLIS)) {
+            System.out.printf("matches=%d request threads=%d peer latency=%d ms rate=%d req/s%n",
+                    MATCHES, REQUEST_THREADS, PEER_LATENCY_MILLIS, 1_000_000 / REQUEST_INTERVAL_MICROS);
+            for (boolean blocking : new boolean[]{true, false}) {
+                redis.flushAll();
+                run(redis, aiServer, peerServer, blocking);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void run(EmbeddedRedis redis, StubAiServer aiServer, StubPeerServer peerServer, boolean blocking)
+            throws Exception {
+        WebClient peerClient = WebClient.create(peerServer.baseUrl());
+        ExternalApiService externalApiService = spy(new ExternalApiService(
+                WebClient.create(aiServer.baseUrl()), peerClient, peerClient));
+        if (blocking) {
+            // 호출 시점에 응답까지 기다린 뒤 완료된 Mono를 반환 (.block()을 쓰던 기존 코드와 같은 순서/점유)
+            doAnswer(invocation -> Mono.justOrEmpty(((Mono<Object>) invocation.callRealMethod()).block()))
+                    .when(externalApiService).createChatRoom(any(), any(), anyDouble());
+            doAnswer(invocation -> {
+                ((Mono<Void>) invocation.callRealMethod()).block();
+                return Mono.empty();
+            }).when(externalApiService).setUserStatus(anyString(), anyString());
+        }
+
+        RedisService redisService = new RedisService(redis.redisTemplate(),
+                new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+        MatchTimer matchTimer = new MatchTimer(new SimpleMeterRegistry(), Runnable::run, 100, 512, 100_000);
+        matchTimer.start();
+        MatchProcessor matchProcessor = new MatchProcessor(redisService, mock(WebSocketService.class),
+                externalApiService, Clock.systemUTC(), matchTimer);
+        MatchService matchService = new MatchService(redisService, mock(WebSocketService.class),
+                externalApiService, matchProcessor, new ConcernEmbeddingStore(redisService, externalApiService),
+                new MatchCandidateGenerator(1000, 20, 3, 3), new StrictPairFinder(Runnable::run),
+                new ParallelPairScorer(Runnable::run, 500, 1),
+                new MaxWeightPairingStrategy(1000, 20, 5),
+                new WaitTimePriority(0.2, 300_000, 180_000),
+                new MatchShardManager(redisService, null, false, 32, 15_000, 128, 120_000),
+                new IncrementalMatcher(false, 20, 0.6), new WaitingPool(redisService));
+
+        List<String[]> matches = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            String userId1 = "user-" + (2 * i);
+            String userId2 = "user-" + (2 * i + 1);
+            matchProcessor.createMatch(MatchFixtures.user(userId1, "고민", "INTJ", null),
+                    MatchFixtures.user(userId2, "고민", "ENFP", null), 0.9);
+            String matchId = redisService.getUserStatus(userId1).getMatchId();
+            matchService.processMatchApproval(userId1, approve(matchId)).block();
+            matches.add(new String[]{matchId, userId2});
+        }
+
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(MATCHES);
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < MATCHES; i++) {
+                long due = start + TimeUnit.MICROSECONDS.toNanos(i * REQUEST_INTERVAL_MICROS);
+                long sleepNanos = due - System.nanoTime();
+                if (sleepNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                }
+                String[] match = matches.get(i);
+                long arrival = System.nanoTime();
+                requestThreads.execute(() -> {
+                    Mono<Void> approval = matchService.processMatchApproval(match[1], approve(match[0]))
+                            .doFinally(signal -> {
+                                latencies.add((System.nanoTime() - arrival) / 1_000_000);
+                                done.countDown();
+                            });
+                    if (blocking) {
+                        approval.onErrorComplete().block();
+                    } else {
+                        approval.subscribe(null, e -> { });
+                    }
+                });
+            }
+            done.await(2, TimeUnit.MINUTES);
+        } finally {
+            requestThreads.shutdownNow();
+            matchTimer.stop();
+        }
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("[%s] completed=%d  p50=%d ms  p90=%d ms  p99=%d ms  max=%d ms%n",
+                blocking ? "blocking" : "reactive", sorted.length,
+                percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99), sorted[sorted.length - 1]);
+    }
+
+    private MatchApproveRequestDto approve(String matchId) {
+        MatchApproveRequestDto response = new MatchApproveRequestDto();
+        response.setMatchId(matchId);
+        response.setAccepted(true);
+        return response;
+    }
+
+    private long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.match.benchmark;
+
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.service.*;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import com.example.match.support.StubAiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 유저 도착 → 매칭 성사(createMatch)까지 걸린 시간 분포 측정
+ * - 포아송 도착(초당 ARRIVALS_PER_SECOND명)을 실제 시간으로 흘려보내고, 매칭 주기는 5초마다 실행합니다.
+ * - 매칭 주기만 사용할 때와 도착 즉시 증분 매칭을 함께 사용할 때를 비교합니다.
+ * - MATCH_SUCCESS 알림은 createMatch 후 고정 3초 뒤 전송되므로 그 지연은 제외하고 봅니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ArrivalLatencyBenchmark {
+    private static final double ARRIVALS_PER_SECOND = 20;
+    private static final long ARRIVAL_WINDOW_MILLIS = 15_000;
+    private static final long DRAIN_MILLIS = 10_000;
+    private static final long TICK_MILLIS = 5_000;
+    private static final long[] BUCKET_BOUNDS_MILLIS = {10, 50, 100, 500, 1_000, 2_500, 5_000};
+
+    @Test
+    void arrivalToMatchLatency() throws Exception {
+        try (EmbeddedRedis redis = new EmbeddedRedis(); StubAiServer aiServer = new StubAiServer(0)) {
+            for (boolean incremental : new boolean[]{false, true}) {
+                redis.flushAll();
+                run(redis, aiServer, incremental);
+            }
+        }
+    }
+
+    private void run(EmbeddedRedis redis, StubAiServer aiServer, boolean incremental) throws Exception {
+        Map<String, Long> arrivedAt = new ConcurrentHashMap<>();
+        Map<String, Long> matchedAt = new ConcurrentHashMap<>();
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(
+                (int) (ARRIVALS_PER_SECOND * ARRIVAL_WINDOW_MILLIS / 1000 * 1.5), 3L);
+        Map<String, String> mbtiByUserId = new ConcurrentHashMap<>();
+        users.forEach(user -> mbtiByUserId.put(user.getUserId(), user.getMbti()));
+
+        ExternalApiService externalApiService =
+                spy(new ExternalApiService(WebClient.create(aiServer.baseUrl()), null, null));
+        doAnswer(invocation -> Mono.just(
+                Map.<String, Object>of("mbti", mbtiByUserId.get((String) invocation.getArgument(0)), "energy", 50)))
+                .when(externalApiService).getUserInfo(anyString());
+        doReturn(Mono.empty()).when(externalApiService).setUserStatus(anyString(), anyString());
+
+        MatchProcessor matchProcessor = mock(MatchProcessor.class);
+        doAnswer(invocation -> {
+            long now = System.nanoTime();
+            matchedAt.put(((UserMatchStatus) invocation.getArgument(0)).getUserId(), now);
+            matchedAt.put(((UserMatchStatus) invocation.getArgument(1)).getUserId(), now);
+            return null;
+        }).when(matchProcessor).createMatch(any(), any(), anyDouble());
+
+        RedisService redisService = new RedisService(redis.redisTemplate(),
+                new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+        MatchService matchService = new MatchService(redisService, mock(WebSocketService.class),
+                externalApiService, matchProcessor, new ConcernEmbeddingStore(redisService, externalApiService),
+                new MatchCandidateGenerator(1000, 20, 3, 3), new StrictPairFinder(Runnable::run),
+                new ParallelPairScorer(Runnable::run, 500, 1),
+                new MaxWeightPairingStrategy(1000, 20, 5),
+                new WaitTimePriority(0.2, 300_000, 180_000),
+                new MatchShardManager(redisService, null, false, 32, 15_000, 128, 120_000),
+                new IncrementalMatcher(incremental, 20, 0.6), new WaitingPool(redisService));
+
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleWithFixedDelay(matchService::processMatchingQueue, TICK_MILLIS, TICK_MILLIS,
+                TimeUnit.MILLISECONDS);
+        Random random = new Random(11L);
+        long start = System.nanoTime();
+        long arrivalWorkNanos = 0;
+        int arrivals = 0;
+        try {
+            double nextArrivalMillis = 0;
+            while (arrivals < users.size()) {
+                nextArrivalMillis += -Math.log(1 - random.nextDouble()) / ARRIVALS_PER_SECOND * 1000;
+                if (nextArrivalMillis > ARRIVAL_WINDOW_MILLIS) {
+                    break;
+                }
+                long waitMillis = (long) nextArrivalMillis - (System.nanoTime() - start) / 1_000_000;
+                if (waitMillis > 0) {
+                    Thread.sleep(waitMillis);
+                }
+                UserMatchStatus source = users.get(arrivals++);
+                UserMatchStatus request = new UserMatchStatus();
+                request.setUserId(source.getUserId());
+                request.setConcern(source.getConcern());
+                request.setPreferredMbti(source.getPreferredMbti());
+
+                long arrival = System.nanoTime();
+                arrivedAt.put(request.getUserId(), arrival);
+                matchService.startMatching(request).block();
+                arrivalWorkNanos += System.nanoTime() - arrival;
+            }
+            Thread.sleep(DRAIN_MILLIS);
+        } finally {
+            ticker.shutdownNow();
+            ticker.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : matchedAt.entrySet()) {
+            Long arrival = arrivedAt.get(entry.getKey());
+            if (arrival != null) {
+                latencies.add((entry.getValue() - arrival) / 1_000_000);
+            }
+        }
+        print(incremental ? "tick + incremental" : "tick only", arrivals, latencies,
+                arrivalWorkNanos / 1_000_000.0 / Math.max(1, arrivals));
+    }
+
+    private void print(String mode, int arrivals, List<Long> latencies, double arrivalWorkMillis) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("%n[%s] arrivals=%d matched=%d  startMatching avg %.2f ms%n",
+                mode, arrivals, sorted.length, arrivalWorkMillis);
+        if (sorted.length == 0) {
+            return;
+        }
+        System.out.printf("p50=%d ms  p90=%d ms  p99=%d ms  max=%d ms%n",
+                percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99), sorted[sorted.length - 1]);
+        int[] counts = new int[BUCKET_BOUNDS_MILLIS.length + 1];
+        for (long latency : sorted) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && latency > BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            counts[bucket]++;
+        }
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            String label = bucket < BUCKET_BOUNDS_MILLIS.length
+                    ? "<= " + BUCKET_BOUNDS_MILLIS[bucket] + " ms"
+                    : "> " + BUCKET_BOUNDS_MILLIS[BUCKET_BOUNDS_MILLIS.length - 1] + " ms";
+            char[] bar = new char[counts[bucket] * 60 / sorted.length];
+            Arrays.fill(bar, '#');
+            System.out.printf("%12s | %4d | %s%n", label, counts[bucket], new String(bar));
+        }
+    }
+
+    private long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
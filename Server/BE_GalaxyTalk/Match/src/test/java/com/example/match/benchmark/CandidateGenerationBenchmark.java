@@ -0,0 +1,98 @@
+package com.example.match.benchmark;
+
+import com.example.match.service.MatchCandidateGenerator;
+import com.example.match.service.VectorMath;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 모든 쌍 검사(exact) vs ANN 후보 생성의 점수 계산 시간과 매칭 품질 비교
+ * - recall: 표본 유저의 정확한 최고 유사도 상대가 ANN 후보 쌍에 포함된 비율
+ * - exact 시간은 EXACT_FULL_LIMIT 이하에서는 전체를 측정하고, 그 이상은 표본 행으로 측정하여 환산합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class CandidateGenerationBenchmark {
+    private static final int DIMENSION = 128;
+    private static final int[] WAITING_USER_COUNTS = {1_000, 10_000, 50_000};
+    private static final int EXACT_FULL_LIMIT = 10_000;
+    private static final int RECALL_SAMPLES = 300;
+
+    @Test
+    void annVersusExact() {
+        MatchCandidateGenerator generator = new MatchCandidateGenerator(0, 20, 3, 3);
+        System.out.println("users  | exact ms       | ann ms   | candidate pairs | recall");
+
+        for (int n : WAITING_USER_COUNTS) {
+            float[][] embeddings = MatchFixtures.clusteredEmbeddings(n, DIMENSION, n);
+
+            double exactMillis = measureExactMillis(embeddings);
+
+            long start = System.nanoTime();
+            int[] pairs = generator.generate(embeddings);
+            double checksum = 0;
+            for (int p = 0; p < pairs.length; p += 2) {
+                checksum += VectorMath.cosineSimilarity(embeddings[pairs[p]], embeddings[pairs[p + 1]]);
+            }
+            double annMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+            System.out.printf("%6d | %14s | %8.0f | %15d | %.3f  (checksum %.1f)%n",
+                    n, n <= EXACT_FULL_LIMIT ? String.format("%.0f", exactMillis) : String.format("%.0f (est)", exactMillis),
+                    annMillis, pairs.length / 2, recall(embeddings, pairs), checksum);
+        }
+    }
+
+    private double measureExactMillis(float[][] embeddings) {
+        int n = embeddings.length;
+        int rows = n <= EXACT_FULL_LIMIT ? n : 500;
+        Random random = new Random(n);
+        double checksum = 0;
+        long comparisons = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < rows; r++) {
+            int i = rows == n ? r : random.nextInt(n);
+            for (int j = i + 1; j < n; j++) {
+                checksum += VectorMath.cosineSimilarity(embeddings[i], embeddings[j]);
+                comparisons++;
+            }
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        if (checksum < 0) {
+            System.out.println(checksum);
+        }
+        long allPairs = (long) n * (n - 1) / 2;
+        return millis * allPairs / Math.max(1, comparisons);
+    }
+
+    private double recall(float[][] embeddings, int[] pairs) {
+        int n = embeddings.length;
+        Set<Long> candidates = new HashSet<>();
+        for (int p = 0; p < pairs.length; p += 2) {
+            candidates.add((long) pairs[p] * n + pairs[p + 1]);
+        }
+        Random random = new Random(7L);
+        int hits = 0;
+        for (int s = 0; s < RECALL_SAMPLES; s++) {
+            int i = random.nextInt(n);
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < n; j++) {
+                double score = VectorMath.dot(embeddings[i], embeddings[j]);
+                if (j != i && score > bestScore) {
+                    bestScore = score;
+                    best = j;
+                }
+            }
+            long key = i < best ? (long) i * n + best : (long) best * n + i;
+            if (candidates.contains(key)) {
+                hits++;
+            }
+        }
+        return hits / (double) RECALL_SAMPLES;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.match.benchmark;
+
+import com.example.match.service.LobbyDeltaAggregator;
+import com.example.match.service.MatchTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 대기실 입장/퇴장 알림의 프레임 수와 브로커 CPU 사용량 비교 (구독자 1k)
+ * - Spring SimpleBroker에 대기실 토픽 구독 세션 SUBSCRIBERS개를 등록하고, 세션으로 나가는 메시지(프레임) 수와 크기를 셉니다.
+ * - 이벤트는 EVENTS_PER_SECOND 속도로 DURATION_MILLIS 동안 발생합니다: 입장, 매칭 성사(2명 퇴장), 매칭 실패 후 복귀(2명 입장)
+ * - immediate: 이벤트마다 바로 전송 (delta-window-millis: 0, 기존 NEW_USER/EXIT_USER와 같은 프레임 수)
+ * - window: 200ms 동안 모아 LOBBY_DELTA 1개로 전송
+ * - broker CPU는 브로커 채널 전송(구독자 조회 + 세션별 메시지 생성/전달)에 쓴 스레드 CPU 시간입니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class LobbyBroadcastBenchmark {
+    private static final int SUBSCRIBERS = 1_000;
+    private static final int EVENTS_PER_SECOND = 500;
+    private static final long DURATION_MILLIS = 5_000;
+    private static final long WINDOW_MILLIS = 200;
+
+    @Test
+    void framesAndBrokerCpuPerSecond() throws Exception {
+        System.out.printf("subscribers=%d events=%d/s duration=%d ms%n", SUBSCRIBERS, EVENTS_PER_SECOND, DURATION_MILLIS);
+        System.out.println("mode      | events | frames    | frames/s | MB sent | broker CPU ms");
+        run(0);
+        run(WINDOW_MILLIS);
+    }
+
+    private void run(long windowMillis) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicLong frames = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        AtomicLong brokerCpuNanos = new AtomicLong();
+
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        clientOutbound.subscribe(message -> {
+            frames.incrementAndGet();
+            bytes.addAndGet(((byte[]) message.getPayload()).length);
+        });
+        SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(
+                clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        broker.start();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId("session-" + i);
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(LobbyDeltaAggregator.LOBBY_DELTA_TOPIC);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        MessageChannel measuredBrokerChannel = (message, timeout) -> {
+            long start = threads.getCurrentThreadCpuTime();
+            boolean sent = brokerChannel.send(message, timeout);
+            brokerCpuNanos.addAndGet(threads.getCurrentThreadCpuTime() - start);
+            return sent;
+        };
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(measuredBrokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+
+        MatchTimer matchTimer = new MatchTimer(new SimpleMeterRegistry(), Runnable::run, 100, 512, 1_000);
+        matchTimer.start();
+        LobbyDeltaAggregator aggregator = new LobbyDeltaAggregator(messagingTemplate, matchTimer, windowMillis);
+        int events;
+        try {
+            events = generateLobbyEvents(aggregator);
+            Thread.sleep(windowMillis + 200);
+            aggregator.flush();
+        } finally {
+            matchTimer.stop();
+            broker.stop();
+        }
+
+        System.out.printf("%-9s | %6d | %9d | %8.0f | %7.1f | %.0f%n",
+                windowMillis > 0 ? "window" : "immediate", events, frames.get(),
+                frames.get() / (DURATION_MILLIS / 1000.0), bytes.get() / 1e6, brokerCpuNanos.get() / 1e6);
+    }
+
+    /**
+     * 매 이벤트 주기마다 새 유저가 입장하고, 4번에 1번 대기 유저 2명이 매칭되어 퇴장,
+     * 20번에 1번 매칭된 2명이 거절 후 대기실로 복귀합니다. 같은 시드로 두 모드에 같은 이벤트를 보냅니다.
+     */
+    private int generateLobbyEvents(LobbyDeltaAggregator aggregator) {
+        Random random = new Random(16L);
+        List<String> waiting = new ArrayList<>();
+        List<String> matched = new ArrayList<>();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / EVENTS_PER_SECOND;
+        long start = System.nanoTime();
+        int total = (int) (EVENTS_PER_SECOND * DURATION_MILLIS / 1000);
+        int events = 0;
+        for (int i = 0; i < total; i++) {
+            long sleepNanos = start + i * intervalNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+            }
+            String userId = "user-" + i;
+            aggregator.userJoined(userId, userData(userId));
+            waiting.add(userId);
+            events++;
+            if (i % 4 == 3 && waiting.size() >= 2) {
+                for (int k = 0; k < 2; k++) {
+                    String exited = waiting.remove(random.nextInt(waiting.size()));
+                    aggregator.userExited(exited);
+                    matched.add(exited);
+                    events++;
+                }
+            }
+            if (i % 20 == 19 && matched.size() >= 2) {
+                for (int k = 0; k < 2; k++) {
+                    String returned = matched.remove(random.nextInt(matched.size()));
+                    aggregator.userJoined(returned, userData(returned));
+                    waiting.add(returned);
+                    events++;
+                }
+            }
+        }
+        return events;
+    }
+
+    private Map<String, Object> userData(String userId) {
+        return Map.of(
+                "userId", userId,
+                "concern", "요즘 진로 때문에 고민이 많아요",
+                "mbti", "INTJ",
+                "status", "WAITING",
+                "startTime", "2025-01-01T00:00:00");
+    }
+}
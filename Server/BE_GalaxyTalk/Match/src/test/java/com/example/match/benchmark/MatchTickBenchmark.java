@@ -0,0 +1,89 @@
+package com.example.match.benchmark;
+
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.service.*;
+import com.example.match.support.MatchFixtures;
+import com.example.match.support.StubAiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 매칭 주기(processMatchingQueue) 1회 처리 시간 측정
+ * - 실제 processMatchingQueue를 실행하여 측정합니다.
+ *   첫 주기는 누락된 임베딩을 일괄 요청하고, 이후 주기는 캐시된 임베딩만으로 로컬 계산합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class MatchTickBenchmark {
+    private static final long AI_LATENCY_MILLIS = 2;
+    private static final int[] WAITING_USER_COUNTS = {50, 200, 1000};
+
+    @Test
+    void tickLatency() throws Exception {
+        try (StubAiServer aiServer = new StubAiServer(AI_LATENCY_MILLIS)) {
+            ExternalApiService externalApiService =
+                    new ExternalApiService(WebClient.create(aiServer.baseUrl()), null, null);
+            System.out.println("users | pairs    | first tick ms | steady tick ms | AI requests(steady)");
+
+            for (int n : WAITING_USER_COUNTS) {
+                List<UserMatchStatus> users = MatchFixtures.randomUsers(n, n);
+                RedisService redisService = mockRedisService(users);
+                WaitingPool waitingPool = new WaitingPool(redisService);
+                MatchService matchService = newMatchService(redisService, waitingPool, externalApiService);
+
+                waitingPool.reconcile();
+                long start = System.nanoTime();
+                matchService.processMatchingQueue();
+                double firstMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+                // 첫 주기에 선점되어 빠진 유저를 다시 채워 같은 인원으로 측정
+                waitingPool.reconcile();
+                int before = aiServer.requestCount();
+                start = System.nanoTime();
+                matchService.processMatchingQueue();
+                double steadyMillis = (System.nanoTime() - start) / 1_000_000.0;
+                int requests = aiServer.requestCount() - before;
+
+                long pairs = (long) n * (n - 1) / 2;
+                System.out.printf("%5d | %8d | %13.1f | %14.1f | %d%n",
+                        n, pairs, firstMillis, steadyMillis, requests);
+            }
+        }
+    }
+
+    private RedisService mockRedisService(List<UserMatchStatus> users) {
+        RedisService redisService = mock(RedisService.class);
+        Map<String, UserMatchStatus> statuses = new LinkedHashMap<>();
+        for (UserMatchStatus user : users) {
+            statuses.put(user.getUserId(), user);
+        }
+        when(redisService.getAllWaitingUsers()).thenReturn(statuses.keySet());
+        when(redisService.getUserStatuses(anyCollection())).thenReturn(statuses);
+        when(redisService.claimPair(any(), any())).thenReturn(true);
+        return redisService;
+    }
+
+    private MatchService newMatchService(RedisService redisService, WaitingPool waitingPool,
+                                         ExternalApiService externalApiService) {
+        return new MatchService(redisService, mock(WebSocketService.class),
+                externalApiService, mock(MatchProcessor.class),
+                new ConcernEmbeddingStore(redisService, externalApiService),
+                new MatchCandidateGenerator(Integer.MAX_VALUE, 20, 3, 3),
+                new StrictPairFinder(Runnable::run),
+                new ParallelPairScorer(Runnable::run, 500, 1),
+                new GreedyPairingStrategy(),
+                new WaitTimePriority(0.2, 300_000, 180_000),
+                new MatchShardManager(redisService, null, false, 32, 15_000, 128, 120_000),
+                new IncrementalMatcher(false, 20, 0.6), waitingPool);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.match.benchmark;
+
+import com.example.match.service.MatchProcessor;
+import com.example.match.service.MatchTimeoutPoller;
+import com.example.match.service.RedisScriptRegistry;
+import com.example.match.service.RedisService;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MutableClock;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대기 중인 매칭 타임아웃 100k건의 메모리 사용량과 처리 속도 측정
+ * - 기존 방식(매칭마다 CompletableFuture.delayedExecutor 작업 1개)과 Redis ZSET 방식의 힙 증가량을 비교합니다.
+ * - Redis 방식은 마감 후 폴러가 배치로 처리하는 데 걸린 시간도 출력합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class MatchTimeoutBenchmark {
+    private static final int PENDING_MATCHES = 100_000;
+
+    @Test
+    void pendingTimeoutMemoryAndDrainTime() throws Exception {
+        long baseline = usedHeap();
+        for (int i = 0; i < PENDING_MATCHES; i++) {
+            String matchId = "match-" + i;
+            CompletableFuture.delayedExecutor(10, TimeUnit.MINUTES).execute(() -> matchId.length());
+        }
+        long delayedExecutorBytes = usedHeap() - baseline;
+
+        try (EmbeddedRedis redis = new EmbeddedRedis()) {
+            MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+            RedisService redisService = new RedisService(redis.redisTemplate(),
+                    new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+            MatchTimeoutPoller poller = new MatchTimeoutPoller(redisService, mock(MatchProcessor.class), null, clock,
+                    500, 100, 30_000);
+
+            baseline = usedHeap();
+            for (int i = 0; i < PENDING_MATCHES; i++) {
+                redisService.scheduleMatchTimeout("match-" + i, clock.millis() + 60_000);
+            }
+            long redisBytes = usedHeap() - baseline;
+
+            clock.advance(Duration.ofSeconds(61));
+            long start = System.nanoTime();
+            int processed = poller.poll();
+            double drainMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+            System.out.printf("pending=%d  heap delta: delayedExecutor %.1f MB, redis zset %.1f MB%n",
+                    PENDING_MATCHES, delayedExecutorBytes / 1e6, redisBytes / 1e6);
+            System.out.printf("drained %d timeouts in %.0f ms (%.0f/s, batch 100)%n",
+                    processed, drainMillis, processed / (drainMillis / 1000));
+        }
+    }
+
+    private long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
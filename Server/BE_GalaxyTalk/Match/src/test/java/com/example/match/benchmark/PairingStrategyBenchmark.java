@@ -0,0 +1,151 @@
+package com.example.match.benchmark;
+
+import com.example.match.constant.MBTI;
+import com.example.match.service.GreedyPairingStrategy;
+import com.example.match.service.MatchCandidateGenerator;
+import com.example.match.service.MaxWeightPairingStrategy;
+import com.example.match.service.PairingStrategy;
+import com.example.match.service.ScoredPairs;
+import com.example.match.service.VectorMath;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 매칭 쌍 선택 단계 비교: 기존 방식(MatchPair 객체 리스트 정렬 + HashSet) vs greedy vs max-weight
+ * - 총점: 선택된 쌍의 composite score 합 (높을수록 좋음)
+ * - 할당량: 선택 단계 1회 동안 현재 스레드가 할당한 바이트 수
+ * - 후보 그래프는 실제 매칭 주기와 같게 ann-threshold(1000) 미만은 모든 쌍, 이상은 ANN top-20 후보 쌍입니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class PairingStrategyBenchmark {
+    private static final int DIMENSION = 128;
+    private static final int[] WAITING_USER_COUNTS = {200, 999, 5_000, 20_000};
+    private static final int ANN_THRESHOLD = 1000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareStrategies() {
+        MatchCandidateGenerator generator = new MatchCandidateGenerator(ANN_THRESHOLD, 20, 3, 3);
+        PairingStrategy greedy = new GreedyPairingStrategy();
+        PairingStrategy maxWeight = new MaxWeightPairingStrategy(1000, 20, 5);
+        System.out.println("users  | candidates | strategy       | pairs | total score | ms      | alloc MB");
+
+        for (int n : WAITING_USER_COUNTS) {
+            ScoredPairs candidates = candidateGraph(n, generator);
+
+            String[] userIds = new String[n];
+            for (int i = 0; i < n; i++) {
+                userIds[i] = "user-" + i;
+            }
+
+            report(n, candidates, "legacy", () -> legacySelect(userIds, candidates));
+            report(n, candidates, "greedy", () -> greedy.select(n, candidates, new boolean[n]));
+            report(n, candidates, "max-weight", () -> maxWeight.select(n, candidates, new boolean[n]));
+        }
+    }
+
+    private void report(int n, ScoredPairs candidates, String name, Selection selection) {
+        for (int r = 0; r < WARMUP_ROUNDS; r++) {
+            selection.run();
+        }
+        long totalNanos = 0;
+        long totalBytes = 0;
+        int[] selected = null;
+        for (int r = 0; r < MEASURED_ROUNDS; r++) {
+            long bytes = threadBean.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            selected = selection.run();
+            totalNanos += System.nanoTime() - start;
+            totalBytes += threadBean.getCurrentThreadAllocatedBytes() - bytes;
+        }
+        double totalScore = 0;
+        for (int k : selected) {
+            totalScore += candidates.score(k);
+        }
+        System.out.printf("%6d | %10d | %-14s | %5d | %11.3f | %7.1f | %8.2f%n",
+                n, candidates.size(), name, selected.length, totalScore,
+                totalNanos / 1_000_000.0 / MEASURED_ROUNDS, totalBytes / 1048576.0 / MEASURED_ROUNDS);
+    }
+
+    /**
+     * composite score = 0.8 × 고민 유사도 + 0.2 × MBTI 유사도 로 후보 그래프를 만듭니다.
+     */
+    private ScoredPairs candidateGraph(int n, MatchCandidateGenerator generator) {
+        float[][] embeddings = MatchFixtures.clusteredEmbeddings(n, DIMENSION, n);
+        Random random = new Random(n);
+        String[] mbti = new String[n];
+        for (int i = 0; i < n; i++) {
+            mbti[i] = MBTI.values()[random.nextInt(MBTI.values().length)].name();
+        }
+        ScoredPairs candidates = new ScoredPairs();
+        int[] pairs = generator.generate(embeddings);
+        if (pairs == null) {
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    candidates.add(i, j, score(embeddings, mbti, i, j));
+                }
+            }
+        } else {
+            for (int p = 0; p < pairs.length; p += 2) {
+                candidates.add(pairs[p], pairs[p + 1], score(embeddings, mbti, pairs[p], pairs[p + 1]));
+            }
+        }
+        return candidates;
+    }
+
+    private double score(float[][] embeddings, String[] mbti, int i, int j) {
+        int same = 0;
+        for (int c = 0; c < 4; c++) {
+            if (mbti[i].charAt(c) == mbti[j].charAt(c)) {
+                same++;
+            }
+        }
+        return 0.8 * VectorMath.cosineSimilarity(embeddings[i], embeddings[j]) + 0.2 * same / 4.0;
+    }
+
+    /**
+     * 기존 processMatchingQueue의 선택 방식 (쌍마다 객체 생성, Comparator 정렬, 유저 ID HashSet)
+     */
+    private int[] legacySelect(String[] userIds, ScoredPairs candidates) {
+        List<LegacyPair> pairs = new ArrayList<>();
+        for (int k = 0; k < candidates.size(); k++) {
+            pairs.add(new LegacyPair(userIds[candidates.first(k)], userIds[candidates.second(k)],
+                    candidates.score(k), k));
+        }
+        pairs.sort((p1, p2) -> Double.compare(p2.similarity, p1.similarity));
+        Set<String> matchedUserIds = new HashSet<>();
+        int[] selected = new int[userIds.length / 2];
+        int count = 0;
+        for (LegacyPair pair : pairs) {
+            if (matchedUserIds.contains(pair.user1) || matchedUserIds.contains(pair.user2)) {
+                continue;
+            }
+            matchedUserIds.add(pair.user1);
+            matchedUserIds.add(pair.user2);
+            selected[count++] = pair.index;
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private record LegacyPair(String user1, String user2, double similarity, int index) {
+    }
+
+    @FunctionalInterface
+    private interface Selection {
+        int[] run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.match.benchmark;
+
+import com.example.match.service.MatchCandidateGenerator;
+import com.example.match.service.PairScorer;
+import com.example.match.service.ParallelPairScorer;
+import com.example.match.service.VectorMath;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * relaxed 후보 쌍 점수 계산의 스레드 수별 처리 시간 (1 → CPU 코어 수)
+ * - all: 모든 쌍 검사 (ANN 기준 인원 미만일 때의 경로, 2,000명)
+ * - ann: ANN 인덱스가 만든 유저별 상위 20명 후보 쌍 (2,000명 / 10,000명)
+ * 점수는 고민 임베딩(128차원) 코사인 유사도 기반이며, 스레드 수마다 ROUNDS번 측정한 평균입니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ParallelScoringBenchmark {
+    private static final int DIMENSION = 128;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void scoringTimeByThreadCount() {
+        List<Integer> threadCounts = new ArrayList<>();
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(cores);
+
+        System.out.println("mode |  users |    pairs | threads | ms     | speedup");
+        run("all", MatchFixtures.clusteredEmbeddings(2_000, DIMENSION, 2_000), null, threadCounts);
+        for (int n : new int[]{2_000, 10_000}) {
+            float[][] embeddings = MatchFixtures.clusteredEmbeddings(n, DIMENSION, n);
+            int[] candidates = new MatchCandidateGenerator(0, 20, 3, 3).generate(embeddings);
+            run("ann", embeddings, candidates, threadCounts);
+        }
+    }
+
+    private void run(String mode, float[][] embeddings, int[] candidates, List<Integer> threadCounts) {
+        int n = embeddings.length;
+        PairScorer scorer = (i, j) -> 0.8 * VectorMath.cosineSimilarity(embeddings[i], embeddings[j]) + 0.2 * 0.5;
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                ParallelPairScorer parallelPairScorer = new ParallelPairScorer(pool, 0, threads);
+                // 워밍업
+                int pairs = score(parallelPairScorer, n, candidates, scorer);
+                long start = System.nanoTime();
+                for (int r = 0; r < ROUNDS; r++) {
+                    score(parallelPairScorer, n, candidates, scorer);
+                }
+                double millis = (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+                if (threads == 1) {
+                    baseline = millis;
+                }
+                System.out.printf("%-4s | %6d | %8d | %7d | %6.1f | %.2fx%n",
+                        mode, n, pairs, threads, millis, baseline / millis);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    private int score(ParallelPairScorer parallelPairScorer, int n, int[] candidates, PairScorer scorer) {
+        return (candidates == null)
+                ? parallelPairScorer.scoreAllPairs(n, scorer).size()
+                : parallelPairScorer.scorePairs(n, candidates, scorer).size();
+    }
+}
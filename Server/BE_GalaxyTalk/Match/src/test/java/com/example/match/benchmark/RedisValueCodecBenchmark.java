@@ -0,0 +1,81 @@
+package com.example.match.benchmark;
+
+import com.example.match.config.RedisValueCodecs;
+import com.example.match.domain.MatchResultStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 매칭 정보(match:{matchId}, MatchResultStatus) 값 직렬화 방식별 인코딩/디코딩 처리량과 저장 크기 측정
+ * - generic: 이전 방식 (GenericJackson2JsonRedisSerializer, @class 포함)
+ * - json: 클래스별 Jackson 직렬화 (TypedJsonRedisSerializer)
+ * - binary: 필드 이름 없는 바이너리 (CompactBinaryRedisSerializer)
+ * 같은 매칭 정보 목록을 ROUNDS번 반복 인코딩/디코딩하며, 첫 라운드는 워밍업으로 제외합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class RedisValueCodecBenchmark {
+    private static final int MATCHES = 10_000;
+    private static final int ROUNDS = 20;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void encodeDecodeThroughputAndSize() {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(MATCHES * 2, 11L);
+        Random random = new Random(11L);
+        List<MatchResultStatus> matches = new ArrayList<>(MATCHES);
+        for (int i = 0; i < MATCHES; i++) {
+            MatchResultStatus match = new MatchResultStatus();
+            match.setUserIds(new ArrayList<>(List.of(users.get(2 * i).getUserId(), users.get(2 * i + 1).getUserId())));
+            match.setSimilarity(random.nextDouble());
+            matches.add(match);
+        }
+        Map<String, RedisSerializer<MatchResultStatus>> codecs = new LinkedHashMap<>();
+        codecs.put("generic", (RedisSerializer<MatchResultStatus>) (RedisSerializer<?>) new GenericJackson2JsonRedisSerializer());
+        codecs.put(RedisValueCodecs.JSON, RedisValueCodecs.matchResultSerializer(RedisValueCodecs.JSON));
+        codecs.put(RedisValueCodecs.BINARY, RedisValueCodecs.matchResultSerializer(RedisValueCodecs.BINARY));
+
+        for (Map.Entry<String, RedisSerializer<MatchResultStatus>> codec : codecs.entrySet()) {
+            RedisSerializer<MatchResultStatus> serializer = codec.getValue();
+            byte[][] encoded = new byte[MATCHES][];
+            long encodeNanos = 0;
+            long decodeNanos = 0;
+            long totalBytes = 0;
+            for (int r = 0; r < ROUNDS; r++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < MATCHES; i++) {
+                    encoded[i] = serializer.serialize(matches.get(i));
+                }
+                long encodeEnd = System.nanoTime();
+                for (int i = 0; i < MATCHES; i++) {
+                    MatchResultStatus decoded = serializer.deserialize(encoded[i]);
+                    if (decoded == null || decoded.getSimilarity() != matches.get(i).getSimilarity()) {
+                        throw new IllegalStateException(codec.getKey() + " 디코딩 결과 불일치: " + i);
+                    }
+                }
+                long decodeEnd = System.nanoTime();
+                if (r > 0) {
+                    encodeNanos += encodeEnd - start;
+                    decodeNanos += decodeEnd - encodeEnd;
+                }
+            }
+            for (byte[] bytes : encoded) {
+                totalBytes += bytes.length;
+            }
+            long measured = (long) MATCHES * (ROUNDS - 1);
+            System.out.printf("%-8s encode: %,10.0f ops/s  decode: %,10.0f ops/s  bytes/match: %.1f%n",
+                    codec.getKey(), measured * 1e9 / encodeNanos, measured * 1e9 / decodeNanos,
+                    (double) totalBytes / MATCHES);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.match.benchmark;
+
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.service.*;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import com.example.match.support.StubAiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인스턴스 수에 따른 매칭 주기 처리 시간 측정 (샤딩)
+ * - 같은 대기 풀을 인스턴스 1/2/4개가 샤드로 나눠 처리할 때, 인스턴스별 주기 시간과 매칭 수를 비교합니다.
+ * - 인스턴스는 실제로는 별도 프로세스에서 병렬로 돌기 때문에, 여기서는 순서대로 실행하고 가장 긴 주기 시간을 기준으로 봅니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ShardedTickBenchmark {
+    private static final int WAITING_USERS = 2_000;
+    private static final int[] INSTANCE_COUNTS = {1, 2, 4};
+
+    @Test
+    void tickTimeByInstanceCount() throws Exception {
+        try (EmbeddedRedis redis = new EmbeddedRedis(); StubAiServer aiServer = new StubAiServer(0)) {
+            ExternalApiService externalApiService =
+                    new ExternalApiService(WebClient.create(aiServer.baseUrl()), null, null);
+            System.out.println("instances | users/instance(max) | slowest tick ms | total tick ms | matches");
+
+            for (int instanceCount : INSTANCE_COUNTS) {
+                redis.flushAll();
+                List<UserMatchStatus> users = MatchFixtures.randomUsers(WAITING_USERS, 5L);
+                RedisService seeder = newRedisService(redis);
+                for (UserMatchStatus user : users) {
+                    seeder.saveUserStatus(user);
+                    seeder.addUserToWaitingQueue(user);
+                }
+                // 임베딩은 미리 Redis에 저장해 두고 정상 상태(캐시 적중)의 주기만 측정
+                new ConcernEmbeddingStore(seeder, externalApiService).getEmbeddings(users);
+
+                List<String> instanceIds = new ArrayList<>();
+                for (int i = 0; i < instanceCount; i++) {
+                    instanceIds.add("match-" + i);
+                }
+                AtomicInteger matches = new AtomicInteger();
+                List<MatchShardManager> managers = new ArrayList<>();
+                List<MatchService> services = new ArrayList<>();
+                for (String instanceId : instanceIds) {
+                    RedisService redisService = newRedisService(redis);
+                    MatchShardManager manager = new MatchShardManager(redisService,
+                            fixedRegistry(instanceId, Set.copyOf(instanceIds)), true, 32, 60_000, 128, 120_000);
+                    MatchProcessor matchProcessor = mock(MatchProcessor.class);
+                    doAnswer(invocation -> {
+                        matches.incrementAndGet();
+                        return null;
+                    }).when(matchProcessor).createMatch(any(), any(), anyDouble());
+                    // 대기 풀은 미리 Redis와 맞춰 두고 주기 시간만 측정
+                    WaitingPool waitingPool = new WaitingPool(redisService);
+                    waitingPool.reconcile();
+                    managers.add(manager);
+                    services.add(new MatchService(redisService, mock(WebSocketService.class), externalApiService,
+                            matchProcessor, new ConcernEmbeddingStore(redisService, externalApiService),
+                            new MatchCandidateGenerator(1000, 20, 3, 3), new StrictPairFinder(Runnable::run),
+                            new ParallelPairScorer(Runnable::run, 500, 1),
+                            new MaxWeightPairingStrategy(1000, 20, 5), new WaitTimePriority(0.2, 300_000, 180_000),
+                            manager,
+                            new IncrementalMatcher(false, 20, 0.6), waitingPool));
+                }
+                for (int round = 0; round < 3; round++) {
+                    managers.forEach(MatchShardManager::refresh);
+                }
+
+                int maxUsers = 0;
+                for (MatchShardManager manager : managers) {
+                    maxUsers = Math.max(maxUsers, manager.filterOwned(seeder.getAllWaitingUsers()).size());
+                }
+                double slowest = 0;
+                double total = 0;
+                for (MatchService service : services) {
+                    long start = System.nanoTime();
+                    service.processMatchingQueue();
+                    double millis = (System.nanoTime() - start) / 1_000_000.0;
+                    slowest = Math.max(slowest, millis);
+                    total += millis;
+                }
+                System.out.printf("%9d | %19d | %15.1f | %13.1f | %d%n",
+                        instanceCount, maxUsers, slowest, total, matches.get());
+            }
+        }
+    }
+
+    private RedisService newRedisService(EmbeddedRedis redis) {
+        return new RedisService(redis.redisTemplate(), new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+    }
+
+    private MatchInstanceRegistry fixedRegistry(String instanceId, Set<String> instanceIds) {
+        return new MatchInstanceRegistry() {
+            @Override
+            public String localInstanceId() {
+                return instanceId;
+            }
+
+            @Override
+            public Set<String> registeredInstanceIds() {
+                return instanceIds;
+            }
+        };
+    }
+}
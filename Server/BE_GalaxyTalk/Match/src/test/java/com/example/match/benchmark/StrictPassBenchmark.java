@@ -0,0 +1,81 @@
+package com.example.match.benchmark;
+
+import com.example.match.constant.MBTI;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.service.ScoredPairs;
+import com.example.match.service.StrictPairFinder;
+import com.example.match.service.VectorMath;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * strict 후보 탐색 시간 비교
+ * - full scan: 기존 방식처럼 모든 쌍에 대해 문자열 기반 strict 조건을 검사
+ * - bucket: MBTI 버킷 조회 (직접 실행 / 17 스레드 풀 병렬 실행)
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class StrictPassBenchmark {
+    private static final int[] WAITING_USER_COUNTS = {1_000, 5_000, 10_000};
+    private static final int DIMENSION = 128;
+
+    @Test
+    void strictPass() {
+        ExecutorService pool = Executors.newFixedThreadPool(17);
+        try {
+            System.out.println("users  | full scan ms | bucket ms | bucket(parallel) ms | strict pairs");
+            for (int n : WAITING_USER_COUNTS) {
+                List<UserMatchStatus> users = MatchFixtures.randomUsers(n, n);
+                float[][] embeddings = MatchFixtures.clusteredEmbeddings(n, DIMENSION, n);
+                int[] mbti = new int[n];
+                int[] preferred = new int[n];
+                for (int i = 0; i < n; i++) {
+                    mbti[i] = MBTI.fromString(users.get(i).getMbti()).ordinal();
+                    MBTI pref = MBTI.fromString(users.get(i).getPreferredMbti());
+                    preferred[i] = pref == null ? -1 : pref.ordinal();
+                }
+
+                long start = System.nanoTime();
+                int fullScanPairs = 0;
+                for (int i = 0; i < n - 1; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        if (isStrictCompatible(users.get(i), users.get(j))) {
+                            VectorMath.cosineSimilarity(embeddings[i], embeddings[j]);
+                            fullScanPairs++;
+                        }
+                    }
+                }
+                double fullScanMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+                start = System.nanoTime();
+                ScoredPairs direct = new StrictPairFinder(Runnable::run).find(mbti, preferred,
+                        (i, j) -> VectorMath.cosineSimilarity(embeddings[i], embeddings[j]));
+                double directMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+                start = System.nanoTime();
+                new StrictPairFinder(pool).find(mbti, preferred,
+                        (i, j) -> VectorMath.cosineSimilarity(embeddings[i], embeddings[j]));
+                double parallelMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+                System.out.printf("%6d | %12.1f | %9.1f | %19.1f | %d (full scan %d)%n",
+                        n, fullScanMillis, directMillis, parallelMillis, direct.size(), fullScanPairs);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static boolean isStrictCompatible(UserMatchStatus u1, UserMatchStatus u2) {
+        if (u1.getPreferredMbti() == null || u2.getPreferredMbti() == null ||
+                u1.getMbti() == null || u2.getMbti() == null) {
+            return false;
+        }
+        return u1.getPreferredMbti().equalsIgnoreCase(u2.getMbti()) &&
+                u2.getPreferredMbti().equalsIgnoreCase(u1.getMbti());
+    }
+}
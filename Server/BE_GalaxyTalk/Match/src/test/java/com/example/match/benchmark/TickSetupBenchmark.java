@@ -0,0 +1,154 @@
+package com.example.match.benchmark;
+
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.service.RedisScriptRegistry;
+import com.example.match.service.RedisService;
+import com.example.match.service.WaitingPool;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매칭 주기 준비 단계(대기 유저 ID 조회 + 유저 상태 로딩) 시간 측정
+ * - 유저별 GET (기존 방식) vs 일괄 조회 (getUserStatuses)
+ * - Redis 일괄 조회(대기 큐 + 유저 상태 + 거절 기록) vs 메모리 대기 풀 스냅샷 (WaitingPool), 호출 스레드 할당량 포함
+ * - 로컬 embedded Redis 기준이므로 실제 네트워크 환경에서는 왕복 횟수 차이만큼 격차가 더 커집니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class TickSetupBenchmark {
+    private static final int WAITING_USERS = 1_000;
+    private static final int POOL_USERS = 10_000;
+    private static final int ROUNDS = 10;
+
+    @Test
+    void perUserGetVersusMget() throws Exception {
+        try (EmbeddedRedis redis = new EmbeddedRedis()) {
+            RedisService redisService = new RedisService(redis.redisTemplate(),
+                    new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+            for (UserMatchStatus user : MatchFixtures.randomUsers(WAITING_USERS, 1L)) {
+                redisService.saveUserStatus(user);
+                redisService.addUserToWaitingQueue(user);
+            }
+
+            // 워밍업
+            loadPerUser(redisService);
+            loadBulk(redisService);
+
+            long perUserNanos = 0;
+            long bulkNanos = 0;
+            for (int r = 0; r < ROUNDS; r++) {
+                long start = System.nanoTime();
+                int perUserCount = loadPerUser(redisService);
+                perUserNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                int bulkCount = loadBulk(redisService);
+                bulkNanos += System.nanoTime() - start;
+
+                if (perUserCount != WAITING_USERS || bulkCount != WAITING_USERS) {
+                    throw new IllegalStateException("로딩된 유저 수 불일치: " + perUserCount + ", " + bulkCount);
+                }
+            }
+            System.out.printf("users=%d  per-user GET: %.1f ms  MGET: %.1f ms%n", WAITING_USERS,
+                    perUserNanos / 1_000_000.0 / ROUNDS, bulkNanos / 1_000_000.0 / ROUNDS);
+        }
+    }
+
+    @Test
+    void redisLoadVersusWaitingPoolSnapshot() throws Exception {
+        try (EmbeddedRedis redis = new EmbeddedRedis()) {
+            RedisService redisService = new RedisService(redis.redisTemplate(),
+                    new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+            List<UserMatchStatus> users = MatchFixtures.randomUsers(POOL_USERS, 2L);
+            for (int i = 0; i < users.size(); i++) {
+                redisService.saveUserStatus(users.get(i));
+                redisService.addUserToWaitingQueue(users.get(i));
+                if (i % 10 == 0) {
+                    redisService.addRejection(users.get(i).getUserId(), users.get((i + 1) % users.size()).getUserId());
+                }
+            }
+            WaitingPool waitingPool = new WaitingPool(redisService);
+            waitingPool.reconcile();
+
+            // 워밍업
+            loadFromRedis(redisService);
+            loadFromPool(waitingPool);
+
+            long redisNanos = 0;
+            long poolNanos = 0;
+            long redisBytes = 0;
+            long poolBytes = 0;
+            for (int r = 0; r < ROUNDS; r++) {
+                long allocated = allocatedBytes();
+                long start = System.nanoTime();
+                int redisCount = loadFromRedis(redisService);
+                redisNanos += System.nanoTime() - start;
+                redisBytes += allocatedBytes() - allocated;
+
+                allocated = allocatedBytes();
+                start = System.nanoTime();
+                int poolCount = loadFromPool(waitingPool);
+                poolNanos += System.nanoTime() - start;
+                poolBytes += allocatedBytes() - allocated;
+
+                if (redisCount != POOL_USERS || poolCount != POOL_USERS) {
+                    throw new IllegalStateException("로딩된 유저 수 불일치: " + redisCount + ", " + poolCount);
+                }
+            }
+            System.out.printf("users=%d  Redis: %.1f ms, %.1f MB  WaitingPool: %.1f ms, %.1f MB%n", POOL_USERS,
+                    redisNanos / 1_000_000.0 / ROUNDS, redisBytes / 1_048_576.0 / ROUNDS,
+                    poolNanos / 1_000_000.0 / ROUNDS, poolBytes / 1_048_576.0 / ROUNDS);
+        }
+    }
+
+    // 대기 풀 도입 전 매칭 주기가 매번 Redis에서 읽던 데이터
+    private int loadFromRedis(RedisService redisService) {
+        Set<String> ids = redisService.getAllWaitingUsers();
+        Map<String, UserMatchStatus> statuses = redisService.getUserStatuses(ids);
+        redisService.getRejectedUsers(statuses.keySet());
+        return statuses.size();
+    }
+
+    // 매칭 주기가 대기 풀 스냅샷에서 만드는 데이터 (유저 상태 객체, 거절 기록 맵)
+    private int loadFromPool(WaitingPool waitingPool) {
+        List<UserMatchStatus> users = new ArrayList<>();
+        Map<String, Set<String>> rejectedByUserId = new HashMap<>();
+        for (WaitingPool.WaitingUser entry : waitingPool.snapshot(user -> true)) {
+            users.add(entry.toUserStatus());
+            if (!entry.rejected().isEmpty()) {
+                rejectedByUserId.put(entry.userId(), entry.rejected());
+            }
+        }
+        return users.size();
+    }
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private int loadPerUser(RedisService redisService) {
+        Set<String> ids = redisService.getAllWaitingUsers();
+        List<UserMatchStatus> users = new ArrayList<>();
+        for (String id : ids) {
+            UserMatchStatus user = redisService.getUserStatus(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users.size();
+    }
+
+    private int loadBulk(RedisService redisService) {
+        Set<String> ids = redisService.getAllWaitingUsers();
+        return redisService.getUserStatuses(ids).size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.match.benchmark;
+
+import com.example.match.dto.MessageResponseDto;
+import com.example.match.service.WebSocketService;
+import com.example.match.support.InProcessStompBroker;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 알림 1건의 전송 비용 비교 (구독 10k)
+ * - topic: 유저마다 /topic/matching/{userId}를 구독하고 convertAndSend로 전송 (기존 방식)
+ * - user-queue: 유저마다 /user/queue/matching을 구독하고 convertAndSendToUser로 전송
+ *   (SimpUserRegistry에서 유저 세션을 찾아 세션 전용 목적지로 전달)
+ * - 메모리 브로커는 목적지별 구독자 조회 결과를 cacheLimit개까지 기억하며, 기억하지 못한 목적지는 모든 구독을 검사합니다.
+ *   Spring 기본값(1024)과 match.websocket.destination-cache-limit 기본값(20000)으로 각각 측정합니다.
+ * - 알림 대상 유저는 무작위로 고르며, 메시지당 평균 처리 시간(직렬화 포함)과 전달된 프레임 수를 출력합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class UserDestinationDispatchBenchmark {
+    private static final int SUBSCRIPTIONS = 10_000;
+    private static final int WARMUP_MESSAGES = 20_000;
+    private static final int MESSAGES = 200_000;
+
+    @Test
+    void perMessageDispatchCost() {
+        System.out.printf("subscriptions=%d messages=%d%n", SUBSCRIPTIONS, MESSAGES);
+        System.out.println("mode       | cache limit | ns/msg | frames");
+        for (int cacheLimit : new int[]{1024, 20_000}) {
+            run(false, cacheLimit);
+            run(true, cacheLimit);
+        }
+    }
+
+    private void run(boolean userQueue, int cacheLimit) {
+        AtomicLong frames = new AtomicLong();
+        try (InProcessStompBroker broker = new InProcessStompBroker(cacheLimit, message -> frames.incrementAndGet())) {
+            for (int i = 0; i < SUBSCRIPTIONS; i++) {
+                String sessionId = "session-" + i;
+                broker.connect(sessionId, "user-" + i);
+                broker.subscribe(sessionId, userQueue ? "/user" + WebSocketService.USER_QUEUE : "/topic/matching/user-" + i);
+            }
+
+            Random random = new Random(18L);
+            MessageResponseDto payload = new MessageResponseDto("WAITING", "다른 사람을 찾아볼게요", null);
+            for (int i = 0; i < WARMUP_MESSAGES; i++) {
+                send(broker, userQueue, "user-" + random.nextInt(SUBSCRIPTIONS), payload);
+            }
+            frames.set(0);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                send(broker, userQueue, "user-" + random.nextInt(SUBSCRIPTIONS), payload);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("%-10s | %11d | %6d | %d%n",
+                    userQueue ? "user-queue" : "topic", cacheLimit, elapsed / MESSAGES, frames.get());
+        }
+    }
+
+    private void send(InProcessStompBroker broker, boolean userQueue, String userId, MessageResponseDto payload) {
+        if (userQueue) {
+            broker.messagingTemplate().convertAndSendToUser(userId, WebSocketService.USER_QUEUE, payload);
+        } else {
+            broker.messagingTemplate().convertAndSend("/topic/matching/" + userId, payload);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.match.benchmark;
+
+import com.example.match.support.EmbeddedRedis;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드 모드 부하 비교 (동시 요청 1k / 5k)
+ * - platform: Tomcat 기본 설정과 같은 최대 200개 스레드 풀이 요청을 처리 (초과 요청은 대기)
+ * - virtual: spring.threads.virtual.enabled=true일 때처럼 요청마다 가상 스레드 생성
+ * - 요청 처리는 서비스의 블로킹 호출을 흉내냅니다: Redis 조회 1회 + 외부 서버 호출 대기(REMOTE_CALL_MILLIS, .block()/Feign 자리)
+ * - 동시 사용자 수만큼의 클라이언트가 응답을 받으면 바로 다음 요청을 보내며, 처리량/p99 지연/최대 힙 사용량/최대 플랫폼 스레드 수를 출력합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmark {
+    private static final int[] CONCURRENT_REQUESTS = {1_000, 5_000};
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long REMOTE_CALL_MILLIS = 50;
+    private static final long DURATION_MILLIS = 10_000;
+
+    @Test
+    void throughputAndMemoryByThreadMode() throws Exception {
+        try (EmbeddedRedis redis = new EmbeddedRedis()) {
+            RedisTemplate<String, Object> redisTemplate = redis.redisTemplate();
+            redisTemplate.opsForValue().set("user:load-test", "value");
+            System.out.println("mode     | concurrent | req/s   | p99 ms | peak heap MB | peak platform threads");
+            for (int concurrent : CONCURRENT_REQUESTS) {
+                for (boolean virtual : new boolean[]{false, true}) {
+                    run(redisTemplate, concurrent, virtual);
+                }
+            }
+        }
+    }
+
+    private void run(RedisTemplate<String, Object> redisTemplate, int concurrent, boolean virtual) throws Exception {
+        System.gc();
+        ExecutorService server = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : new ThreadPoolExecutor(TOMCAT_MAX_THREADS, TOMCAT_MAX_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        Runnable request = () -> {
+            redisTemplate.opsForValue().get("user:load-test");
+            try {
+                Thread.sleep(REMOTE_CALL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicLong peakThreads = new AtomicLong();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Runtime runtime = Runtime.getRuntime();
+        ScheduledSampler sampler = new ScheduledSampler(() -> {
+            peakHeap.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+            peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        // 클라이언트는 두 모드 모두 가상 스레드로 만들어 클라이언트 쪽 비용을 같게 맞춤
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(concurrent);
+            for (int i = 0; i < concurrent; i++) {
+                futures.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        server.submit(request).get();
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            sampler.stop();
+            server.shutdownNow();
+        }
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long p99 = sorted[Math.min(sorted.length - 1, (int) Math.ceil(0.99 * sorted.length) - 1)];
+        System.out.printf("%-8s | %10d | %7.0f | %6d | %12.1f | %d%n",
+                virtual ? "virtual" : "platform", concurrent, sorted.length / (DURATION_MILLIS / 1000.0),
+                TimeUnit.NANOSECONDS.toMillis(p99), peakHeap.get() / 1e6, peakThreads.get());
+    }
+
+    /**
+     * 부하 중 100ms마다 메모리/스레드 수를 기록하는 플랫폼 스레드
+     */
+    private static final class ScheduledSampler {
+        private final Thread thread;
+
+        private ScheduledSampler(Runnable sample) {
+            this.thread = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    sample.run();
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "load-sampler");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private void stop() throws InterruptedException {
+            thread.interrupt();
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.match.benchmark;
+
+import com.example.match.constant.MBTI;
+import com.example.match.service.GreedyPairingStrategy;
+import com.example.match.service.MaxWeightPairingStrategy;
+import com.example.match.service.PairingStrategy;
+import com.example.match.service.ScoredPairs;
+import com.example.match.service.VectorMath;
+import com.example.match.service.WaitTimePriority;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 대기 시간 기반 우선순위 시뮬레이션 (Poisson 도착, 5초 매칭 주기, 5분 대기 시간 초과)
+ * - 유저는 초당 arrivalRate명의 Poisson 과정으로 도착하고, 매칭 주기마다 대기 유저의 모든 쌍을
+ *   매칭 주기와 같은 순서(롱타임 레인 → strict → relaxed)로 PairingStrategy가 선택합니다.
+ *   (이 도착률 범위에서는 대기 인원이 ANN 기준(1,000명)보다 적으므로 모든 쌍을 검사)
+ * - 선택된 쌍은 점수²의 확률로 수락하며(점수가 낮은 쌍일수록 거절이 잦음), 거절되면 수락 대기(ACCEPT_DELAY_MILLIS) 뒤
+ *   거절 기록을 남기고 매칭 시작 시각 그대로 대기 큐로 돌아갑니다.
+ * - baseline: 보정/롱타임 레인 없음, aging: 롱타임 레인(3분) + 대기 시간 보정(최대 0.2)
+ * - timeout %: 도착 유저 중 대기 시간 초과로 취소된 비율, time-to-match: 매칭 시작 → 수락까지 평균 시간,
+ *   attempts/user: 유저당 매칭 시도(선점 + 상태 쓰기) 횟수
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class WaitTimeAgingBenchmark {
+    private static final int DIMENSION = 128;
+    private static final double[] ARRIVAL_RATES = {0.2, 1.0, 5.0};
+    private static final long SIMULATED_MILLIS = 3_600_000;
+    private static final long TICK_MILLIS = 5_000;
+    private static final long TIMEOUT_MILLIS = 300_000;
+    private static final long ACCEPT_DELAY_MILLIS = 10_000;
+    private static final MBTI[] MBTIS = MBTI.values();
+
+    @Test
+    void timeoutRateAndTimeToMatchUnderPoissonArrivals() {
+        System.out.println("rate/s | strategy   | policy   | arrivals | timeout % | time-to-match s | attempts/user");
+        for (double rate : ARRIVAL_RATES) {
+            for (String strategyName : new String[]{"greedy", "max-weight"}) {
+                PairingStrategy strategy = strategyName.equals("greedy")
+                        ? new GreedyPairingStrategy()
+                        : new MaxWeightPairingStrategy(1000, 20, 5);
+                report(rate, strategyName, "baseline",
+                        simulate(rate, strategy, new WaitTimePriority(0, TIMEOUT_MILLIS, Long.MAX_VALUE)));
+                report(rate, strategyName, "aging",
+                        simulate(rate, strategy, new WaitTimePriority(0.2, TIMEOUT_MILLIS, 180_000)));
+            }
+        }
+    }
+
+    private void report(double rate, String strategy, String policy, Result result) {
+        System.out.printf("%6.1f | %-10s | %-8s | %8d | %9.2f | %15.1f | %13.2f%n",
+                rate, strategy, policy, result.arrivals,
+                100.0 * result.timeouts / result.arrivals,
+                result.matched == 0 ? 0 : result.matchWaitMillis / 1000.0 / result.matched,
+                (double) result.attempts / result.arrivals);
+    }
+
+    /**
+     * 같은 도착 순서/유저 특성(시드 고정)으로 정책만 바꿔 실행합니다.
+     */
+    private Result simulate(double arrivalRate, PairingStrategy strategy, WaitTimePriority priority) {
+        Random arrivals = new Random(42);
+        Random responses = new Random(7);
+        int capacity = (int) (arrivalRate * SIMULATED_MILLIS / 1000 * 1.2) + 16;
+        float[][] embeddings = MatchFixtures.clusteredEmbeddings(capacity, DIMENSION, 42);
+        Random traits = new Random(42);
+
+        List<SimUser> waiting = new ArrayList<>();
+        List<SimUser> pending = new ArrayList<>();
+        Set<Long> rejections = new HashSet<>();
+        Result result = new Result();
+        long nextArrival = nextArrival(arrivals, arrivalRate, 0);
+
+        for (long now = TICK_MILLIS; now <= SIMULATED_MILLIS; now += TICK_MILLIS) {
+            while (nextArrival <= now && result.arrivals < capacity) {
+                int id = result.arrivals++;
+                int mbti = traits.nextInt(MBTIS.length);
+                int preferred = traits.nextInt(4) == 0 ? -1 : traits.nextInt(MBTIS.length);
+                waiting.add(new SimUser(id, nextArrival, mbti, preferred, embeddings[id]));
+                nextArrival = nextArrival(arrivals, arrivalRate, nextArrival);
+            }
+            for (int p = pending.size() - 1; p >= 0; p--) {
+                SimUser user = pending.get(p);
+                if (user.returnAt <= now) {
+                    pending.remove(p);
+                    waiting.add(user);
+                }
+            }
+
+            // 매칭 주기의 대기 시간 초과 검사
+            final long tickTime = now;
+            int before = waiting.size();
+            waiting.removeIf(user -> tickTime - user.startTime > TIMEOUT_MILLIS);
+            result.timeouts += before - waiting.size();
+
+            tick(waiting, pending, rejections, now, strategy, priority, responses, result);
+        }
+        return result;
+    }
+
+    private void tick(List<SimUser> waiting, List<SimUser> pending, Set<Long> rejections, long now,
+                      PairingStrategy strategy, WaitTimePriority priority, Random responses, Result result) {
+        int n = waiting.size();
+        if (n < 2) {
+            return;
+        }
+        long[] waitMillis = new long[n];
+        for (int i = 0; i < n; i++) {
+            waitMillis[i] = now - waiting.get(i).startTime;
+        }
+        ScoredPairs strict = new ScoredPairs();
+        ScoredPairs relaxed = new ScoredPairs();
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                score(waiting, i, j, rejections, strict, relaxed);
+            }
+        }
+
+        boolean[] matched = new boolean[n];
+        for (ScoredPairs stage : List.of(priority.longWaitPairs(waitMillis, strict, relaxed), strict, relaxed)) {
+            if (stage.size() == 0) {
+                continue;
+            }
+            for (int k : strategy.select(n, priority.boosted(stage, waitMillis), matched)) {
+                int i = stage.first(k);
+                int j = stage.second(k);
+                matched[i] = true;
+                matched[j] = true;
+                SimUser a = waiting.get(i);
+                SimUser b = waiting.get(j);
+                result.attempts += 2;
+                double score = Math.max(0, stage.score(k));
+                if (responses.nextDouble() < score * score) {
+                    result.matched += 2;
+                    result.matchWaitMillis += (now + ACCEPT_DELAY_MILLIS - a.startTime)
+                            + (now + ACCEPT_DELAY_MILLIS - b.startTime);
+                } else {
+                    rejections.add(pairKey(a.id, b.id));
+                    a.returnAt = now + ACCEPT_DELAY_MILLIS;
+                    b.returnAt = now + ACCEPT_DELAY_MILLIS;
+                    pending.add(a);
+                    pending.add(b);
+                }
+            }
+        }
+        List<SimUser> remaining = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (!matched[i]) {
+                remaining.add(waiting.get(i));
+            }
+        }
+        waiting.clear();
+        waiting.addAll(remaining);
+    }
+
+    private static void score(List<SimUser> waiting, int i, int j, Set<Long> rejections,
+                              ScoredPairs strict, ScoredPairs relaxed) {
+        SimUser a = waiting.get(i);
+        SimUser b = waiting.get(j);
+        if (rejections.contains(pairKey(a.id, b.id))) {
+            return;
+        }
+        double concernSim = VectorMath.cosineSimilarity(a.embedding, b.embedding);
+        if (a.preferred >= 0 && b.preferred >= 0 && a.preferred == b.mbti && b.preferred == a.mbti) {
+            strict.add(i, j, 0.8 * concernSim + 0.2);
+        } else {
+            relaxed.add(i, j, 0.8 * concernSim + 0.2 * mbtiSimilarity(a.mbti, b.mbti));
+        }
+    }
+
+    private static long nextArrival(Random random, double ratePerSecond, long previous) {
+        double gapSeconds = -Math.log(1 - random.nextDouble()) / ratePerSecond;
+        return previous + Math.max(1, (long) (gapSeconds * 1000));
+    }
+
+    private static double mbtiSimilarity(int a, int b) {
+        int matchCount = 0;
+        for (int c = 0; c < 4; c++) {
+            if (MBTIS[a].name().charAt(c) == MBTIS[b].name().charAt(c)) {
+                matchCount++;
+            }
+        }
+        return matchCount / 4.0;
+    }
+
+    private static long pairKey(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    private static final class SimUser {
+        private final int id;
+        private final long startTime;
+        private final int mbti;
+        private final int preferred;
+        private final float[] embedding;
+        private long returnAt;
+
+        private SimUser(int id, long startTime, int mbti, int preferred, float[] embedding) {
+            this.id = id;
+            this.startTime = startTime;
+            this.mbti = mbti;
+            this.preferred = preferred;
+            this.embedding = embedding;
+        }
+    }
+
+    private static final class Result {
+        private int arrivals;
+        private int timeouts;
+        private int matched;
+        private long matchWaitMillis;
+        private long attempts;
+    }
+}
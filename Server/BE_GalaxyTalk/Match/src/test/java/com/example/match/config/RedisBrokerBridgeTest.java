@@ -0,0 +1,142 @@
+package com.example.match.config;
+
+import com.example.match.service.LobbyDeltaAggregator;
+import com.example.match.service.MatchTimer;
+import com.example.match.service.WebSocketService;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.InProcessStompBroker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 Match 인스턴스가 Redis pub/sub 브리지로 WebSocket 메시지를 주고받는지 검증
+ * - 인스턴스마다 InProcessStompBroker, RedisBrokerBridge, WebSocketService를 따로 만들어 한 프로세스 안에서 두 인스턴스를 흉내냅니다.
+ * - 세션 연결/구독은 각 인스턴스에 직접 등록하고, 세션으로 나가는 메시지를 큐에 모아 확인합니다.
+ */
+class RedisBrokerBridgeTest {
+    private static EmbeddedRedis redis;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void notificationFromOneNodeReachesUserConnectedToOtherNode() throws Exception {
+        nodeB.connect("session-b", "user-1");
+
+        nodeA.webSocketService.notifyUser("user-1", "WAITING", "다른 사람을 찾아볼게요");
+
+        String frame = nodeB.nextFrame();
+        assertThat(frame).contains("\"type\":\"WAITING\"").contains("다른 사람을 찾아볼게요");
+        assertThat(nodeB.nextFrameOrNull()).isNull();
+        assertThat(nodeA.nextFrameOrNull()).isNull();
+    }
+
+    @Test
+    void userWithSessionsOnBothNodesReceivesMessageOncePerSession() throws Exception {
+        nodeA.connect("session-a", "user-1");
+        nodeB.connect("session-b", "user-1");
+        nodeB.connect("session-c", "user-2");
+
+        nodeA.webSocketService.notifyUser("user-1", "MATCH_FAILED", "매칭에 실패했어요");
+
+        assertThat(nodeA.nextFrame()).contains("MATCH_FAILED");
+        assertThat(nodeB.nextFrame()).contains("MATCH_FAILED");
+        // 자기가 발행한 메시지를 Redis에서 다시 받거나, 받은 메시지를 다시 발행하지 않으며, 다른 유저 세션에는 전달하지 않음
+        assertThat(nodeA.nextFrameOrNull()).isNull();
+        assertThat(nodeB.nextFrameOrNull()).isNull();
+    }
+
+    @Test
+    void lobbyDeltaIsBroadcastToSubscribersOnEveryNode() throws Exception {
+        nodeA.subscribe("session-a", LobbyDeltaAggregator.LOBBY_DELTA_TOPIC);
+        nodeB.subscribe("session-b", LobbyDeltaAggregator.LOBBY_DELTA_TOPIC);
+
+        nodeB.webSocketService.broadcastUserExit("user-7");
+
+        assertThat(nodeA.nextFrame()).contains("LOBBY_DELTA").contains("user-7");
+        assertThat(nodeB.nextFrame()).contains("LOBBY_DELTA").contains("user-7");
+    }
+
+    /**
+     * Match 인스턴스 1개에 해당하는 WebSocket 구성 (match.websocket.broker: redis)
+     */
+    private static final class Node implements AutoCloseable {
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private final InProcessStompBroker broker;
+        private final RedisBrokerBridge bridge;
+        private final MatchTimer matchTimer;
+        private final WebSocketService webSocketService;
+
+        private Node() {
+            broker = new InProcessStompBroker(1024, message ->
+                    frames.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8)));
+            bridge = new RedisBrokerBridge(redis.connectionFactory(), redis.redisTemplate(), broker.brokerChannel());
+            broker.brokerChannel().addInterceptor(bridge);
+            bridge.start();
+
+            matchTimer = new MatchTimer(new SimpleMeterRegistry(), Runnable::run, 10, 64, 1_000);
+            matchTimer.start();
+            webSocketService = new WebSocketService(broker.messagingTemplate(),
+                    new LobbyDeltaAggregator(broker.messagingTemplate(), matchTimer, 0));
+        }
+
+        private void connect(String sessionId, String userId) {
+            broker.connect(sessionId, userId);
+            broker.subscribe(sessionId, "/user" + WebSocketService.USER_QUEUE);
+        }
+
+        private void subscribe(String sessionId, String destination) {
+            broker.subscribe(sessionId, destination);
+        }
+
+        private String nextFrame() throws InterruptedException {
+            String frame = frames.poll(2, TimeUnit.SECONDS);
+            assertThat(frame).as("구독자에게 전달된 메시지").isNotNull();
+            return frame;
+        }
+
+        private String nextFrameOrNull() throws InterruptedException {
+            return frames.poll(300, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void close() throws Exception {
+            matchTimer.stop();
+            bridge.stop();
+            broker.close();
+        }
+    }
+}
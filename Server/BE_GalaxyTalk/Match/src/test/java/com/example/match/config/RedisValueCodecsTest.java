@@ -0,0 +1,101 @@
+package com.example.match.config;
+
+import com.example.match.domain.MatchResultStatus;
+import com.example.match.domain.MatchStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisValueCodecsTest {
+    private final RedisSerializer<MatchResultStatus> json = RedisValueCodecs.matchResultSerializer(RedisValueCodecs.JSON);
+    private final RedisSerializer<MatchResultStatus> binary = RedisValueCodecs.matchResultSerializer(RedisValueCodecs.BINARY);
+
+    @Test
+    void matchResultRoundTripsInBothCodecs() {
+        MatchResultStatus match = fullMatch();
+
+        for (RedisSerializer<MatchResultStatus> serializer : List.of(json, binary)) {
+            assertThat(serializer.deserialize(serializer.serialize(match))).isEqualTo(match);
+        }
+        assertThat(binary.serialize(match).length).isLessThan(json.serialize(match).length);
+    }
+
+    @Test
+    void binaryRoundTripsNullFields() {
+        MatchResultStatus match = new MatchResultStatus();
+
+        assertThat(binary.deserialize(binary.serialize(match))).isEqualTo(match);
+    }
+
+    @Test
+    void jsonAndLegacyValuesAreReadableByEveryCodec() {
+        MatchResultStatus match = fullMatch();
+        byte[] typedJson = json.serialize(match);
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(match);
+
+        assertThat(new String(typedJson, StandardCharsets.UTF_8)).doesNotContain("@class");
+        assertThat(json.deserialize(legacy)).isEqualTo(match);
+        assertThat(binary.deserialize(typedJson)).isEqualTo(match);
+        assertThat(binary.deserialize(legacy)).isEqualTo(match);
+    }
+
+    @Test
+    void legacyUserStatusValueIsReadable() {
+        UserMatchStatus user = fullUser();
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(user);
+
+        assertThat(RedisValueCodecs.legacyUserStatusSerializer().deserialize(legacy)).isEqualTo(user);
+    }
+
+    @Test
+    void truncatedOrForeignValuesFailWithSerializationException() {
+        byte[] bytes = binary.serialize(fullMatch());
+
+        assertThatThrownBy(() -> binary.deserialize(Arrays.copyOf(bytes, bytes.length - 3)))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> json.deserialize("\"not a match result\"".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(SerializationException.class);
+        byte[] legacyOtherType = new GenericJackson2JsonRedisSerializer().serialize(fullUser());
+        assertThatThrownBy(() -> json.deserialize(legacyOtherType)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void unknownCodecIsRejected() {
+        assertThatThrownBy(() -> RedisValueCodecs.of("smile")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MatchResultStatus fullMatch() {
+        MatchResultStatus match = new MatchResultStatus();
+        // 이전 형식(@class 포함) 직렬화가 컬렉션 구현 클래스도 기록하므로 List.of 대신 일반 컬렉션 사용
+        match.setUserIds(new ArrayList<>(List.of("user-1", "user-2")));
+        match.setSimilarity(0.7321);
+        return match;
+    }
+
+    private static UserMatchStatus fullUser() {
+        UserMatchStatus user = MatchFixtures.user("user-42", "이직 고민 때문에 잠이 안 와요", "INFP", "ENTJ");
+        user.setEnergy(-3);
+        user.setStatus(MatchStatus.MATCHED);
+        user.setMatchId("match-7");
+        user.setAccepted(true);
+        user.setMatchingQueues(new ArrayList<>(List.of("waiting_users")));
+        Map<String, Object> additionalInfo = new HashMap<>();
+        additionalInfo.put("source", "web");
+        additionalInfo.put("retries", 2);
+        user.setAdditionalInfo(additionalInfo);
+        return user;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.match.config;
+
+import com.example.match.dto.MessageResponseDto;
+import com.example.match.support.FakeWebSocketSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompSubProtocolHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 느린 구독자가 있을 때의 세션 전송 한도(slow-consumer 정책)와 채널 지표 검증
+ * - 실제 STOMP 처리기(SubProtocolWebSocketHandler + StompSubProtocolHandler)와 SimpleBroker를 WebSocketConfig와 같은 방식으로 연결하고,
+ *   네트워크 대신 FakeWebSocketSession으로 구독자를 붙입니다.
+ * - 느린 구독자는 메시지마다 SLOW_SEND_MILLIS씩 늦게 받아 전송 시간 한도를 넘기게 됩니다.
+ */
+class SlowSubscriberTest {
+    private static final int SEND_TIME_LIMIT_MILLIS = 300;
+    private static final int SEND_BUFFER_SIZE_LIMIT_BYTES = 16 * 1024;
+    private static final long SLOW_SEND_MILLIS = 100;
+    private static final int FAST_SUBSCRIBERS = 5;
+    private static final int MESSAGES = 200;
+    private static final String TOPIC = "/topic/matching/users/delta";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor outboundExecutor;
+    private SimpleBrokerMessageHandler broker;
+    private SubProtocolWebSocketHandler webSocketHandler;
+    private SimpMessagingTemplate messagingTemplate;
+
+    @AfterEach
+    void tearDown() {
+        webSocketHandler.stop();
+        broker.stop();
+        outboundExecutor.shutdown();
+    }
+
+    @Test
+    void slowSubscriberIsDisconnectedWhileOthersReceiveEveryMessage() {
+        start(4, 10_000);
+        FakeWebSocketSession slow = connect("slow", SLOW_SEND_MILLIS);
+        List<FakeWebSocketSession> fast = new ArrayList<>();
+        for (int i = 0; i < FAST_SUBSCRIBERS; i++) {
+            fast.add(connect("fast-" + i, 0));
+        }
+
+        Map<String, Object> data = Map.of("added", List.of(Map.of("userId", "user-1", "concern", "x".repeat(500))));
+        for (int i = 0; i < MESSAGES; i++) {
+            messagingTemplate.convertAndSend(TOPIC, new MessageResponseDto("LOBBY_DELTA", "message-" + i, data));
+        }
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(slow.closeStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+            for (FakeWebSocketSession session : fast) {
+                assertThat(messageFrames(session)).isEqualTo(MESSAGES);
+            }
+        });
+        assertThat(fast).allSatisfy(session -> assertThat(session.isOpen()).isTrue());
+        // 느린 구독자는 끊기 전까지 일부만 받음
+        assertThat(messageFrames(slow)).isLessThan(MESSAGES);
+        assertThat(meterRegistry.get("match.websocket.slow.consumer.disconnects").functionCounter().count())
+                .isEqualTo(1);
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(meterRegistry.get("match.websocket.channel.queue").tag("channel", "outbound")
+                        .gauge().value()).isZero());
+    }
+
+    @Test
+    void fullOutboundQueueRejectsAndCountsMessages() {
+        // 전송 스레드 1개가 느린 세션에 묶여 있는 동안 큐(1칸)를 넘는 메시지는 거부됨
+        start(1, 1);
+        FakeWebSocketSession slow = connect("slow", SLOW_SEND_MILLIS);
+
+        Map<String, Object> data = Map.of("removed", List.of("user-1"));
+        for (int i = 0; i < 20; i++) {
+            messagingTemplate.convertAndSend(TOPIC, new MessageResponseDto("LOBBY_DELTA", "message-" + i, data));
+        }
+
+        assertThat(meterRegistry.get("match.websocket.channel.rejected").tag("channel", "outbound")
+                .counter().count()).isPositive();
+        assertThat(slow.isOpen()).isTrue();
+    }
+
+    /**
+     * outbound 채널 Executor 크기를 정해 브로커와 WebSocket 처리기를 시작합니다.
+     */
+    private void start(int outboundPoolSize, int outboundQueueCapacity) {
+        meterRegistry = new SimpleMeterRegistry();
+        WebSocketMetrics metrics = new WebSocketMetrics(meterRegistry);
+
+        outboundExecutor = new ThreadPoolTaskExecutor();
+        outboundExecutor.setCorePoolSize(outboundPoolSize);
+        outboundExecutor.setMaxPoolSize(outboundPoolSize);
+        outboundExecutor.setQueueCapacity(outboundQueueCapacity);
+        outboundExecutor.setThreadNamePrefix("WsOutbound-");
+        metrics.bindChannelExecutor("outbound", outboundExecutor);
+        outboundExecutor.initialize();
+
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel(outboundExecutor);
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        broker.start();
+
+        webSocketHandler = new SubProtocolWebSocketHandler(clientInbound, clientOutbound);
+        webSocketHandler.setDefaultProtocolHandler(new StompSubProtocolHandler());
+        webSocketHandler.setSendTimeLimit(SEND_TIME_LIMIT_MILLIS);
+        webSocketHandler.setSendBufferSizeLimit(SEND_BUFFER_SIZE_LIMIT_BYTES);
+        webSocketHandler.start();
+        metrics.bindSessionStats(webSocketHandler);
+
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    /**
+     * 세션 연결 후 STOMP CONNECT/SUBSCRIBE 프레임을 보내고 CONNECTED 응답을 받을 때까지 기다립니다.
+     */
+    private FakeWebSocketSession connect(String sessionId, long sendDelayMillis) {
+        FakeWebSocketSession session = new FakeWebSocketSession(sessionId, sendDelayMillis);
+        session.onClose(status -> {
+            try {
+                webSocketHandler.afterConnectionClosed(session, status);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        try {
+            webSocketHandler.afterConnectionEstablished(session);
+            webSocketHandler.handleMessage(session, new TextMessage("CONNECT\naccept-version:1.2\nheart-beat:0,0\n\n\u0000"));
+            await().atMost(5, TimeUnit.SECONDS).until(() ->
+                    session.received().stream().anyMatch(frame -> frame.startsWith("CONNECTED")));
+            webSocketHandler.handleMessage(session,
+                    new TextMessage("SUBSCRIBE\nid:sub-0\ndestination:" + TOPIC + "\n\n\u0000"));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return session;
+    }
+
+    private long messageFrames(FakeWebSocketSession session) {
+        return session.received().stream().filter(frame -> frame.startsWith("MESSAGE")).count();
+    }
+}
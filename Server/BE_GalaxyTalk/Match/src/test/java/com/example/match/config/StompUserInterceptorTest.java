@@ -0,0 +1,54 @@
+package com.example.match.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.security.Principal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StompUserInterceptorTest {
+    private final StompUserInterceptor interceptor = new StompUserInterceptor();
+
+    @Test
+    void connectWithoutHandshakeUserIsRejectedEvenWithUserIdHeader() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader(UserHandshakeHandler.USER_ID_HEADER, "victim");
+
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void connectKeepsHandshakeUserAndIgnoresUserIdHeader() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setUser(new UserPrincipal("user-1"));
+        accessor.addNativeHeader(UserHandshakeHandler.USER_ID_HEADER, "victim");
+
+        Message<?> result = interceptor.preSend(message(accessor), null);
+
+        Principal user = StompHeaderAccessor.wrap(result).getUser();
+        assertThat(user).isNotNull();
+        assertThat(user.getName()).isEqualTo("user-1");
+    }
+
+    @Test
+    void directQueueSubscriptionIsRejected() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setUser(new UserPrincipal("user-1"));
+        accessor.setDestination("/queue/matching-uservictim");
+
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.match.service;
+
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.MatchFixtures;
+import com.example.match.support.StubAiServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ConcernEmbeddingStoreTest {
+    private StubAiServer aiServer;
+    private ExternalApiService externalApiService;
+    private RedisService redisService;
+    private ConcernEmbeddingStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        aiServer = new StubAiServer(0);
+        externalApiService = new ExternalApiService(WebClient.create(aiServer.baseUrl()), null, null);
+        redisService = mock(RedisService.class);
+        when(redisService.getConcernEmbeddings(anyList()))
+                .thenAnswer(invocation -> {
+                    List<float[]> empty = new ArrayList<>();
+                    for (int i = 0; i < invocation.<List<?>>getArgument(0).size(); i++) {
+                        empty.add(null);
+                    }
+                    return empty;
+                });
+        store = new ConcernEmbeddingStore(redisService, externalApiService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiServer.close();
+    }
+
+    @Test
+    void registeredEmbeddingIsReusedWithoutCallingAiServer() {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(10, 11L);
+        users.forEach(store::register);
+        verify(redisService, times(10)).saveConcernEmbedding(anyString(), any(float[].class));
+        int requestsAfterRegister = aiServer.requestCount();
+
+        float[][] embeddings = store.getEmbeddings(users);
+
+        assertThat(embeddings).doesNotContainNull();
+        assertThat(aiServer.requestCount()).isEqualTo(requestsAfterRegister);
+    }
+
+    @Test
+    void missingEmbeddingsAreFetchedInOneRequest() {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(30, 12L);
+
+        float[][] embeddings = store.getEmbeddings(users);
+
+        assertThat(embeddings).doesNotContainNull();
+        assertThat(aiServer.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void changedConcernInvalidatesCachedEmbedding() {
+        UserMatchStatus user = MatchFixtures.user("a", "취업 면접 고민", "INTJ", null);
+        store.register(user);
+        float[] before = store.getEmbeddings(List.of(user))[0];
+
+        user.setConcern("연애 이별 고민");
+        float[] after = store.getEmbeddings(List.of(user))[0];
+
+        assertThat(after).isNotEqualTo(before);
+    }
+}
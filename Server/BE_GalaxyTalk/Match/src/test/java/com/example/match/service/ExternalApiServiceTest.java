@@ -0,0 +1,41 @@
+package com.example.match.service;
+
+import com.example.match.support.StubAiServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalApiServiceTest {
+    private StubAiServer aiServer;
+    private ExternalApiService externalApiService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        aiServer = new StubAiServer(0);
+        externalApiService = new ExternalApiService(WebClient.create(aiServer.baseUrl()), null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiServer.close();
+    }
+
+    @Test
+    void slowAiServerFailsWithinTimeout() {
+        aiServer.setLatencyMillis(2_000);
+        ReflectionTestUtils.setField(externalApiService, "timeoutMillis", 100L);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> externalApiService.getConcernEmbeddings(List.of("고민")))
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(2_000);
+    }
+}
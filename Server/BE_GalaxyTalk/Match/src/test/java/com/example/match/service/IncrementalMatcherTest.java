@@ -0,0 +1,154 @@
+package com.example.match.service;
+
+import com.example.match.constant.MBTI;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalMatcherTest {
+    // 모두 같은 MBTI(선호 없음)이므로 score = 0.8 × 코사인 + 0.2
+    private static final double MIN_SCORE = 0.9;
+
+    @Test
+    void mutualBestPairIsProposedOnArrival() {
+        IncrementalMatcher matcher = new IncrementalMatcher(true, 20, MIN_SCORE);
+
+        assertThat(matcher.add(user("a"), angle(0), Set.of())).isEmpty();
+        List<IncrementalMatcher.Proposal> proposals = matcher.add(user("b"), angle(5), Set.of());
+
+        assertThat(proposals).hasSize(1);
+        assertThat(ids(proposals.get(0))).containsExactlyInAnyOrder("a", "b");
+        assertThat(proposals.get(0).score()).isGreaterThanOrEqualTo(MIN_SCORE);
+        assertThat(matcher.size()).isZero();
+    }
+
+    @Test
+    void pairBelowMinScoreWaitsForTick() {
+        IncrementalMatcher matcher = new IncrementalMatcher(true, 20, MIN_SCORE);
+
+        matcher.add(user("a"), angle(0), Set.of());
+        assertThat(matcher.add(user("b"), angle(60), Set.of())).isEmpty();
+
+        assertThat(matcher.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedPairIsNeverProposed() {
+        IncrementalMatcher matcher = new IncrementalMatcher(true, 20, MIN_SCORE);
+
+        matcher.add(user("a"), angle(0), Set.of("b"));
+        assertThat(matcher.add(user("b"), angle(1), Set.of())).isEmpty();
+
+        assertThat(matcher.size()).isEqualTo(2);
+    }
+
+    @Test
+    void newcomerIsPairedWithItsMutualBest() {
+        IncrementalMatcher matcher = new IncrementalMatcher(true, 20, MIN_SCORE);
+        matcher.add(user("a"), angle(0), Set.of());
+        matcher.add(user("b"), angle(60), Set.of());
+
+        List<IncrementalMatcher.Proposal> proposals = matcher.add(user("c"), angle(55), Set.of());
+
+        assertThat(proposals).hasSize(1);
+        assertThat(ids(proposals.get(0))).containsExactlyInAnyOrder("b", "c");
+        assertThat(matcher.size()).isEqualTo(1);
+    }
+
+    @Test
+    void syncDropsUsersGoneFromQueueAndAddsMissingOnes() throws Exception {
+        IncrementalMatcher matcher = new IncrementalMatcher(true, 20, MIN_SCORE);
+        matcher.add(user("gone"), angle(0), Set.of());
+        matcher.add(user("stays"), angle(90), Set.of());
+        Thread.sleep(5);
+        long tickStart = System.currentTimeMillis();
+        Thread.sleep(5);
+        // 매칭 주기가 대기 큐를 읽은 뒤 도착한 유저
+        matcher.add(user("late"), angle(180), Set.of());
+
+        List<IncrementalMatcher.Proposal> proposals = matcher.sync(
+                List.of(user("stays"), user("requeued")),
+                new float[][]{angle(90), angle(93)},
+                Map.of(), tickStart);
+
+        assertThat(proposals).hasSize(1);
+        assertThat(ids(proposals.get(0))).containsExactlyInAnyOrder("stays", "requeued");
+        // gone은 제외, late는 주기 이후 도착이라 유지
+        assertThat(matcher.size()).isEqualTo(1);
+        assertThat(matcher.remove(List.of("late"))).isEmpty();
+        assertThat(matcher.size()).isZero();
+    }
+
+    @Test
+    void poolNeverHoldsAPairAboveMinScoreAfterArrivals() {
+        // 후보 목록을 작게 잡아 목록에서 밀려난 후보를 다시 찾는 경로까지 검사
+        IncrementalMatcher matcher = new IncrementalMatcher(true, 2, MIN_SCORE);
+        Random random = new Random(17L);
+        Map<String, float[]> waiting = new HashMap<>();
+        Map<String, UserMatchStatus> users = new HashMap<>();
+        Set<String> proposed = new HashSet<>();
+
+        for (int n = 0; n < 300; n++) {
+            UserMatchStatus user = user("user-" + n);
+            float[] embedding = angle(random.nextDouble() * 360);
+            users.put(user.getUserId(), user);
+            waiting.put(user.getUserId(), embedding);
+            for (IncrementalMatcher.Proposal proposal : matcher.add(user, embedding, Set.of())) {
+                for (String id : ids(proposal)) {
+                    assertThat(proposed.add(id)).isTrue();
+                    waiting.remove(id);
+                }
+            }
+            if (n % 50 == 49 && !waiting.isEmpty()) {
+                // 중간에 대기 취소 발생
+                String cancelled = waiting.keySet().iterator().next();
+                waiting.remove(cancelled);
+                for (IncrementalMatcher.Proposal proposal : matcher.remove(List.of(cancelled))) {
+                    for (String id : ids(proposal)) {
+                        assertThat(proposed.add(id)).isTrue();
+                        waiting.remove(id);
+                    }
+                }
+            }
+            assertThat(matcher.size()).isEqualTo(waiting.size());
+
+            List<String> ids = new ArrayList<>(waiting.keySet());
+            for (int i = 0; i < ids.size(); i++) {
+                for (int j = i + 1; j < ids.size(); j++) {
+                    double score = score(users.get(ids.get(i)), users.get(ids.get(j)),
+                            VectorMath.cosineSimilarity(waiting.get(ids.get(i)), waiting.get(ids.get(j))));
+                    assertThat(score).isLessThan(MIN_SCORE);
+                }
+            }
+        }
+        assertThat(proposed).isNotEmpty();
+    }
+
+    private static double score(UserMatchStatus a, UserMatchStatus b, double concernSim) {
+        return MatchScoring.compositeScore(MBTI.ordinalOf(a.getMbti()), MBTI.ordinalOf(a.getPreferredMbti()),
+                MBTI.ordinalOf(b.getMbti()), MBTI.ordinalOf(b.getPreferredMbti()), concernSim);
+    }
+
+    private static UserMatchStatus user(String userId) {
+        return MatchFixtures.user(userId, "고민", "INTJ", null);
+    }
+
+    private static float[] angle(double degrees) {
+        double radians = Math.toRadians(degrees);
+        return new float[]{(float) Math.cos(radians), (float) Math.sin(radians)};
+    }
+
+    private static List<String> ids(IncrementalMatcher.Proposal proposal) {
+        return List.of(proposal.user1().getUserId(), proposal.user2().getUserId());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.match.service;
+
+import com.example.match.dto.MessageResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.match.service.LobbyDeltaAggregator.LOBBY_DELTA_TOPIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LobbyDeltaAggregatorTest {
+    private static final long WINDOW_MILLIS = 50;
+
+    private SimpMessagingTemplate messagingTemplate;
+    private MatchTimer matchTimer;
+    private LobbyDeltaAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        matchTimer = new MatchTimer(new SimpleMeterRegistry(), Runnable::run, 10, 64, 1_000);
+        matchTimer.start();
+        aggregator = new LobbyDeltaAggregator(messagingTemplate, matchTimer, WINDOW_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchTimer.stop();
+    }
+
+    @Test
+    void eventsInOneWindowAreSentAsSingleDelta() {
+        aggregator.userJoined("user-1", Map.of("userId", "user-1"));
+        aggregator.userJoined("user-2", Map.of("userId", "user-2"));
+        aggregator.userExited("user-3");
+        aggregator.userExited("user-4");
+
+        MessageResponseDto delta = awaitDelta();
+        assertThat(delta.getType()).isEqualTo("LOBBY_DELTA");
+        assertThat(delta.getData().get("added"))
+                .isEqualTo(List.of(Map.of("userId", "user-1"), Map.of("userId", "user-2")));
+        assertThat(delta.getData().get("removed")).isEqualTo(List.of("user-3", "user-4"));
+    }
+
+    @Test
+    void joinFollowedByExitInSameWindowCancelsOut() throws Exception {
+        aggregator.userJoined("user-1", Map.of("userId", "user-1"));
+        aggregator.userExited("user-1");
+
+        Thread.sleep(WINDOW_MILLIS * 4);
+
+        verify(messagingTemplate, never()).convertAndSend(eq(LOBBY_DELTA_TOPIC), any(MessageResponseDto.class));
+    }
+
+    @Test
+    void exitFollowedByRejoinKeepsBothChanges() {
+        aggregator.userExited("user-1");
+        aggregator.userJoined("user-1", Map.of("userId", "user-1", "concern", "새 고민"));
+
+        MessageResponseDto delta = awaitDelta();
+        assertThat(delta.getData().get("removed")).isEqualTo(List.of("user-1"));
+        assertThat(delta.getData().get("added")).isEqualTo(List.of(Map.of("userId", "user-1", "concern", "새 고민")));
+    }
+
+    @Test
+    void eventsAfterFlushStartNewWindow() {
+        aggregator.userJoined("user-1", Map.of("userId", "user-1"));
+        awaitDelta();
+
+        aggregator.userExited("user-1");
+
+        ArgumentCaptor<MessageResponseDto> captor = ArgumentCaptor.forClass(MessageResponseDto.class);
+        verify(messagingTemplate, timeout(1_000).times(2)).convertAndSend(eq(LOBBY_DELTA_TOPIC), captor.capture());
+        assertThat(captor.getAllValues().get(1).getData().get("removed")).isEqualTo(List.of("user-1"));
+        assertThat(captor.getAllValues().get(1).getData().get("added")).isEqualTo(List.of());
+    }
+
+    @Test
+    void zeroWindowSendsEachEventImmediately() {
+        LobbyDeltaAggregator immediate = new LobbyDeltaAggregator(messagingTemplate, matchTimer, 0);
+
+        immediate.userJoined("user-1", Map.of("userId", "user-1"));
+        immediate.userExited("user-1");
+
+        verify(messagingTemplate, times(2))
+                .convertAndSend(eq(LOBBY_DELTA_TOPIC), any(MessageResponseDto.class));
+    }
+
+    private MessageResponseDto awaitDelta() {
+        ArgumentCaptor<MessageResponseDto> captor = ArgumentCaptor.forClass(MessageResponseDto.class);
+        verify(messagingTemplate, timeout(1_000)).convertAndSend(eq(LOBBY_DELTA_TOPIC), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.match.service;
+
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchCandidateGeneratorTest {
+
+    @Test
+    void returnsNullBelowThresholdSoAllPairsAreChecked() {
+        MatchCandidateGenerator generator = new MatchCandidateGenerator(100, 10, 3, 3);
+
+        assertThat(generator.generate(MatchFixtures.clusteredEmbeddings(99, 32, 1L))).isNull();
+    }
+
+    @Test
+    void candidatePairsAreOrderedAndUnique() {
+        int n = 2000;
+        MatchCandidateGenerator generator = new MatchCandidateGenerator(100, 10, 3, 3);
+
+        int[] pairs = generator.generate(MatchFixtures.clusteredEmbeddings(n, 32, 2L));
+
+        assertThat(pairs).isNotNull();
+        assertThat(pairs.length % 2).isZero();
+        assertThat(pairs.length / 2).isLessThanOrEqualTo(n * 10);
+        Set<Long> seen = new HashSet<>();
+        for (int p = 0; p < pairs.length; p += 2) {
+            assertThat(pairs[p]).isLessThan(pairs[p + 1]);
+            assertThat(seen.add((long) pairs[p] * n + pairs[p + 1])).isTrue();
+        }
+    }
+
+    @Test
+    void candidatesContainExactBestPartnerForMostUsers() {
+        int n = 3000;
+        float[][] embeddings = MatchFixtures.clusteredEmbeddings(n, 64, 3L);
+        int topK = 20;
+        int[] neighbors = new IvfCandidateIndex(embeddings, 3, 3, 42L).topK(topK);
+
+        Random random = new Random(4L);
+        int samples = 200;
+        int hits = 0;
+        for (int s = 0; s < samples; s++) {
+            int i = random.nextInt(n);
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < n; j++) {
+                double score = VectorMath.dot(embeddings[i], embeddings[j]);
+                if (j != i && score > bestScore) {
+                    bestScore = score;
+                    best = j;
+                }
+            }
+            for (int p = i * topK; p < i * topK + topK; p++) {
+                if (neighbors[p] == best) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+
+        assertThat(hits / (double) samples).isGreaterThanOrEqualTo(0.9);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.match.service;
+
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.dto.MatchApproveRequestDto;
+import com.example.match.exception.BusinessException;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchProcessorTest {
+    private static EmbeddedRedis redis;
+
+    private RedisService redisService;
+    private WebSocketService webSocketService;
+    private ExternalApiService externalApiService;
+    private MatchTimer matchTimer;
+    private MatchProcessor matchProcessor;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        redisService = new RedisService(redis.redisTemplate(), new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+        webSocketService = mock(WebSocketService.class);
+        externalApiService = mock(ExternalApiService.class);
+        matchTimer = new MatchTimer(new SimpleMeterRegistry(), Runnable::run, 100, 512, 1_000);
+        matchTimer.start();
+        matchProcessor = new MatchProcessor(redisService, webSocketService, externalApiService,
+                Clock.systemUTC(), matchTimer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchTimer.stop();
+    }
+
+    @Test
+    void secondAcceptanceCreatesChatAndUpdatesBothStatusesConcurrently() {
+        Map<String, Object> chatRoom = Map.of("chatRoomId", "room-1", "sessionId", "session-1");
+        when(externalApiService.createChatRoom(any(), any(), anyDouble())).thenReturn(Mono.just(chatRoom));
+        // 두 상태 변경 요청이 모두 구독되어야 완료되므로, 순서대로 요청하면 첫 요청이 끝나지 않음
+        CompletableFuture<Void> bothRequested = new CompletableFuture<>();
+        AtomicInteger requested = new AtomicInteger();
+        when(externalApiService.setUserStatus(anyString(), eq("Chatting"))).thenAnswer(invocation ->
+                Mono.defer(() -> {
+                    if (requested.incrementAndGet() == 2) {
+                        bothRequested.complete(null);
+                    }
+                    return Mono.fromFuture(bothRequested);
+                }));
+        String matchId = createMatch("a", "b");
+
+        matchProcessor.processMatchResponse(redisService.getUserStatus("a"), accept(matchId)).block();
+        verify(externalApiService, never()).createChatRoom(any(), any(), anyDouble());
+
+        matchProcessor.processMatchResponse(redisService.getUserStatus("b"), accept(matchId))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(requested.get()).isEqualTo(2);
+        verify(webSocketService).notifyUsersWithChatRoom(any(), any(), eq(chatRoom));
+        assertThat(redisService.getMatchInfo(matchId)).isNull();
+        assertThat(redisService.getUserStatus("a")).isNull();
+        assertThat(redisService.countMatchTimeouts()).isZero();
+    }
+
+    @Test
+    void failedChatRoomCreationKeepsMatchForRetry() {
+        when(externalApiService.createChatRoom(any(), any(), anyDouble())).thenReturn(Mono.empty());
+        String matchId = createMatch("a", "b");
+        matchProcessor.processMatchResponse(redisService.getUserStatus("a"), accept(matchId)).block();
+
+        Mono<Void> second = matchProcessor.processMatchResponse(redisService.getUserStatus("b"), accept(matchId));
+
+        assertThatThrownBy(second::block).isInstanceOf(BusinessException.class);
+        verify(externalApiService, never()).setUserStatus(anyString(), anyString());
+        assertThat(redisService.getMatchInfo(matchId)).isNotNull();
+    }
+
+    private String createMatch(String userId1, String userId2) {
+        UserMatchStatus user1 = MatchFixtures.user(userId1, "고민", "INTJ", null);
+        UserMatchStatus user2 = MatchFixtures.user(userId2, "고민", "ENFP", null);
+        matchProcessor.createMatch(user1, user2, 0.9);
+        return redisService.getUserStatus(userId1).getMatchId();
+    }
+
+    private MatchApproveRequestDto accept(String matchId) {
+        MatchApproveRequestDto response = new MatchApproveRequestDto();
+        response.setMatchId(matchId);
+        response.setAccepted(true);
+        return response;
+    }
+}
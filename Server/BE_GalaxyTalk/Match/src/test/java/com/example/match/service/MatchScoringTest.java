@@ -0,0 +1,53 @@
+package com.example.match.service;
+
+import com.example.match.constant.MBTI;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchScoringTest {
+
+    @Test
+    void similarityTableMatchesLetterComparison() {
+        for (MBTI a : MBTI.values()) {
+            for (MBTI b : MBTI.values()) {
+                int matchCount = 0;
+                for (int i = 0; i < 4; i++) {
+                    if (a.name().charAt(i) == b.name().charAt(i)) {
+                        matchCount++;
+                    }
+                }
+                assertThat(MatchScoring.mbtiSimilarity(a.ordinal(), b.ordinal())).isEqualTo(matchCount / 4.0);
+            }
+        }
+        assertThat(MatchScoring.mbtiSimilarity(MBTI.INTJ.ordinal(), MBTI.ESFP.ordinal())).isZero();
+        assertThat(MatchScoring.mbtiSimilarity(MBTI.INTJ.ordinal(), MBTI.INTP.ordinal())).isEqualTo(0.75);
+    }
+
+    @Test
+    void unknownMbtiHasNoSimilarity() {
+        assertThat(MatchScoring.mbtiSimilarity(-1, MBTI.INTJ.ordinal())).isZero();
+        assertThat(MatchScoring.mbtiSimilarity(MBTI.ordinalOf("none"), MBTI.ordinalOf("intj"))).isZero();
+    }
+
+    @Test
+    void strictRequiresBothPreferencesToMatch() {
+        int intj = MBTI.ordinalOf("intj");
+        int enfp = MBTI.ordinalOf("ENFP");
+
+        assertThat(MatchScoring.isStrictCompatible(intj, enfp, enfp, intj)).isTrue();
+        assertThat(MatchScoring.isStrictCompatible(intj, enfp, enfp, -1)).isFalse();
+        assertThat(MatchScoring.isStrictCompatible(intj, -1, enfp, intj)).isFalse();
+        assertThat(MatchScoring.isStrictCompatible(-1, -1, -1, -1)).isFalse();
+    }
+
+    @Test
+    void compositeScoreUsesFullMbtiScoreForStrictPairs() {
+        int intj = MBTI.INTJ.ordinal();
+        int enfp = MBTI.ENFP.ordinal();
+
+        assertThat(MatchScoring.compositeScore(intj, enfp, enfp, intj, 0.5)).isEqualTo(0.8 * 0.5 + 0.2);
+        // INTJ / ENFP: 한 자리(N) 일치
+        assertThat(MatchScoring.compositeScore(intj, -1, enfp, -1, 0.5)).isEqualTo(0.8 * 0.5 + 0.2 * 0.25);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.simp.stomp.*;
+import org.springframework.web.socket.WebSocketHttpHeaders;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 import org.springframework.web.socket.messaging.WebSocketStompClient;
 import org.springframework.web.socket.sockjs.client.SockJsClient;
@@ -49,15 +50,20 @@ public class MatchServiceIntegrationTest {
         // WebSocket 연결 URL 설정
         String wsUrl = String.format("http://localhost:%d/ws", port);
 
+        // 테스트용 유저 (Gateway처럼 연결 요청에 X-User-ID 헤더 추가)
+        String userId = "testUser";
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.add("X-User-ID", userId);
+
         // CompletableFuture를 사용한 비동기 연결
-        CompletableFuture<StompSession> sessionFuture = stompClient.connectAsync(wsUrl, new CustomStompSessionHandler());
+        CompletableFuture<StompSession> sessionFuture =
+                stompClient.connectAsync(wsUrl, handshakeHeaders, new CustomStompSessionHandler());
 
         // 연결 완료 대기 (최대 5초)
         this.stompSession = sessionFuture.get(5, TimeUnit.SECONDS);
 
-        // 테스트용 구독 설정
-        String userId = "testUser";
-        stompSession.subscribe("/topic/matching/" + userId, new StompFrameHandler() {
+        // 테스트용 구독 설정 (유저별 큐)
+        stompSession.subscribe("/user/queue/matching", new StompFrameHandler() {
             @Override
             public Type getPayloadType(StompHeaders headers) {
                 return MessageResponseDto.class;
@@ -72,7 +78,7 @@ public class MatchServiceIntegrationTest {
         // 매칭 시작 요청
         UserMatchStatus testUser = new UserMatchStatus();
         testUser.setUserId(userId);
-        matchService.startMatching(testUser);
+        matchService.startMatching(testUser).block();
 
         // Awaitility를 사용한 비동기 응답 대기 및 검증
         await()
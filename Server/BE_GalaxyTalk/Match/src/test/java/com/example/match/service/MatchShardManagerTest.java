@@ -0,0 +1,297 @@
+package com.example.match.service;
+
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import com.example.match.support.StubAiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 여러 Match 인스턴스가 같은 Redis를 공유할 때의 샤드 분배/재분배 검증
+ * - 인스턴스마다 RedisService, MatchShardManager, MatchService를 따로 만들어 한 프로세스 안에서 여러 인스턴스를 흉내냅니다.
+ * - Eureka 대신 공유 집합으로 등록 인스턴스 목록을 제공합니다.
+ */
+class MatchShardManagerTest {
+    private static final int SHARDS = 32;
+    private static final long LEASE_TTL_MILLIS = 15_000;
+
+    private static EmbeddedRedis redis;
+    private static StubAiServer aiServer;
+
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+
+    @BeforeAll
+    static void startServers() throws Exception {
+        redis = new EmbeddedRedis();
+        aiServer = new StubAiServer(0);
+    }
+
+    @AfterAll
+    static void stopServers() throws Exception {
+        aiServer.close();
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        registered.clear();
+    }
+
+    @Test
+    void shardsAreSplitDisjointlyAcrossInstances() {
+        List<MatchShardManager> managers = List.of(
+                newManager("match-a", LEASE_TTL_MILLIS),
+                newManager("match-b", LEASE_TTL_MILLIS),
+                newManager("match-c", LEASE_TTL_MILLIS));
+
+        refreshRounds(managers, 3);
+
+        assertPartitioned(managers);
+        for (MatchShardManager manager : managers) {
+            assertThat(manager.ownedShards()).isNotEmpty();
+        }
+    }
+
+    @Test
+    void joiningInstanceTakesShardsOnlyFromItsRingShare() {
+        MatchShardManager a = newManager("match-a", LEASE_TTL_MILLIS);
+        MatchShardManager b = newManager("match-b", LEASE_TTL_MILLIS);
+        refreshRounds(List.of(a, b), 3);
+        Set<Integer> beforeA = new HashSet<>(a.ownedShards());
+        Set<Integer> beforeB = new HashSet<>(b.ownedShards());
+
+        MatchShardManager c = newManager("match-c", LEASE_TTL_MILLIS);
+        refreshRounds(List.of(a, b, c), 3);
+
+        // 일관성 해시: 기존 인스턴스끼리는 샤드를 주고받지 않고, 새 인스턴스 몫만 넘겨줌
+        assertThat(beforeA).containsAll(a.ownedShards());
+        assertThat(beforeB).containsAll(b.ownedShards());
+        assertThat(c.ownedShards()).isNotEmpty();
+        assertPartitioned(List.of(a, b, c));
+    }
+
+    @Test
+    void gracefulShutdownHandsShardsOverImmediately() {
+        MatchShardManager a = newManager("match-a", LEASE_TTL_MILLIS);
+        MatchShardManager b = newManager("match-b", LEASE_TTL_MILLIS);
+        MatchShardManager c = newManager("match-c", LEASE_TTL_MILLIS);
+        refreshRounds(List.of(a, b, c), 3);
+
+        c.shutdown();
+        registered.remove("match-c");
+        refreshRounds(List.of(a, b), 1);
+
+        assertPartitioned(List.of(a, b));
+    }
+
+    @Test
+    void crashedInstanceShardsAreTakenOverAfterLeaseExpiry() throws Exception {
+        long shortTtl = 500;
+        MatchShardManager a = newManager("match-a", shortTtl);
+        MatchShardManager b = newManager("match-b", shortTtl);
+        MatchShardManager c = newManager("match-c", shortTtl);
+        refreshRounds(List.of(a, b, c), 3);
+        List<Integer> crashedShards = c.ownedShards();
+
+        // c는 리스를 반납하지 않고 멈춤 (Eureka 목록에는 아직 남아 있음)
+        refreshRounds(List.of(a, b), 1);
+        Set<Integer> covered = new HashSet<>(a.ownedShards());
+        covered.addAll(b.ownedShards());
+        assertThat(covered).doesNotContainAnyElementsOf(crashedShards);
+
+        Thread.sleep(shortTtl + 200);
+        refreshRounds(List.of(a, b), 2);
+
+        assertPartitioned(List.of(a, b));
+    }
+
+    @Test
+    void instancesMatchOnlyUsersOfTheirOwnShardsInParallel() throws Exception {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(90, 21L);
+        RedisService seeder = newRedisService();
+        for (UserMatchStatus user : users) {
+            seeder.saveUserStatus(user);
+            seeder.addUserToWaitingQueue(user);
+        }
+
+        List<String> instanceIds = List.of("match-a", "match-b", "match-c");
+        List<MatchShardManager> managers = new ArrayList<>();
+        List<MatchService> services = new ArrayList<>();
+        Queue<String[]> matches = new ConcurrentLinkedQueue<>();
+        for (String instanceId : instanceIds) {
+            RedisService redisService = newRedisService();
+            MatchShardManager manager = newManager(instanceId, LEASE_TTL_MILLIS, redisService);
+            managers.add(manager);
+            services.add(newMatchService(instanceId, redisService, manager, matches));
+        }
+        refreshRounds(managers, 3);
+        assertPartitioned(managers);
+
+        // 세 인스턴스의 매칭 주기를 동시에 실행
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(services.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (MatchService service : services) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    service.processMatchingQueue();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<String> matchedUsers = new HashSet<>();
+        Set<String> matchingInstances = new HashSet<>();
+        for (String[] match : matches) {
+            MatchShardManager manager = managers.get(instanceIds.indexOf(match[0]));
+            assertThat(manager.owns(match[1])).isTrue();
+            assertThat(manager.owns(match[2])).isTrue();
+            assertThat(matchedUsers.add(match[1])).isTrue();
+            assertThat(matchedUsers.add(match[2])).isTrue();
+            matchingInstances.add(match[0]);
+        }
+        assertThat(matchingInstances).containsExactlyInAnyOrderElementsOf(instanceIds);
+    }
+
+    @Test
+    void longWaitingUsersAreMatchedAcrossShards() {
+        RedisService redisService = newRedisService();
+        MatchShardManager a = newManager("match-a", LEASE_TTL_MILLIS, redisService);
+        MatchShardManager b = newManager("match-b", LEASE_TTL_MILLIS);
+        refreshRounds(List.of(a, b), 3);
+
+        // 서로 잘 맞지만 다른 인스턴스 샤드에 속한 두 유저가 샤드 간 매칭 기준(2분)보다 오래 기다린 상태
+        String ownedByA = userIdOwnedBy(a);
+        String ownedByB = userIdOwnedBy(b);
+        long startTime = Instant.now().toEpochMilli() - 150_000;
+        UserMatchStatus user1 = MatchFixtures.user(ownedByA, "이직 고민 때문에 잠이 안 와요", "INFP", "ENTJ");
+        UserMatchStatus user2 = MatchFixtures.user(ownedByB, "이직 고민 때문에 잠이 안 와요", "ENTJ", "INFP");
+        for (UserMatchStatus user : List.of(user1, user2)) {
+            user.setStartTime(startTime);
+            redisService.saveUserStatus(user);
+            redisService.addUserToWaitingQueue(user);
+        }
+
+        Queue<String[]> matches = new ConcurrentLinkedQueue<>();
+        newMatchService("match-a", redisService, a, matches).processMatchingQueue();
+
+        assertThat(matches).hasSize(1);
+        assertThat(Set.of(matches.peek()[1], matches.peek()[2])).containsExactlyInAnyOrder(ownedByA, ownedByB);
+    }
+
+    /**
+     * 매칭 생성을 matches에 [인스턴스 ID, 유저1, 유저2]로 기록하는 MatchService (대기 풀은 Redis와 맞춰 둠)
+     */
+    private MatchService newMatchService(String instanceId, RedisService redisService, MatchShardManager manager,
+                                         Queue<String[]> matches) {
+        ExternalApiService externalApiService =
+                new ExternalApiService(WebClient.create(aiServer.baseUrl()), null, null);
+        MatchProcessor matchProcessor = mock(MatchProcessor.class);
+        doAnswer(invocation -> {
+            UserMatchStatus user1 = invocation.getArgument(0);
+            UserMatchStatus user2 = invocation.getArgument(1);
+            matches.add(new String[]{instanceId, user1.getUserId(), user2.getUserId()});
+            return null;
+        }).when(matchProcessor).createMatch(any(), any(), anyDouble());
+        WaitingPool waitingPool = new WaitingPool(redisService);
+        waitingPool.reconcile();
+        return new MatchService(redisService, mock(WebSocketService.class), externalApiService,
+                matchProcessor, new ConcernEmbeddingStore(redisService, externalApiService),
+                new MatchCandidateGenerator(Integer.MAX_VALUE, 20, 3, 3),
+                new StrictPairFinder(Runnable::run), new ParallelPairScorer(Runnable::run, 500, 1),
+                new GreedyPairingStrategy(), new WaitTimePriority(0.2, 300_000, 180_000), manager,
+                new IncrementalMatcher(false, 20, 0.6), waitingPool);
+    }
+
+    /**
+     * manager가 담당하는 샤드에 속하는 첫 번째 유저 ID (user-0, user-1, ... 순서로 찾음)
+     */
+    private String userIdOwnedBy(MatchShardManager manager) {
+        for (int i = 0; ; i++) {
+            if (manager.owns("user-" + i)) {
+                return "user-" + i;
+            }
+        }
+    }
+
+    private RedisService newRedisService() {
+        return new RedisService(redis.redisTemplate(), new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+    }
+
+    private MatchShardManager newManager(String instanceId, long leaseTtlMillis) {
+        return newManager(instanceId, leaseTtlMillis, newRedisService());
+    }
+
+    private MatchShardManager newManager(String instanceId, long leaseTtlMillis, RedisService redisService) {
+        registered.add(instanceId);
+        MatchInstanceRegistry instanceRegistry = new MatchInstanceRegistry() {
+            @Override
+            public String localInstanceId() {
+                return instanceId;
+            }
+
+            @Override
+            public Set<String> registeredInstanceIds() {
+                return Set.copyOf(registered);
+            }
+        };
+        return new MatchShardManager(redisService, instanceRegistry, true, SHARDS, leaseTtlMillis, 128, 120_000);
+    }
+
+    /**
+     * 모든 인스턴스가 한 번씩 refresh하는 것을 rounds번 반복합니다. (인스턴스 목록이 바뀐 뒤 리스가 자리잡는 데 필요)
+     */
+    private void refreshRounds(List<MatchShardManager> managers, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            managers.forEach(MatchShardManager::refresh);
+        }
+    }
+
+    /**
+     * 각 샤드를 정확히 한 인스턴스가 담당해야 합니다.
+     */
+    private void assertPartitioned(List<MatchShardManager> managers) {
+        Map<Integer, Integer> owners = new ConcurrentHashMap<>();
+        for (MatchShardManager manager : managers) {
+            for (int shard : manager.ownedShards()) {
+                owners.merge(shard, 1, Integer::sum);
+            }
+        }
+        assertThat(owners.keySet()).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, SHARDS).boxed().toList());
+        assertThat(owners.values()).containsOnly(1);
+    }
+}
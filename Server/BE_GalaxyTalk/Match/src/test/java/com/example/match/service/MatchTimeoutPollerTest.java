@@ -0,0 +1,211 @@
+package com.example.match.service;
+
+import com.example.match.domain.MatchStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.dto.MatchApproveRequestDto;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import com.example.match.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis 기반 매칭 수락 타임아웃 검증
+ * - 시간은 MutableClock으로 움직이고, 폴러 스레드 대신 poll()을 직접 호출합니다.
+ */
+class MatchTimeoutPollerTest {
+    private static final long PROCESSING_LEASE_MILLIS = 30_000;
+
+    private static EmbeddedRedis redis;
+
+    private MutableClock clock;
+    private MatchTimer matchTimer;
+    private RedisService redisService;
+    private MatchProcessor matchProcessor;
+    private MatchTimeoutPoller poller;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        matchTimer = new MatchTimer(new SimpleMeterRegistry(), Runnable::run, 100, 512, 1_000);
+        matchTimer.start();
+        redisService = newRedisService();
+        matchProcessor = newMatchProcessor(redisService);
+        poller = new MatchTimeoutPoller(redisService, matchProcessor, matchTimer, clock, 500, 100, PROCESSING_LEASE_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchTimer.stop();
+    }
+
+    @Test
+    void unansweredMatchIsCancelledOnlyAfterDeadline() {
+        String matchId = createMatch("a", "b");
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(poller.poll()).isZero();
+        assertThat(redisService.getUserStatus("a").getStatus()).isEqualTo(MatchStatus.MATCHED);
+
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(poller.poll()).isEqualTo(1);
+
+        assertWaitingAgain("a", "b");
+        assertThat(redisService.getMatchInfo(matchId)).isNull();
+        assertThat(redisService.countMatchTimeouts()).isZero();
+    }
+
+    @Test
+    void rejectedMatchRemovesItsPendingTimeouts() {
+        createMatch("a", "b");
+        MatchApproveRequestDto reject = new MatchApproveRequestDto();
+        reject.setAccepted(false);
+
+        assertThat(matchTimer.pendingCount()).isEqualTo(1);
+
+        matchProcessor.processMatchResponse(redisService.getUserStatus("a"), reject).block();
+
+        // 대기 중이던 매칭 알림과 수락 타임아웃이 함께 제거됨
+        assertThat(matchTimer.pendingCount()).isZero();
+        assertThat(redisService.countMatchTimeouts()).isZero();
+        clock.advance(Duration.ofSeconds(61));
+        assertThat(poller.poll()).isZero();
+    }
+
+    @Test
+    void timeoutSurvivesRestart() {
+        createMatch("a", "b");
+
+        // 재시작: Redis만 남기고 모든 객체를 새로 생성
+        RedisService restartedRedisService = newRedisService();
+        MatchTimeoutPoller restartedPoller = new MatchTimeoutPoller(restartedRedisService,
+                newMatchProcessor(restartedRedisService), matchTimer, clock, 500, 100, PROCESSING_LEASE_MILLIS);
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(restartedPoller.poll()).isEqualTo(1);
+        assertWaitingAgain("a", "b");
+    }
+
+    @Test
+    void failedTimeoutIsRetriedAfterProcessingLease() {
+        MatchProcessor failingOnce = mock(MatchProcessor.class);
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("처리 중 장애");
+            }
+            return null;
+        }).when(failingOnce).handleAcceptanceTimeout(anyString());
+        MatchTimeoutPoller failingPoller =
+                new MatchTimeoutPoller(redisService, failingOnce, matchTimer, clock, 500, 100, PROCESSING_LEASE_MILLIS);
+        redisService.scheduleMatchTimeout("match-1", clock.millis());
+
+        assertThat(failingPoller.poll()).isZero();
+        assertThat(failingPoller.poll()).isZero();
+        clock.advance(Duration.ofMillis(PROCESSING_LEASE_MILLIS));
+
+        assertThat(failingPoller.poll()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(redisService.countMatchTimeouts()).isZero();
+    }
+
+    @Test
+    void concurrentPollersHandleEachTimeoutExactlyOnce() throws Exception {
+        int timeouts = 2_000;
+        for (int i = 0; i < timeouts; i++) {
+            redisService.scheduleMatchTimeout("match-" + i, clock.millis() + i);
+        }
+        clock.advance(Duration.ofMillis(timeouts));
+
+        Map<String, Integer> handled = new ConcurrentHashMap<>();
+        List<MatchTimeoutPoller> pollers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            MatchProcessor counting = mock(MatchProcessor.class);
+            doAnswer(invocation -> handled.merge(invocation.getArgument(0), 1, Integer::sum))
+                    .when(counting).handleAcceptanceTimeout(anyString());
+            pollers.add(new MatchTimeoutPoller(newRedisService(), counting, matchTimer, clock, 500, 50,
+                    PROCESSING_LEASE_MILLIS));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(pollers.size());
+        int processed = 0;
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (MatchTimeoutPoller each : pollers) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return each.poll();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                processed += future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(processed).isEqualTo(timeouts);
+        assertThat(handled).hasSize(timeouts);
+        assertThat(handled.values()).containsOnly(1);
+        assertThat(redisService.countMatchTimeouts()).isZero();
+    }
+
+    private String createMatch(String userId1, String userId2) {
+        UserMatchStatus user1 = MatchFixtures.user(userId1, "고민", "INTJ", null);
+        UserMatchStatus user2 = MatchFixtures.user(userId2, "고민", "ENFP", null);
+        matchProcessor.createMatch(user1, user2, 0.9);
+        return redisService.getUserStatus(userId1).getMatchId();
+    }
+
+    private void assertWaitingAgain(String... userIds) {
+        Set<String> waiting = redisService.getAllWaitingUsers();
+        for (String userId : userIds) {
+            assertThat(redisService.getUserStatus(userId).getStatus()).isEqualTo(MatchStatus.WAITING);
+            assertThat(waiting).contains(userId);
+        }
+    }
+
+    private RedisService newRedisService() {
+        return new RedisService(redis.redisTemplate(), new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+    }
+
+    private MatchProcessor newMatchProcessor(RedisService redisService) {
+        return new MatchProcessor(redisService, mock(WebSocketService.class), mock(ExternalApiService.class), clock,
+                matchTimer);
+    }
+}
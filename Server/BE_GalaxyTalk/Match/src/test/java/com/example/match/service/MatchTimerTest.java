@@ -0,0 +1,126 @@
+package com.example.match.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchTimerTest {
+    private static final long TICK_MILLIS = 10;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MatchTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 바퀴 한 바퀴 = 80ms (더 긴 지연은 여러 바퀴를 돈 뒤 실행)
+        timer = new MatchTimer(meterRegistry, Runnable::run, TICK_MILLIS, 8, 10_000);
+        timer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void taskRunsNoEarlierThanItsDelay() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] elapsedMillis = new long[1];
+
+        timer.schedule("a", 250, () -> {
+            elapsedMillis[0] = (System.nanoTime() - start) / 1_000_000;
+            fired.countDown();
+        });
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(elapsedMillis[0]).isGreaterThanOrEqualTo(250);
+        assertThat(timer.pendingCount()).isZero();
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        timer.schedule("a", 50, runs::incrementAndGet);
+
+        assertThat(timer.cancel("a")).isTrue();
+        assertThat(timer.cancel("a")).isFalse();
+        Thread.sleep(200);
+
+        assertThat(runs.get()).isZero();
+        assertThat(timer.pendingCount()).isZero();
+    }
+
+    @Test
+    void schedulingSameKeyReplacesPendingTask() throws Exception {
+        List<String> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.schedule("a", 50, () -> runs.add("first"));
+        timer.schedule("a", 100, () -> {
+            runs.add("second");
+            fired.countDown();
+        });
+
+        assertThat(timer.pendingCount()).isEqualTo(1);
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+
+        assertThat(runs).containsExactly("second");
+    }
+
+    @Test
+    void rejectsNewKeysBeyondMaxPending() {
+        MatchTimer bounded = new MatchTimer(meterRegistry, Runnable::run, TICK_MILLIS, 8, 2);
+        bounded.start();
+        try {
+            bounded.schedule("a", 10_000, () -> { });
+            bounded.schedule("b", 10_000, () -> { });
+
+            assertThatThrownBy(() -> bounded.schedule("c", 10_000, () -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+            // 기존 키 재예약은 대기 작업 수가 늘지 않으므로 허용
+            bounded.schedule("a", 5_000, () -> { });
+            assertThat(meterRegistry.get("match.timer.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            bounded.stop();
+        }
+    }
+
+    @Test
+    void everyTaskRunsAfterItsDeadlineAndMetricsTrackIt() throws Exception {
+        int tasks = 2_000;
+        Random random = new Random(5L);
+        CountDownLatch fired = new CountDownLatch(tasks);
+        AtomicInteger early = new AtomicInteger();
+        for (int i = 0; i < tasks; i++) {
+            long delay = random.nextInt(300);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            timer.schedule("task-" + i, delay, () -> {
+                if (System.nanoTime() < deadline) {
+                    early.incrementAndGet();
+                }
+                fired.countDown();
+            });
+        }
+        assertThat(meterRegistry.get("match.timer.pending").gauge().value()).isPositive();
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(early.get()).isZero();
+        assertThat(meterRegistry.get("match.timer.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("match.timer.lateness").timer().count()).isEqualTo(tasks);
+    }
+}
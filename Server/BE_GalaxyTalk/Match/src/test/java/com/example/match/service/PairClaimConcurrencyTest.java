@@ -0,0 +1,162 @@
+package com.example.match.service;
+
+import com.example.match.domain.MatchStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 매칭 인스턴스가 같은 Redis에서 동시에 쌍을 선점하는 상황 검증
+ * - 겹치는 후보 쌍을 여러 스레드가 동시에 claimPair 하더라도 유저는 한 쌍에만 선점되어야 하고,
+ *   한쪽만 IN_PROGRESS로 바뀐 채 남는 유저가 없어야 합니다.
+ */
+class PairClaimConcurrencyTest {
+    private static final int USERS = 60;
+    private static final int CANDIDATE_PAIRS = 600;
+    private static final int CLAIMERS = 8;
+
+    private static EmbeddedRedis redis;
+
+    private RedisService redisService;
+    private List<UserMatchStatus> users;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        redisService = new RedisService(redis.redisTemplate(), new RedisScriptRegistry(redis.redisTemplate()), redis.valueCodecs());
+        users = MatchFixtures.randomUsers(USERS, 11L);
+        for (UserMatchStatus user : users) {
+            redisService.saveUserStatus(user);
+            redisService.addUserToWaitingQueue(user);
+        }
+    }
+
+    @Test
+    void parallelClaimersClaimEachUserAtMostOnce() throws Exception {
+        Queue<String[]> claims = runClaimers(false);
+
+        Map<String, Integer> claimCount = new HashMap<>();
+        for (String[] pair : claims) {
+            claimCount.merge(pair[0], 1, Integer::sum);
+            claimCount.merge(pair[1], 1, Integer::sum);
+        }
+        assertThat(claimCount.values()).containsOnly(1);
+        assertConsistent(claimCount.keySet());
+    }
+
+    @Test
+    void releasedPairsCanBeClaimedAgainWithoutStrandingUsers() throws Exception {
+        Queue<String[]> claims = runClaimers(true);
+
+        // 해제된 쌍을 제외하면 유저별 유효한 선점은 최대 1개
+        Map<String, Integer> activeClaims = new HashMap<>();
+        for (String[] pair : claims) {
+            activeClaims.merge(pair[0], 1, Integer::sum);
+            activeClaims.merge(pair[1], 1, Integer::sum);
+        }
+        assertThat(activeClaims.values()).containsOnly(1);
+        assertConsistent(activeClaims.keySet());
+    }
+
+    /**
+     * 같은 후보 쌍 목록을 스레드마다 다른 순서로 동시에 선점합니다.
+     * release가 true면 선점에 성공한 쌍 중 일부를 매칭 생성 실패로 보고 releasePair로 되돌립니다.
+     * @return 해제되지 않고 남은 선점 쌍
+     */
+    private Queue<String[]> runClaimers(boolean release) throws Exception {
+        List<UserMatchStatus[]> candidates = new ArrayList<>();
+        Random random = new Random(7L);
+        for (int k = 0; k < CANDIDATE_PAIRS; k++) {
+            int i = random.nextInt(USERS);
+            int j = random.nextInt(USERS - 1);
+            if (j >= i) {
+                j++;
+            }
+            candidates.add(new UserMatchStatus[]{users.get(i), users.get(j)});
+        }
+
+        Queue<String[]> claims = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLAIMERS; c++) {
+                List<UserMatchStatus[]> order = new ArrayList<>(candidates);
+                Collections.shuffle(order, new Random(c));
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int claimed = 0;
+                    for (UserMatchStatus[] pair : order) {
+                        if (!redisService.claimPair(pair[0], pair[1])) {
+                            continue;
+                        }
+                        if (release && claimed++ % 2 == 0) {
+                            redisService.releasePair(pair[0], pair[1]);
+                        } else {
+                            claims.add(new String[]{pair[0].getUserId(), pair[1].getUserId()});
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return claims;
+    }
+
+    /**
+     * 선점된 유저는 IN_PROGRESS이면서 대기 큐에 없고, 나머지 유저는 WAITING이면서 대기 큐에 남아 있어야 합니다.
+     */
+    private void assertConsistent(Set<String> claimedUserIds) {
+        Set<String> waitingIds = new HashSet<>();
+        for (UserMatchStatus user : users) {
+            if (!claimedUserIds.contains(user.getUserId())) {
+                waitingIds.add(user.getUserId());
+            }
+        }
+        Map<String, UserMatchStatus> statuses = redisService.getUserStatuses(
+                users.stream().map(UserMatchStatus::getUserId).toList());
+        for (UserMatchStatus status : statuses.values()) {
+            MatchStatus expected = claimedUserIds.contains(status.getUserId())
+                    ? MatchStatus.IN_PROGRESS : MatchStatus.WAITING;
+            assertThat(status.getStatus()).as(status.getUserId()).isEqualTo(expected);
+        }
+        assertThat(redisService.getAllWaitingUsers()).containsExactlyInAnyOrderElementsOf(waitingIds);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.match.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PairingStrategyTest {
+    private final PairingStrategy greedy = new GreedyPairingStrategy();
+    private final PairingStrategy exact = new MaxWeightPairingStrategy(Integer.MAX_VALUE, Integer.MAX_VALUE, 5);
+    private final PairingStrategy approximate = new MaxWeightPairingStrategy(0, 20, 5);
+
+    @Test
+    void maxWeightPrefersTwoGoodPairsOverOneBestPair() {
+        // 0-1 (0.8), 1-2 (0.9), 2-3 (0.8): 탐욕은 1-2만, 최대 가중치는 0-1, 2-3 선택
+        ScoredPairs candidates = new ScoredPairs();
+        candidates.add(0, 1, 0.8);
+        candidates.add(1, 2, 0.9);
+        candidates.add(2, 3, 0.8);
+
+        assertThat(totalScore(candidates, greedy.select(4, candidates, new boolean[4]))).isEqualTo(0.9);
+        assertThat(totalScore(candidates, exact.select(4, candidates, new boolean[4]))).isEqualTo(1.6);
+        assertThat(totalScore(candidates, approximate.select(4, candidates, new boolean[4]))).isEqualTo(1.6);
+    }
+
+    @Test
+    void exactMatchesBruteForceOnSmallGraphs() {
+        Random random = new Random(5L);
+        for (int round = 0; round < 300; round++) {
+            int n = 2 + random.nextInt(9);
+            ScoredPairs candidates = randomCandidates(n, random.nextDouble(), random);
+
+            int[] selected = exact.select(n, candidates, new boolean[n]);
+
+            assertValidMatching(n, candidates, selected, new boolean[n]);
+            assertThat(totalScore(candidates, selected))
+                    .isCloseTo(bruteForce(n, candidates), within(1e-5));
+        }
+    }
+
+    @Test
+    void approximateIsNeverWorseThanGreedy() {
+        Random random = new Random(9L);
+        for (int round = 0; round < 100; round++) {
+            int n = 20 + random.nextInt(200);
+            ScoredPairs candidates = randomCandidates(n, 0.1, random);
+
+            int[] greedySelected = greedy.select(n, candidates, new boolean[n]);
+            int[] approximateSelected = approximate.select(n, candidates, new boolean[n]);
+
+            assertValidMatching(n, candidates, approximateSelected, new boolean[n]);
+            assertThat(totalScore(candidates, approximateSelected))
+                    .isGreaterThanOrEqualTo(totalScore(candidates, greedySelected) - 1e-9);
+        }
+    }
+
+    @Test
+    void skipsExcludedUsersAndReturnsScoreDescendingOrder() {
+        Random random = new Random(13L);
+        int n = 60;
+        ScoredPairs candidates = randomCandidates(n, 0.3, random);
+        boolean[] excluded = new boolean[n];
+        for (int i = 0; i < n; i += 3) {
+            excluded[i] = true;
+        }
+
+        for (PairingStrategy strategy : new PairingStrategy[]{greedy, exact, approximate}) {
+            int[] selected = strategy.select(n, candidates, excluded);
+
+            assertThat(selected).isNotEmpty();
+            assertValidMatching(n, candidates, selected, excluded);
+            for (int r = 1; r < selected.length; r++) {
+                assertThat(candidates.score(selected[r])).isLessThanOrEqualTo(candidates.score(selected[r - 1]));
+            }
+        }
+    }
+
+    private ScoredPairs randomCandidates(int n, double density, Random random) {
+        ScoredPairs candidates = new ScoredPairs();
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (random.nextDouble() < density) {
+                    candidates.add(i, j, 0.2 + 0.8 * random.nextDouble());
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void assertValidMatching(int n, ScoredPairs candidates, int[] selected, boolean[] excluded) {
+        boolean[] used = new boolean[n];
+        for (int k : selected) {
+            int i = candidates.first(k);
+            int j = candidates.second(k);
+            assertThat(used[i] || used[j]).isFalse();
+            assertThat(excluded[i] || excluded[j]).isFalse();
+            used[i] = true;
+            used[j] = true;
+        }
+    }
+
+    private double totalScore(ScoredPairs candidates, int[] selected) {
+        double total = 0;
+        for (int k : selected) {
+            total += candidates.score(k);
+        }
+        return total;
+    }
+
+    private double bruteForce(int n, ScoredPairs candidates) {
+        double[][] weight = new double[n][n];
+        for (int k = 0; k < candidates.size(); k++) {
+            weight[candidates.first(k)][candidates.second(k)] = candidates.score(k);
+            weight[candidates.second(k)][candidates.first(k)] = candidates.score(k);
+        }
+        return bruteForce(0, n, weight, new boolean[n]);
+    }
+
+    private double bruteForce(int v, int n, double[][] weight, boolean[] used) {
+        if (v == n) {
+            return 0;
+        }
+        if (used[v]) {
+            return bruteForce(v + 1, n, weight, used);
+        }
+        double best = bruteForce(v + 1, n, weight, used);
+        used[v] = true;
+        for (int u = v + 1; u < n; u++) {
+            if (!used[u] && weight[v][u] > 0) {
+                used[u] = true;
+                best = Math.max(best, weight[v][u] + bruteForce(v + 1, n, weight, used));
+                used[u] = false;
+            }
+        }
+        used[v] = false;
+        return best;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.match.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelPairScorerTest {
+    // 일부 쌍은 NaN(후보 제외)
+    private static final PairScorer SCORER = (i, j) -> (i * 31 + j) % 7 == 0 ? Double.NaN : Math.sin(i * j);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void parallelAllPairsMatchSequentialOrder() {
+        for (int n : new int[]{2, 3, 10, 700}) {
+            ScoredPairs sequential = new ParallelPairScorer(executor, Integer.MAX_VALUE, 4).scoreAllPairs(n, SCORER);
+            ScoredPairs parallel = new ParallelPairScorer(executor, 0, 4).scoreAllPairs(n, SCORER);
+
+            assertSame(sequential, parallel);
+        }
+    }
+
+    @Test
+    void parallelCandidatePairsMatchSequentialOrder() {
+        int n = 700;
+        int[] pairs = new int[n * 2];
+        for (int k = 0; k < n; k++) {
+            pairs[2 * k] = k;
+            pairs[2 * k + 1] = (k * 13 + 1) % n;
+        }
+
+        ScoredPairs sequential = new ParallelPairScorer(executor, Integer.MAX_VALUE, 4).scorePairs(n, pairs, SCORER);
+        ScoredPairs parallel = new ParallelPairScorer(executor, 0, 4).scorePairs(n, pairs, SCORER);
+
+        assertSame(sequential, parallel);
+    }
+
+    @Test
+    void smallPoolIsScoredOnCallerThread() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        new ParallelPairScorer(executor, 500, 4).scoreAllPairs(100, (i, j) -> {
+            threads.add(Thread.currentThread());
+            return 1.0;
+        });
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void blocksForManyCoresAreNotRejectedBySmallScoringPool() {
+        // parallelism 64(블록 256개)를 스레드 2개 풀에서 실행해도 작업이 거부되지 않음
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ScoredPairs sequential = new ParallelPairScorer(executor, Integer.MAX_VALUE, 64).scoreAllPairs(700, SCORER);
+            ScoredPairs parallel = new ParallelPairScorer(pool, 0, 64).scoreAllPairs(700, SCORER);
+
+            assertSame(sequential, parallel);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rowBlocksCoverAllRowsWithBalancedPairCounts() {
+        int n = 1000;
+        int[] bounds = ParallelPairScorer.rowBlocks(n, 16);
+
+        assertThat(bounds[0]).isZero();
+        assertThat(bounds[bounds.length - 1]).isEqualTo(n);
+        long perBlock = (long) n * (n - 1) / 2 / 16;
+        for (int b = 0; b + 1 < bounds.length; b++) {
+            assertThat(bounds[b + 1]).isGreaterThan(bounds[b]);
+            long pairs = 0;
+            for (int i = bounds[b]; i < bounds[b + 1]; i++) {
+                pairs += n - 1 - i;
+            }
+            // 마지막 블록은 남은 행만 가짐
+            assertThat(pairs).isLessThan(perBlock + n);
+        }
+    }
+
+    private static void assertSame(ScoredPairs expected, ScoredPairs actual) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int k = 0; k < expected.size(); k++) {
+            assertThat(actual.first(k)).isEqualTo(expected.first(k));
+            assertThat(actual.second(k)).isEqualTo(expected.second(k));
+            assertThat(actual.score(k)).isEqualTo(expected.score(k));
+        }
+    }
+}
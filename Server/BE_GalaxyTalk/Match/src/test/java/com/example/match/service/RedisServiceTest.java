@@ -0,0 +1,297 @@
+package com.example.match.service;
+
+import com.example.match.domain.MatchResultStatus;
+import com.example.match.domain.MatchStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisServiceTest {
+    private static EmbeddedRedis redis;
+
+    private RedisScriptRegistry scriptRegistry;
+    private RedisService redisService;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        scriptRegistry = new RedisScriptRegistry(redis.redisTemplate());
+        redisService = new RedisService(redis.redisTemplate(), scriptRegistry, redis.valueCodecs());
+    }
+
+    @Test
+    void getUserStatusesLoadsAllUsersInRequestOrder() {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(50, 3L);
+        users.forEach(redisService::saveUserStatus);
+        List<String> ids = new ArrayList<>();
+        for (int i = users.size() - 1; i >= 0; i--) {
+            ids.add(users.get(i).getUserId());
+        }
+
+        Map<String, UserMatchStatus> statuses = redisService.getUserStatuses(ids);
+
+        assertThat(statuses.keySet()).containsExactlyElementsOf(ids);
+        for (UserMatchStatus user : users) {
+            assertThat(statuses.get(user.getUserId())).isEqualTo(redisService.getUserStatus(user.getUserId()));
+        }
+    }
+
+    @Test
+    void getUserStatusesSkipsMissingAndMismatchedEntries() {
+        UserMatchStatus user = MatchFixtures.user("user-1", "취업 고민", "INTJ", "ENFP");
+        redisService.saveUserStatus(user);
+        redis.redisTemplate().opsForValue().set("user:broken", "not a user status");
+
+        Map<String, UserMatchStatus> statuses =
+                redisService.getUserStatuses(List.of("user-1", "missing", "broken"));
+
+        assertThat(statuses).containsOnlyKeys("user-1");
+        assertThat(statuses.get("user-1").getConcern()).isEqualTo("취업 고민");
+    }
+
+    @Test
+    void getUserStatusesReturnsEmptyMapForNoIds() {
+        assertThat(redisService.getUserStatuses(List.of())).isEmpty();
+    }
+
+    @Test
+    void getRejectedUsersLoadsAllSetsInOnePipeline() {
+        redisService.addRejection("a", "b");
+        redisService.addRejection("a", "c");
+        redisService.addRejection("c", "a");
+
+        Map<String, Set<String>> rejections = redisService.getRejectedUsers(List.of("a", "b", "c"));
+
+        assertThat(rejections).containsOnlyKeys("a", "c");
+        assertThat(rejections.get("a")).containsExactlyInAnyOrder("b", "c");
+        assertThat(rejections.get("c")).containsExactly("a");
+    }
+
+    @Test
+    void addRejectionRefreshesTtl() {
+        redisService.addRejection("a", "b");
+
+        Long ttl = redis.redisTemplate().getExpire("rejected:a", TimeUnit.HOURS);
+
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(168L);
+    }
+
+    @Test
+    void preloadRegistersScriptsForEvalsha() {
+        scriptRegistry.preload();
+
+        List<Boolean> exists = redis.redisTemplate().execute((RedisCallback<List<Boolean>>) connection ->
+                connection.scriptingCommands().scriptExists(scriptRegistry.all().stream()
+                        .map(RedisScript::getSha1).toArray(String[]::new)));
+
+        assertThat(exists).isNotEmpty().containsOnly(true);
+    }
+
+    @Test
+    void scriptsFallBackToEvalAfterScriptFlush() {
+        scriptRegistry.preload();
+        redis.redisTemplate().execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+        UserMatchStatus user1 = MatchFixtures.user("user-1", "고민", "INTJ", "ENFP");
+        UserMatchStatus user2 = MatchFixtures.user("user-2", "고민", "ENFP", "INTJ");
+        for (UserMatchStatus user : List.of(user1, user2)) {
+            redisService.saveUserStatus(user);
+            redisService.addUserToWaitingQueue(user);
+        }
+
+        assertThat(redisService.claimPair(user1, user2)).isTrue();
+        assertThat(redisService.getUserStatus("user-1").getStatus()).isEqualTo(MatchStatus.IN_PROGRESS);
+        assertThat(redisService.claimPair(user1, user2)).isFalse();
+    }
+
+    @Test
+    void claimPairTransitionsBothUsersAndRemovesThemFromQueue() {
+        UserMatchStatus user1 = MatchFixtures.user("user-1", "고민", "INTJ", "ENFP");
+        UserMatchStatus user2 = MatchFixtures.user("user-2", "고민", "ENFP", "INTJ");
+        for (UserMatchStatus user : List.of(user1, user2)) {
+            redisService.saveUserStatus(user);
+            redisService.addUserToWaitingQueue(user);
+        }
+        assertThat(redisService.claimPair(user1, user2)).isTrue();
+
+        assertThat(redisService.getUserStatus("user-1").getStatus()).isEqualTo(MatchStatus.IN_PROGRESS);
+        assertThat(redisService.getUserStatus("user-2").getStatus()).isEqualTo(MatchStatus.IN_PROGRESS);
+        assertThat(redisService.getAllWaitingUsers()).isEmpty();
+    }
+
+    @Test
+    void claimPairChangesNothingWhenOneUserIsNotWaiting() {
+        UserMatchStatus user1 = MatchFixtures.user("user-1", "고민", "INTJ", "ENFP");
+        UserMatchStatus user2 = MatchFixtures.user("user-2", "고민", "ENFP", "INTJ");
+        user2.setStatus(MatchStatus.MATCHED);
+        redisService.saveUserStatus(user1);
+        redisService.addUserToWaitingQueue(user1);
+        redisService.saveUserStatus(user2);
+
+        assertThat(redisService.claimPair(user1, user2)).isFalse();
+
+        assertThat(redisService.getUserStatus("user-1").getStatus()).isEqualTo(MatchStatus.WAITING);
+        assertThat(redisService.getUserStatus("user-2").getStatus()).isEqualTo(MatchStatus.MATCHED);
+        assertThat(redisService.getAllWaitingUsers()).containsExactly("user-1");
+    }
+
+    @Test
+    void releasePairRestoresClaimedUsersToWaitingQueue() {
+        UserMatchStatus user1 = MatchFixtures.user("user-1", "고민", "INTJ", "ENFP");
+        UserMatchStatus user2 = MatchFixtures.user("user-2", "고민", "ENFP", "INTJ");
+        for (UserMatchStatus user : List.of(user1, user2)) {
+            redisService.saveUserStatus(user);
+            redisService.addUserToWaitingQueue(user);
+        }
+        assertThat(redisService.claimPair(user1, user2)).isTrue();
+        // 매칭 생성 도중 한 명만 MATCHED로 저장된 뒤 실패한 상황
+        user1.setStatus(MatchStatus.MATCHED);
+        user1.setMatchId("match-1");
+        redisService.saveUserStatus(user1);
+
+        redisService.releasePair(user1, user2);
+
+        for (String userId : List.of("user-1", "user-2")) {
+            UserMatchStatus restored = redisService.getUserStatus(userId);
+            assertThat(restored.getStatus()).isEqualTo(MatchStatus.WAITING);
+            assertThat(restored.getMatchId()).isNull();
+        }
+        assertThat(redisService.getAllWaitingUsers()).containsExactlyInAnyOrder("user-1", "user-2");
+    }
+
+    @Test
+    void recoverStrandedClaimsReleasesOnlyUsersStillInProgress() {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(4, 5L);
+        for (UserMatchStatus user : users) {
+            redisService.saveUserStatus(user);
+            redisService.addUserToWaitingQueue(user);
+        }
+        assertThat(redisService.claimPair(users.get(0), users.get(1))).isTrue();
+        assertThat(redisService.claimPair(users.get(2), users.get(3))).isTrue();
+        // 두 번째 쌍은 매칭이 정상 생성됨
+        for (UserMatchStatus user : users.subList(2, 4)) {
+            user.setStatus(MatchStatus.MATCHED);
+            redisService.saveUserStatus(user);
+        }
+
+        assertThat(redisService.recoverStrandedClaims(0)).isZero();
+        assertThat(redisService.recoverStrandedClaims(Long.MAX_VALUE)).isEqualTo(2);
+
+        assertThat(redisService.getAllWaitingUsers())
+                .containsExactlyInAnyOrder(users.get(0).getUserId(), users.get(1).getUserId());
+        assertThat(redisService.getUserStatus(users.get(2).getUserId()).getStatus()).isEqualTo(MatchStatus.MATCHED);
+        assertThat(redis.redisTemplate().opsForZSet().zCard("claimed_users")).isZero();
+    }
+
+    @Test
+    void userStatusIsStoredAsHashWithRawFieldValues() {
+        redisService.saveUserStatus(MatchFixtures.user("user-1", "고민", "INTJ", "ENFP"));
+
+        assertThat(redis.redisTemplate().type("user:user-1")).isEqualTo(DataType.HASH);
+        assertThat(hashField("user:user-1", "status")).isEqualTo("WAITING");
+        assertThat(hashField("user:user-1", "accepted")).isEqualTo("0");
+        assertThat(hashField("user:user-1", "matchId")).isNull();
+    }
+
+    @Test
+    void fieldUpdatesChangeOnlyTheirFields() {
+        UserMatchStatus user = MatchFixtures.user("user-1", "고민", "INTJ", "ENFP");
+        redisService.saveUserStatus(user);
+
+        assertThat(redisService.markMatched("user-1", "match-1")).isTrue();
+        assertThat(redisService.markAccepted("user-1")).isTrue();
+        UserMatchStatus matched = redisService.getUserStatus("user-1");
+        assertThat(matched.getStatus()).isEqualTo(MatchStatus.MATCHED);
+        assertThat(matched.getMatchId()).isEqualTo("match-1");
+        assertThat(matched.isAccepted()).isTrue();
+        assertThat(matched.getConcern()).isEqualTo(user.getConcern());
+        assertThat(matched.getStartTime()).isEqualTo(user.getStartTime());
+
+        assertThat(redisService.resetToWaiting("user-1")).isTrue();
+        assertThat(redisService.getUserStatus("user-1")).isEqualTo(user);
+    }
+
+    @Test
+    void fieldUpdatesDoNotRecreateDeletedUsers() {
+        assertThat(redisService.markMatched("user-1", "match-1")).isFalse();
+        assertThat(redisService.markAccepted("user-1")).isFalse();
+        assertThat(redisService.resetToWaiting("user-1")).isFalse();
+
+        assertThat(redis.redisTemplate().hasKey("user:user-1")).isFalse();
+    }
+
+    @Test
+    void saveUserStatusRemovesFieldsThatBecameNull() {
+        UserMatchStatus user = MatchFixtures.user("user-1", "고민", "INTJ", "ENFP");
+        user.setMatchId("match-1");
+        redisService.saveUserStatus(user);
+        user.setMatchId(null);
+
+        redisService.saveUserStatus(user);
+
+        assertThat(hashField("user:user-1", "matchId")).isNull();
+        assertThat(redisService.getUserStatus("user-1")).isEqualTo(user);
+    }
+
+    @Test
+    void legacyStringUserStatusIsMigratedToHash() {
+        // 이전 버전이 RedisTemplate 값 직렬화(GenericJackson2Json)로 저장한 값
+        UserMatchStatus user = MatchFixtures.user("user-1", "고민", "INTJ", "ENFP");
+        redis.redisTemplate().opsForValue().set("user:user-1", user);
+
+        assertThat(redisService.migrateLegacyUserKeys()).isEqualTo(1);
+        assertThat(redisService.migrateLegacyUserKeys()).isZero();
+
+        assertThat(redis.redisTemplate().type("user:user-1")).isEqualTo(DataType.HASH);
+        assertThat(redisService.getUserStatus("user-1")).isEqualTo(user);
+        assertThat(redisService.markMatched("user-1", "match-1")).isTrue();
+        assertThat(redisService.getUserStatus("user-1").getStatus()).isEqualTo(MatchStatus.MATCHED);
+    }
+
+    @Test
+    void matchInfoRoundTripsAndReadsLegacyValues() {
+        MatchResultStatus match = new MatchResultStatus();
+        match.setUserIds(new ArrayList<>(List.of("user-1", "user-2")));
+        match.setSimilarity(0.83);
+        redisService.saveMatchInfo("match-1", match);
+        redis.redisTemplate().opsForValue().set("match:legacy", match);
+
+        assertThat(redisService.getMatchInfo("match-1")).isEqualTo(match);
+        assertThat(redisService.getMatchInfo("legacy")).isEqualTo(match);
+    }
+
+    private String hashField(String key, String field) {
+        byte[] value = redis.redisTemplate().execute((RedisCallback<byte[]>) connection ->
+                connection.hashCommands().hGet(key.getBytes(StandardCharsets.UTF_8),
+                        field.getBytes(StandardCharsets.UTF_8)));
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
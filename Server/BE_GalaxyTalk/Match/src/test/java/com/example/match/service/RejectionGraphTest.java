@@ -0,0 +1,70 @@
+package com.example.match.service;
+
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RejectionGraphTest {
+
+    @Test
+    void rejectionBlocksPairInBothDirections() {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(3, 1L);
+        Map<String, Set<String>> rejected = Map.of("user-0", Set.of("user-2"));
+
+        RejectionGraph graph = RejectionGraph.of(users, rejected);
+
+        assertThat(graph.contains(0, 2)).isTrue();
+        assertThat(graph.contains(2, 0)).isTrue();
+        assertThat(graph.contains(0, 1)).isFalse();
+        assertThat(graph.contains(1, 2)).isFalse();
+    }
+
+    @Test
+    void ignoresUsersOutsideWaitingPool() {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(2, 1L);
+        Map<String, Set<String>> rejected = Map.of(
+                "user-0", Set.of("left-user"),
+                "left-user", Set.of("user-1"));
+
+        RejectionGraph graph = RejectionGraph.of(users, rejected);
+
+        assertThat(graph.size()).isZero();
+        assertThat(graph.contains(0, 1)).isFalse();
+    }
+
+    @Test
+    void agreesWithSetLookupOnRandomGraph() {
+        int n = 500;
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(n, 2L);
+        Random random = new Random(4L);
+        Map<String, Set<String>> rejected = new HashMap<>();
+        Set<Long> expected = new HashSet<>();
+        for (int r = 0; r < 3_000; r++) {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            if (i == j) {
+                continue;
+            }
+            rejected.computeIfAbsent("user-" + i, id -> new HashSet<>()).add("user-" + j);
+            expected.add((long) Math.min(i, j) * n + Math.max(i, j));
+        }
+
+        RejectionGraph graph = RejectionGraph.of(users, rejected);
+
+        assertThat(graph.size()).isEqualTo(expected.size());
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                assertThat(graph.contains(i, j)).isEqualTo(expected.contains((long) i * n + j));
+            }
+        }
+    }
+}
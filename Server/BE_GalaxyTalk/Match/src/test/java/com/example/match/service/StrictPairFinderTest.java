@@ -0,0 +1,72 @@
+package com.example.match.service;
+
+import com.example.match.constant.MBTI;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StrictPairFinderTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findsSamePairsAsFullScan() {
+        List<UserMatchStatus> users = MatchFixtures.randomUsers(400, 21L);
+        int[] mbti = new int[users.size()];
+        int[] preferred = new int[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            mbti[i] = MBTI.fromString(users.get(i).getMbti()).ordinal();
+            MBTI pref = MBTI.fromString(users.get(i).getPreferredMbti());
+            preferred[i] = pref == null ? -1 : pref.ordinal();
+        }
+
+        ScoredPairs found = new StrictPairFinder(executor).find(mbti, preferred, (i, j) -> i + j);
+
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < users.size(); i++) {
+            for (int j = i + 1; j < users.size(); j++) {
+                UserMatchStatus u1 = users.get(i);
+                UserMatchStatus u2 = users.get(j);
+                if (u1.getPreferredMbti() != null && u2.getPreferredMbti() != null
+                        && u1.getPreferredMbti().equals(u2.getMbti())
+                        && u2.getPreferredMbti().equals(u1.getMbti())) {
+                    expected.add((long) i * users.size() + j);
+                }
+            }
+        }
+        Set<Long> actual = new HashSet<>();
+        for (int k = 0; k < found.size(); k++) {
+            assertThat(found.first(k)).isLessThan(found.second(k));
+            assertThat(found.score(k)).isEqualTo(found.first(k) + found.second(k));
+            actual.add((long) found.first(k) * users.size() + found.second(k));
+        }
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).hasSize(found.size()).isEqualTo(expected);
+    }
+
+    @Test
+    void skipsPairsScoredAsNaN() {
+        int[] mbti = {MBTI.INTJ.ordinal(), MBTI.ENFP.ordinal(), MBTI.ENFP.ordinal()};
+        int[] preferred = {MBTI.ENFP.ordinal(), MBTI.INTJ.ordinal(), MBTI.INTJ.ordinal()};
+
+        ScoredPairs found = new StrictPairFinder(Runnable::run)
+                .find(mbti, preferred, (i, j) -> (i == 2 || j == 2) ? Double.NaN : 1.0);
+
+        assertThat(found.size()).isEqualTo(1);
+        assertThat(found.first(0)).isZero();
+        assertThat(found.second(0)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.match.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WaitTimePriorityTest {
+    private final WaitTimePriority priority = new WaitTimePriority(0.2, 300_000, 180_000);
+
+    @Test
+    void longWaitPairsKeepOnlyPairsWithLongWaiterAndOriginalScores() {
+        long[] waitMillis = {200_000, 10_000, 5_000};
+        ScoredPairs strict = new ScoredPairs();
+        strict.add(1, 2, 0.9);
+        ScoredPairs relaxed = new ScoredPairs();
+        relaxed.add(0, 1, 0.4);
+        relaxed.add(0, 2, 0.3);
+
+        ScoredPairs lane = priority.longWaitPairs(waitMillis, strict, relaxed);
+
+        assertThat(lane.size()).isEqualTo(2);
+        assertThat(lane.first(0)).isEqualTo(0);
+        assertThat(lane.second(0)).isEqualTo(1);
+        assertThat(lane.score(0)).isEqualTo(0.4);
+        assertThat(lane.second(1)).isEqualTo(2);
+    }
+
+    @Test
+    void boostUsesLongerWaitOfPairAndIsCapped() {
+        long[] waitMillis = {150_000, 0, 900_000};
+        ScoredPairs candidates = new ScoredPairs();
+        candidates.add(0, 1, 0.5);
+        candidates.add(1, 2, 0.5);
+
+        ScoredPairs boosted = priority.boosted(candidates, waitMillis);
+
+        assertThat(boosted.score(0)).isCloseTo(0.5 + 0.2 * 0.5, within(1e-9));
+        assertThat(boosted.score(1)).isCloseTo(0.5 + 0.2, within(1e-9));
+        assertThat(candidates.score(0)).isEqualTo(0.5);
+    }
+
+    @Test
+    void zeroBoostLeavesCandidatesUnchanged() {
+        ScoredPairs candidates = new ScoredPairs();
+        candidates.add(0, 1, 0.5);
+
+        assertThat(new WaitTimePriority(0, 300_000, 180_000).boosted(candidates, new long[]{290_000, 0}))
+                .isSameAs(candidates);
+    }
+
+    @Test
+    void boostedSelectionPrefersUserCloseToTimeout() {
+        // 0번은 곧 대기 시간 초과, 1/2번은 방금 들어온 유저
+        long[] waitMillis = {290_000, 1_000, 1_000};
+        ScoredPairs candidates = new ScoredPairs();
+        candidates.add(1, 2, 0.7);
+        candidates.add(0, 1, 0.6);
+        PairingStrategy greedy = new GreedyPairingStrategy();
+
+        assertThat(greedy.select(3, candidates, new boolean[3])).containsExactly(0);
+        assertThat(greedy.select(3, priority.boosted(candidates, waitMillis), new boolean[3])).containsExactly(1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.match.service;
+
+import com.example.match.constant.MBTI;
+import com.example.match.domain.MatchStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.support.EmbeddedRedis;
+import com.example.match.support.MatchFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaitingPoolTest {
+    private static EmbeddedRedis redis;
+
+    private RedisService redisService;
+    private WaitingPool waitingPool;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        redisService = new RedisService(redis.redisTemplate(), new RedisScriptRegistry(redis.redisTemplate()),
+                redis.valueCodecs());
+        waitingPool = new WaitingPool(redisService);
+    }
+
+    @Test
+    void reconcileLoadsWaitingUsersWithRejections() {
+        for (UserMatchStatus user : List.of(MatchFixtures.user("a", "고민", "INTJ", "ENFP"),
+                MatchFixtures.user("b", "고민", "ENFP", "INTJ"))) {
+            redisService.saveUserStatus(user);
+            redisService.addUserToWaitingQueue(user);
+        }
+        redisService.addRejection("a", "b");
+
+        waitingPool.reconcile();
+
+        List<WaitingPool.WaitingUser> users = waitingPool.snapshot(user -> true);
+        assertThat(users).extracting(WaitingPool.WaitingUser::userId).containsExactlyInAnyOrder("a", "b");
+        WaitingPool.WaitingUser a = users.stream().filter(user -> user.userId().equals("a")).findFirst().orElseThrow();
+        assertThat(a.rejected()).containsExactly("b");
+        assertThat(a.mbti()).isEqualTo((byte) MBTI.INTJ.ordinal());
+        assertThat(a.preferredMbti()).isEqualTo((byte) MBTI.ENFP.ordinal());
+    }
+
+    @Test
+    void reconcileSkipsUsersThatAreNoLongerWaiting() {
+        UserMatchStatus user = MatchFixtures.user("a", "고민", "INTJ", "ENFP");
+        redisService.addUserToWaitingQueue(user);
+        // 다른 인스턴스가 선점하여 대기 큐 제거 전에 IN_PROGRESS가 된 상태
+        user.setStatus(MatchStatus.IN_PROGRESS);
+        redisService.saveUserStatus(user);
+
+        waitingPool.reconcile();
+
+        assertThat(waitingPool.size()).isZero();
+    }
+
+    @Test
+    void reconcileDropsUsersThatLeftTheQueue() {
+        UserMatchStatus user = MatchFixtures.user("a", "고민", "INTJ", "ENFP");
+        redisService.saveUserStatus(user);
+        redisService.addUserToWaitingQueue(user);
+        waitingPool.reconcile();
+
+        // 다른 인스턴스가 선점/취소하여 대기 큐에서 빠진 경우
+        redisService.removeUserFromWaitingQueue("a");
+        waitingPool.reconcile();
+
+        assertThat(waitingPool.size()).isZero();
+    }
+
+    @Test
+    void snapshotFiltersByOwnershipWithoutReadingRedis() {
+        waitingPool.add(MatchFixtures.user("a", "고민", "INTJ", "ENFP"), Set.of());
+        waitingPool.add(MatchFixtures.user("b", "고민", "ENFP", "INTJ"), Set.of());
+        redis.flushAll();
+
+        assertThat(waitingPool.snapshot(user -> "a".equals(user.userId()))).extracting(WaitingPool.WaitingUser::userId)
+                .containsExactly("a");
+        waitingPool.remove("a");
+        assertThat(waitingPool.snapshot(user -> true)).extracting(WaitingPool.WaitingUser::userId)
+                .containsExactly("b");
+    }
+
+    @Test
+    void toUserStatusRestoresWaitingStatus() {
+        UserMatchStatus user = MatchFixtures.user("a", "고민", "intj", "NONE");
+        waitingPool.add(user, Set.of());
+
+        UserMatchStatus restored = waitingPool.snapshot(user -> true).get(0).toUserStatus();
+
+        assertThat(restored.getUserId()).isEqualTo("a");
+        assertThat(restored.getConcern()).isEqualTo("고민");
+        assertThat(restored.getMbti()).isEqualTo("INTJ");
+        assertThat(restored.getPreferredMbti()).isNull();
+        assertThat(restored.getStatus()).isEqualTo(MatchStatus.WAITING);
+        assertThat(restored.getStartTime()).isEqualTo(user.getStartTime());
+    }
+}
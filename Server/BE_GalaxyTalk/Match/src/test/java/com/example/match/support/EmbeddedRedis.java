@@ -0,0 +1,76 @@
+package com.example.match.support;
+
+import com.example.match.config.RedisConfig;
+import com.example.match.config.RedisValueCodecs;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 테스트/벤치마크용 로컬 Redis
+ * - 빈 포트에 embedded Redis 서버를 띄우고, 운영과 같은 직렬화 설정(RedisConfig)의 RedisTemplate을 제공합니다.
+ * - 외부 Redis나 Docker 없이 Lua 스크립트, 파이프라인, MGET 등을 실제 Redis로 검증할 수 있습니다.
+ */
+public final class EmbeddedRedis implements AutoCloseable {
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisValueCodecs valueCodecs;
+    private final int port;
+
+    public EmbeddedRedis() throws IOException {
+        this.port = freePort();
+        this.server = new RedisServer(port);
+        server.start();
+        this.connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        this.redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        this.valueCodecs = new RedisConfig().redisValueCodecs(RedisValueCodecs.JSON);
+    }
+
+    public RedisTemplate<String, Object> redisTemplate() {
+        return redisTemplate;
+    }
+
+    /**
+     * application.yml과 같은 match: 값 직렬화기 (binary)
+     */
+    public RedisValueCodecs valueCodecs() {
+        return valueCodecs;
+    }
+
+    public LettuceConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    public int port() {
+        return port;
+    }
+
+    /**
+     * 테스트 간 데이터가 섞이지 않도록 모든 키를 삭제합니다.
+     */
+    public void flushAll() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
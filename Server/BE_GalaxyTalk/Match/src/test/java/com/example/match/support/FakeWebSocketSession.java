@@ -0,0 +1,146 @@
+package com.example.match.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 WebSocket 세션 (네트워크 없이 서버 쪽 WebSocket 처리기에 직접 연결)
+ * - 전송된 메시지 본문을 순서대로 모으며, sendDelayMillis를 주면 메시지마다 그만큼 늦게 받는 느린 클라이언트가 됩니다.
+ * - 연결이 끊기면 onClose로 종료 상태를 알려 줍니다. (실제 컨테이너가 처리기의 afterConnectionClosed를 부르는 자리)
+ */
+public class FakeWebSocketSession implements WebSocketSession {
+    private final String id;
+    private final long sendDelayMillis;
+    private final Queue<String> received = new ConcurrentLinkedQueue<>();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private volatile Consumer<CloseStatus> onClose = status -> { };
+    private volatile CloseStatus closeStatus;
+    private int textMessageSizeLimit = 64 * 1024;
+    private int binaryMessageSizeLimit = 64 * 1024;
+
+    public FakeWebSocketSession(String id, long sendDelayMillis) {
+        this.id = id;
+        this.sendDelayMillis = sendDelayMillis;
+    }
+
+    public void onClose(Consumer<CloseStatus> onClose) {
+        this.onClose = onClose;
+    }
+
+    public Queue<String> received() {
+        return received;
+    }
+
+    public CloseStatus closeStatus() {
+        return closeStatus;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (sendDelayMillis > 0) {
+            try {
+                Thread.sleep(sendDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        received.add(String.valueOf(message.getPayload()));
+    }
+
+    @Override
+    public boolean isOpen() {
+        return closeStatus == null;
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public synchronized void close(CloseStatus status) {
+        if (closeStatus != null) {
+            return;
+        }
+        closeStatus = status;
+        onClose.accept(status);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return URI.create("ws://localhost/ws");
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return new HttpHeaders();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+        this.textMessageSizeLimit = messageSizeLimit;
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return textMessageSizeLimit;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        this.binaryMessageSizeLimit = messageSizeLimit;
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return binaryMessageSizeLimit;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return List.of();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.match.support;
+
+import com.example.match.config.UserPrincipal;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트/벤치마크용 Match 인스턴스 1개의 STOMP 메시지 처리 구성 (WebSocket 연결 없이 한 프로세스 안에서 실행)
+ * - @EnableWebSocketMessageBroker가 만드는 것과 같은 채널, SimpleBroker, 유저 목적지 처리기(UserDestinationMessageHandler),
+ *   세션-유저 목록(SimpUserRegistry)을 직접 연결합니다.
+ * - 세션 연결/구독은 클라이언트가 보낸 CONNECT/SUBSCRIBE 처리 결과와 같게 등록하고,
+ *   세션으로 나가는 메시지(프레임)는 생성 시 받은 outbound 처리기로 전달합니다.
+ */
+public final class InProcessStompBroker implements AutoCloseable {
+    private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    private final SimpleBrokerMessageHandler broker;
+    private final DefaultSimpUserRegistry userRegistry = new DefaultSimpUserRegistry();
+    private final UserDestinationMessageHandler userDestinationHandler;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Map<String, Principal> sessionUsers = new ConcurrentHashMap<>();
+
+    public InProcessStompBroker(int cacheLimit, MessageHandler outbound) {
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        clientOutbound.subscribe(outbound);
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic", "/queue"));
+        broker.setCacheLimit(cacheLimit);
+        broker.start();
+        userDestinationHandler = new UserDestinationMessageHandler(clientInbound, brokerChannel,
+                new DefaultUserDestinationResolver(userRegistry));
+        userDestinationHandler.start();
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    public ExecutorSubscribableChannel brokerChannel() {
+        return brokerChannel;
+    }
+
+    public SimpMessagingTemplate messagingTemplate() {
+        return messagingTemplate;
+    }
+
+    /**
+     * userId 사용자의 세션 연결 (CONNECTED 이후 SimpUserRegistry 등록과 동일)
+     */
+    public void connect(String sessionId, String userId) {
+        Principal user = new UserPrincipal(userId);
+        sessionUsers.put(sessionId, user);
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT_ACK);
+        accessor.setSessionId(sessionId);
+        accessor.setUser(user);
+        Message<byte[]> connected = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        userRegistry.onApplicationEvent(new SessionConnectedEvent(this, connected, user));
+    }
+
+    /**
+     * 세션의 구독 요청 처리. /user/... 목적지는 유저 목적지 처리기가 세션 전용 목적지로 바꿔 브로커에 등록합니다.
+     */
+    public void subscribe(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-" + destination.hashCode());
+        accessor.setDestination(destination);
+        accessor.setUser(sessionUsers.get(sessionId));
+        Message<byte[]> subscribe = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        if (destination.startsWith("/user/")) {
+            userDestinationHandler.handleMessage(subscribe);
+        } else {
+            broker.handleMessage(subscribe);
+        }
+    }
+
+    @Override
+    public void close() {
+        userDestinationHandler.stop();
+        broker.stop();
+    }
+}
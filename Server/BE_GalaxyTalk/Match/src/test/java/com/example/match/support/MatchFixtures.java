@@ -0,0 +1,85 @@
+package com.example.match.support;
+
+import com.example.match.constant.MBTI;
+import com.example.match.domain.MatchStatus;
+import com.example.match.domain.UserMatchStatus;
+import com.example.match.service.VectorMath;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 매칭 테스트/벤치마크에서 사용하는 대기 유저 픽스처 생성기
+ */
+public final class MatchFixtures {
+    private static final String[] WORDS = {
+            "취업", "이직", "연애", "이별", "가족", "친구", "학교", "시험", "공부", "회사",
+            "상사", "동료", "돈", "건강", "운동", "다이어트", "잠", "불안", "우울", "진로",
+            "결혼", "육아", "이사", "외로움", "자존감", "발표", "면접", "군대", "유학", "창업"
+    };
+
+    private MatchFixtures() {
+    }
+
+    public static UserMatchStatus user(String userId, String concern, String mbti, String preferredMbti) {
+        UserMatchStatus user = new UserMatchStatus();
+        user.setUserId(userId);
+        user.setConcern(concern);
+        user.setMbti(mbti);
+        user.setPreferredMbti(preferredMbti);
+        user.setEnergy(50);
+        user.setStatus(MatchStatus.WAITING);
+        user.setStartTime(Instant.now().toEpochMilli());
+        return user;
+    }
+
+    /**
+     * 시드 기반으로 재현 가능한 무작위 대기 유저 목록을 생성합니다.
+     */
+    public static List<UserMatchStatus> randomUsers(int count, long seed) {
+        Random random = new Random(seed);
+        MBTI[] mbtis = MBTI.values();
+        List<UserMatchStatus> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder concern = new StringBuilder();
+            int wordCount = 4 + random.nextInt(5);
+            for (int w = 0; w < wordCount; w++) {
+                if (w > 0) {
+                    concern.append(' ');
+                }
+                concern.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            String mbti = mbtis[random.nextInt(mbtis.length)].name();
+            String preferredMbti = random.nextInt(4) == 0 ? null : mbtis[random.nextInt(mbtis.length)].name();
+            users.add(user("user-" + i, concern.toString(), mbti, preferredMbti));
+        }
+        return users;
+    }
+
+    /**
+     * 주제(중심) 주변에 모인 정규화 임베딩을 생성합니다. 실제 고민처럼 비슷한 주제끼리 군집을 이룹니다.
+     * 주제 수는 유저 50명당 1개입니다.
+     */
+    public static float[][] clusteredEmbeddings(int count, int dimension, long seed) {
+        Random random = new Random(seed);
+        int topics = Math.max(20, count / 50);
+        float[][] centers = new float[topics][dimension];
+        for (float[] center : centers) {
+            for (int d = 0; d < dimension; d++) {
+                center[d] = (float) random.nextGaussian();
+            }
+        }
+        float[][] embeddings = new float[count][];
+        for (int i = 0; i < count; i++) {
+            float[] center = centers[random.nextInt(topics)];
+            float[] vector = new float[dimension];
+            for (int d = 0; d < dimension; d++) {
+                vector[d] = center[d] + (float) (random.nextGaussian() * 0.8);
+            }
+            embeddings[i] = VectorMath.normalize(vector);
+        }
+        return embeddings;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.match.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 AI 서버
+ * - /embed는 실제 모델 대신 토큰을 EMBEDDING_DIMENSION 차원으로 feature hashing한 벡터를 반환합니다.
+ *   실제 임베딩 모델과 cross-encoder 점수의 일치 여부는 이 서버로 검증할 수 없으며,
+ *   AI 서버의 check_embedding_agreement.py로 픽스처 문장에 대해 검사합니다.
+ * - 요청마다 인위적인 지연(latencyMillis)을 넣어 네트워크 왕복 비용을 흉내냅니다.
+ */
+public class StubAiServer implements AutoCloseable {
+    public static final int EMBEDDING_DIMENSION = 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long latencyMillis;
+
+    public StubAiServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/embed", this::handleEmbed);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    /**
+     * 문장의 토큰을 feature hashing한 (정규화되지 않은) 임베딩
+     */
+    public static float[] embedding(String sentence) {
+        float[] vector = new float[EMBEDDING_DIMENSION];
+        for (String token : tokenize(sentence)) {
+            vector[Math.floorMod(token.hashCode(), EMBEDDING_DIMENSION)] += 1f;
+        }
+        return vector;
+    }
+
+    private static Set<String> tokenize(String sentence) {
+        Set<String> tokens = new HashSet<>();
+        if (sentence == null) {
+            return tokens;
+        }
+        for (String token : sentence.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void handleEmbed(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        List<float[]> embeddings = new ArrayList<>();
+        body.path("sentences").forEach(node -> embeddings.add(embedding(node.asText())));
+        writeJson(exchange, Map.of("embeddings", embeddings));
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return objectMapper.readTree(exchange.getRequestBody());
+    }
+
+    private void writeJson(HttpExchange exchange, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.match.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 Auth/Chat 서버
+ * - Auth: GET /api/oauth (유저 정보), POST /api/oauth/status (유저 상태 변경)
+ * - Chat: POST /api/chat/match (채팅방 생성)
+ * - 요청마다 인위적인 지연(latencyMillis)을 넣어 네트워크 왕복 비용을 흉내냅니다.
+ *   지연 중인 요청이 서로를 기다리지 않도록 요청마다 스레드를 사용합니다.
+ */
+public class StubPeerServer implements AutoCloseable {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final long latencyMillis;
+
+    public StubPeerServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/api/oauth/status", exchange -> respond(exchange, Map.of("success", true)));
+        this.server.createContext("/api/oauth", exchange -> respond(exchange,
+                Map.of("data", Map.of("mbti", "INTJ", "energy", 50))));
+        this.server.createContext("/api/chat/match", exchange -> respond(exchange, Map.of("data", Map.of(
+                "chatRoomId", UUID.randomUUID().toString(),
+                "sessionId", UUID.randomUUID().toString(),
+                "tokenA", "token-a",
+                "tokenB", "token-b"))));
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    private void respond(HttpExchange exchange, Object body) throws IOException {
+        requestCount.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}